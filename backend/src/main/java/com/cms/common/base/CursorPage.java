@@ -0,0 +1,46 @@
+package com.cms.common.base;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 游标分页响应
+ * 通过 nextCursor 继续获取下一页，不依赖页码和偏移量
+ *
+ * @param <T> 数据类型
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * 数据列表
+     */
+    private List<T> content;
+
+    /**
+     * 每页大小
+     */
+    private Integer size;
+
+    /**
+     * 下一页游标（没有更多数据时为null）
+     */
+    private String nextCursor;
+
+    /**
+     * 是否还有更多数据
+     */
+    private Boolean hasMore;
+
+    /**
+     * 总记录数（仅在请求统计总数时返回）
+     */
+    private Long total;
+}
@@ -0,0 +1,38 @@
+package com.cms.common.cache;
+
+/**
+ * 缓存名称常量
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public final class CacheNames {
+
+    /**
+     * 访客端首页数据（key: 站点ID）
+     */
+    public static final String GUEST_HOME_PAGE = "guest:homePage";
+
+    /**
+     * 访客端分类树（key: 站点ID）
+     */
+    public static final String GUEST_CATEGORY_TREE = "guest:categoryTree";
+
+    /**
+     * 访客端活跃站点列表（key: 固定值）
+     */
+    public static final String GUEST_ACTIVE_SITES = "guest:activeSites";
+
+    /**
+     * 访客端热门内容（key: 站点ID:窗口:条数）
+     */
+    public static final String GUEST_HOT_CONTENTS = "guest:hotContents";
+
+    /**
+     * 认证用户详情（key: 用户ID）
+     */
+    public static final String SECURITY_USER_DETAILS = "security:userDetails";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.cms.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 缓存的访客端响应
+ * 响应体以gzip压缩后保存，命中时直接写出，不再经过控制器、序列化和数据库。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@AllArgsConstructor
+public class CachedPage {
+
+    /**
+     * 需要原样返回的响应头（Content-Type、ETag、Last-Modified、Cache-Control）
+     */
+    private final Map<String, String> headers;
+
+    /**
+     * gzip压缩后的响应体
+     */
+    private final byte[] gzipBody;
+
+    /**
+     * 压缩前的长度
+     */
+    private final int length;
+
+    /**
+     * 所属站点ID（站点列表等不属于单个站点的响应为null）
+     */
+    private final Long siteId;
+
+    /**
+     * 响应中包含的内容ID，为空表示站点级列表
+     */
+    private final Set<Long> contentIds;
+
+    /**
+     * 命中时需要计入浏览量的内容ID（内容详情）
+     */
+    private final Long viewedContentId;
+
+    /**
+     * 占用字节数（用于容量控制）
+     */
+    public int weight() {
+        return gzipBody.length + 256;
+    }
+}
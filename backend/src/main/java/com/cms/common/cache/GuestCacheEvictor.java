@@ -0,0 +1,67 @@
+package com.cms.common.cache;
+
+import com.cms.module.category.event.CategoryChangedEvent;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.site.event.SiteChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 访客端缓存失效处理
+ * 在内容、分类、站点变更的事务提交后清除对应站点的缓存
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestCacheEvictor {
+
+    /**
+     * 活跃站点列表缓存的固定key
+     */
+    public static final String ACTIVE_SITES_KEY = "all";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 先于其他事务后监听器执行，保证静态预渲染等后续处理读取到最新数据
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!event.affectsPublicView()) {
+            return;
+        }
+        log.debug("内容变更，清除首页缓存: {}", event);
+        evict(CacheNames.GUEST_HOME_PAGE, event.getSiteId());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        log.debug("分类变更，清除分类树和首页缓存: {}", event);
+        evict(CacheNames.GUEST_CATEGORY_TREE, event.getSiteId());
+        evict(CacheNames.GUEST_HOME_PAGE, event.getSiteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSiteChanged(SiteChangedEvent event) {
+        log.debug("站点变更，清除站点列表缓存: {}", event);
+        evict(CacheNames.GUEST_ACTIVE_SITES, ACTIVE_SITES_KEY);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
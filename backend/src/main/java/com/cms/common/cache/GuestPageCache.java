@@ -0,0 +1,209 @@
+package com.cms.common.cache;
+
+import com.cms.common.config.PageCacheConfig;
+import com.cms.module.category.event.CategoryChangedEvent;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.event.RelatedContentsChangedEvent;
+import com.cms.module.site.event.SiteChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 访客端整页缓存
+ * 保存访客端接口压缩后的响应，由 {@link com.cms.common.web.GuestPageCacheFilter} 在进入Spring MVC之前查找和写入。
+ *
+ * <p>只有控制器通过 {@link #cacheable} 声明过的响应才会被缓存；key由权限组、路径、查询参数和站点组成，
+ * 权限组相同的请求通过的 @PreAuthorize 检查也相同，命中时可以安全地跳过控制器。
+ * 内容、分类、站点变更后按站点和内容ID清除；加载期间发生清除的响应不会写入。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cms.page-cache", name = "enabled", havingValue = "true")
+public class GuestPageCache {
+
+    private static final String TAGS_ATTRIBUTE = GuestPageCache.class.getName() + ".TAGS";
+
+    private final Cache<String, CachedPage> pages;
+
+    /**
+     * 权限组编号（排序后的权限列表 -> 编号）
+     */
+    private final Map<String, Integer> authorityGroups = new ConcurrentHashMap<>();
+
+    private final AtomicInteger groupSequence = new AtomicInteger();
+
+    /**
+     * 清除代数，每次清除递增
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public GuestPageCache(PageCacheConfig config) {
+        this.pages = Caffeine.newBuilder()
+                .expireAfterWrite(config.getTtl())
+                .maximumWeight(config.getMaxSizeMb() * 1024 * 1024)
+                .weigher((String key, CachedPage page) -> key.length() * 2 + page.weight())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 声明当前请求的响应可以缓存（在控制器中、业务处理成功后调用）
+     *
+     * @param request         当前请求
+     * @param siteId          所属站点ID
+     * @param contentIds      响应中包含的内容ID，站点级列表传空集合
+     * @param viewedContentId 命中时需要计入浏览量的内容ID，没有则为null
+     */
+    public static void cacheable(HttpServletRequest request, Long siteId, Collection<Long> contentIds, Long viewedContentId) {
+        request.setAttribute(TAGS_ATTRIBUTE, new Tags(siteId, new LinkedHashSet<>(contentIds), viewedContentId));
+    }
+
+    /**
+     * 声明当前请求的站点级响应可以缓存
+     */
+    public static void cacheable(HttpServletRequest request, Long siteId) {
+        cacheable(request, siteId, Collections.emptySet(), null);
+    }
+
+    /**
+     * 获取控制器声明的缓存标记
+     */
+    public static Tags getTags(HttpServletRequest request) {
+        return (Tags) request.getAttribute(TAGS_ATTRIBUTE);
+    }
+
+    /**
+     * 生成缓存key
+     */
+    public String key(HttpServletRequest request, Authentication authentication) {
+        String query = request.getQueryString();
+        return authorityGroup(authentication) + "|" + request.getRequestURI()
+                + (query == null ? "" : "?" + query)
+                + "|" + request.getParameter("siteId");
+    }
+
+    public CachedPage get(String key) {
+        return pages.getIfPresent(key);
+    }
+
+    /**
+     * 当前清除代数，加载前读取，写入时比较
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 写入缓存；加载期间发生过清除则放弃写入，避免缓存旧数据
+     */
+    public void put(String key, CachedPage page, long loadedGeneration) {
+        pages.put(key, page);
+        if (generation.get() != loadedGeneration) {
+            pages.invalidate(key);
+        }
+    }
+
+    /**
+     * 内容变更：清除站点级列表和包含该内容的响应
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!event.affectsPublicView()) {
+            return;
+        }
+        Long contentId = event.getContentId();
+        purge(page -> page.getContentIds().contains(contentId)
+                || (page.getContentIds().isEmpty() && event.getSiteId().equals(page.getSiteId())));
+    }
+
+    @EventListener
+    public void onRelatedContentsChanged(RelatedContentsChangedEvent event) {
+        purge(page -> page.getViewedContentId() == null
+                && page.getContentIds().stream().anyMatch(event.getContentIds()::contains));
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        purgeSite(event.getSiteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSiteChanged(SiteChangedEvent event) {
+        purge(page -> page.getSiteId() == null || page.getSiteId().equals(event.getSiteId()));
+    }
+
+    /**
+     * 清除站点的所有缓存响应
+     */
+    public void purgeSite(Long siteId) {
+        purge(page -> siteId.equals(page.getSiteId()));
+    }
+
+    /**
+     * 清除包含指定内容的缓存响应
+     */
+    public void purgeContent(Long contentId) {
+        purge(page -> page.getContentIds().contains(contentId));
+    }
+
+    private void purge(Predicate<CachedPage> predicate) {
+        generation.incrementAndGet();
+        pages.asMap().values().removeIf(predicate);
+    }
+
+    /**
+     * 权限组：权限集合相同的请求共享缓存
+     */
+    private String authorityGroup(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return "-";
+        }
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return String.valueOf(authorityGroups.computeIfAbsent(authorities, k -> groupSequence.incrementAndGet()));
+    }
+
+    /**
+     * 控制器声明的缓存标记
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Tags {
+
+        private final Long siteId;
+
+        private final Set<Long> contentIds;
+
+        private final Long viewedContentId;
+    }
+}
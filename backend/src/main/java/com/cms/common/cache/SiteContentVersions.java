@@ -0,0 +1,154 @@
+package com.cms.common.cache;
+
+import com.cms.module.category.event.CategoryChangedEvent;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.event.RelatedContentsChangedEvent;
+import com.cms.module.site.entity.SiteContentVersion;
+import com.cms.module.site.event.SiteChangedEvent;
+import com.cms.module.site.repository.SiteContentVersionRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 站点访客内容版本
+ * 站点内已发布内容、分类或站点本身发生变化时递增，用作首页、列表等聚合接口的ETag和Last-Modified。
+ *
+ * <p>版本号保存在 site_content_versions 表中：处理写入的节点递增后立即生效，
+ * 其他节点每隔 cms.http-cache.version-refresh-interval 读取一次，所有节点对同一站点给出相同的ETag，
+ * 未收到变更事件的节点最多在一个刷新周期内返回旧版本。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+public class SiteContentVersions {
+
+    private final SiteContentVersionRepository versionRepository;
+
+    /**
+     * 变更事件在原事务提交后处理，递增版本需要独立的事务
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 从未变更过的站点使用的最后修改时间
+     */
+    private final long startedAt = System.currentTimeMillis();
+
+    private final Map<Long, Version> versions = new ConcurrentHashMap<>();
+
+    public SiteContentVersions(SiteContentVersionRepository versionRepository, PlatformTransactionManager transactionManager) {
+        this.versionRepository = versionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 获取站点当前版本
+     */
+    public Version get(Long siteId) {
+        return versions.computeIfAbsent(siteId, id -> new Version(0, startedAt));
+    }
+
+    /**
+     * 读取其他节点递增的版本
+     */
+    @Scheduled(fixedDelayString = "${cms.http-cache.version-refresh-interval:5000}")
+    public void refresh() {
+        try {
+            versionRepository.findAll().forEach(this::apply);
+        } catch (Exception e) {
+            log.warn("站点内容版本刷新失败: {}", e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.affectsPublicView()) {
+            bump(event.getSiteId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        bump(event.getSiteId());
+    }
+
+    /**
+     * 站点名称、状态等变化同样体现在聚合接口的响应中
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSiteChanged(SiteChangedEvent event) {
+        bump(event.getSiteId());
+    }
+
+    /**
+     * 相关内容在后台异步计算，完成后再次更新版本，避免304返回计算前的结果
+     */
+    @EventListener
+    public void onRelatedContentsChanged(RelatedContentsChangedEvent event) {
+        bump(event.getSiteId());
+    }
+
+    private void bump(Long siteId) {
+        if (siteId == null) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                versionRepository.increment(siteId, LocalDateTime.now());
+                versionRepository.findById(siteId).ifPresent(this::apply);
+            });
+        } catch (Exception e) {
+            log.warn("站点内容版本递增失败: siteId={}, error={}", siteId, e.getMessage());
+        }
+    }
+
+    /**
+     * 只接受更新的版本（本节点递增和定期刷新可能交错）
+     */
+    private void apply(SiteContentVersion row) {
+        Version latest = new Version(row.getVersion(),
+                row.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        versions.merge(row.getSiteId(), latest,
+                (current, candidate) -> candidate.getVersion() > current.getVersion() ? candidate : current);
+    }
+
+    /**
+     * 站点版本
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Version {
+
+        /**
+         * 版本号
+         */
+        private final long version;
+
+        /**
+         * 最后修改时间（毫秒）
+         */
+        private final long lastModified;
+    }
+}
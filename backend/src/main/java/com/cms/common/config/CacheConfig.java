@@ -0,0 +1,87 @@
+package com.cms.common.config;
+
+import com.cms.common.cache.CacheNames;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 缓存配置
+ * 基于Caffeine的本地缓存，所有缓存均有容量上限和过期时间，并记录命中统计
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@Configuration
+@EnableCaching
+@ConfigurationProperties(prefix = "cms.cache")
+public class CacheConfig {
+
+    /**
+     * 默认过期时间（写入后）
+     */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /**
+     * 默认最大条目数
+     */
+    private Long defaultMaximumSize = 1000L;
+
+    /**
+     * 按缓存名称覆盖的配置
+     */
+    private Map<String, Spec> specs = new HashMap<>();
+
+    /**
+     * 单个缓存的配置
+     */
+    @Data
+    public static class Spec {
+
+        private Duration ttl;
+
+        private Long maximumSize;
+    }
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(newBuilder(defaultTtl, defaultMaximumSize));
+
+        List<String> cacheNames = Arrays.asList(
+                CacheNames.GUEST_HOME_PAGE,
+                CacheNames.GUEST_CATEGORY_TREE,
+                CacheNames.GUEST_ACTIVE_SITES,
+                CacheNames.GUEST_HOT_CONTENTS,
+                CacheNames.SECURITY_USER_DETAILS
+        );
+        for (String cacheName : cacheNames) {
+            Spec spec = specs.getOrDefault(cacheName, new Spec());
+            Duration ttl = spec.getTtl() != null ? spec.getTtl() : defaultTtl;
+            Long maximumSize = spec.getMaximumSize() != null ? spec.getMaximumSize() : defaultMaximumSize;
+            cacheManager.registerCustomCache(cacheName, newBuilder(ttl, maximumSize).build());
+        }
+
+        return cacheManager;
+    }
+
+    private Caffeine<Object, Object> newBuilder(Duration ttl, Long maximumSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats();
+    }
+}
@@ -0,0 +1,48 @@
+package com.cms.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * HTTP缓存配置
+ * 访客端接口的条件请求（ETag / Last-Modified）开关和按接口配置的Cache-Control
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cms.http-cache")
+public class HttpCacheConfig {
+
+    /**
+     * 是否启用条件请求
+     */
+    private boolean enabled = true;
+
+    /**
+     * 读取其他节点递增的站点内容版本的间隔（毫秒）
+     */
+    private Long versionRefreshInterval = 5000L;
+
+    /**
+     * 默认Cache-Control
+     */
+    private String defaultCacheControl = "no-cache";
+
+    /**
+     * 按接口覆盖的Cache-Control（key为接口名称，如 home、list、detail、related）
+     */
+    private Map<String, String> cacheControl = new HashMap<>();
+
+    /**
+     * 获取接口的Cache-Control
+     */
+    public String getCacheControl(String endpoint) {
+        return cacheControl.getOrDefault(endpoint, defaultCacheControl);
+    }
+}
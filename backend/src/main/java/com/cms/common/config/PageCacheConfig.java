@@ -0,0 +1,39 @@
+package com.cms.common.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 访客端整页缓存配置
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cms.page-cache")
+public class PageCacheConfig {
+
+    /**
+     * 是否启用整页缓存
+     */
+    private boolean enabled = false;
+
+    /**
+     * 过期时间（写入后），作为事件清除之外的兜底
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * 最大占用（压缩后字节数，单位MB）
+     */
+    private long maxSizeMb = 64;
+
+    /**
+     * 同一key并发未命中时，等待首个请求加载的最长时间
+     */
+    private Duration loadTimeout = Duration.ofSeconds(10);
+}
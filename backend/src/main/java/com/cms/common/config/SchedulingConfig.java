@@ -0,0 +1,16 @@
+package com.cms.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 定时任务配置
+ * 线程池大小由 spring.task.scheduling.pool.size 配置，统计校准等较慢的任务不会推迟浏览量回写和定时发布
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
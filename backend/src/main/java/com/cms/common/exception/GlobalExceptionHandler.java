@@ -10,6 +10,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import java.util.stream.Collectors;
@@ -77,7 +78,11 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
-    public ApiResponse<Void> handleException(Exception e) {
+    public ApiResponse<Void> handleException(Exception e, HttpServletResponse response) throws Exception {
+        if (response.isCommitted()) {
+            // 响应已部分输出（如流式导出中途出错），不能再追加错误响应体，交给容器中断连接
+            throw e;
+        }
         log.error("系统异常: ", e);
         return ApiResponse.error(500, "系统错误，请联系管理员");
     }
@@ -53,6 +53,11 @@ public class SecurityUtils {
             return false;
         }
         
+        // 已认证用户直接做位测试，不遍历授权列表
+        if (authentication.getPrincipal() instanceof CustomUserDetails) {
+            return ((CustomUserDetails) authentication.getPrincipal()).hasAuthority(authority);
+        }
+
         Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
         return authorities.stream()
                 .anyMatch(a -> a.getAuthority().equals(authority));
@@ -0,0 +1,259 @@
+package com.cms.common.web;
+
+import com.cms.common.cache.CachedPage;
+import com.cms.common.cache.GuestPageCache;
+import com.cms.common.config.PageCacheConfig;
+import com.cms.module.content.service.PublicContentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 访客端整页缓存过滤器
+ * 位于Spring Security之后、DispatcherServlet之前：命中时直接写出压缩好的响应，
+ * 不经过参数绑定、控制器、Jackson和数据库。
+ *
+ * <p>同一key并发未命中时只有第一个请求执行加载，其余请求等待其结果（single-flight），避免缓存击穿。
+ * 加载请求会去掉条件请求头以得到完整响应，再由本过滤器按ETag判断是否返回304。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "cms.page-cache", name = "enabled", havingValue = "true")
+public class GuestPageCacheFilter extends OncePerRequestFilter {
+
+    private static final String GUEST_PATH = "/guest/";
+
+    private static final List<String> REPLAYED_HEADERS = Arrays.asList(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED, HttpHeaders.CACHE_CONTROL);
+
+    private static final List<String> CONDITIONAL_HEADERS = Arrays.asList(
+            HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+    private final GuestPageCache guestPageCache;
+    private final PublicContentService publicContentService;
+    private final PageCacheConfig config;
+
+    /**
+     * 正在加载的key
+     */
+    private final Map<String, CompletableFuture<CachedPage>> loading = new ConcurrentHashMap<>();
+
+    public GuestPageCacheFilter(GuestPageCache guestPageCache, PublicContentService publicContentService,
+                                PageCacheConfig config) {
+        this.guestPageCache = guestPageCache;
+        this.publicContentService = publicContentService;
+        this.config = config;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        // 站点地图和订阅源本身就是预先生成的文件，不需要再缓存
+        return !"GET".equals(request.getMethod()) || !path.startsWith(GUEST_PATH) || path.endsWith(".xml");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = guestPageCache.key(request, SecurityContextHolder.getContext().getAuthentication());
+        CachedPage page = guestPageCache.get(key);
+        if (page != null) {
+            write(page, request, response);
+            return;
+        }
+
+        CompletableFuture<CachedPage> future = new CompletableFuture<>();
+        CompletableFuture<CachedPage> existing = loading.putIfAbsent(key, future);
+        if (existing != null) {
+            page = await(existing);
+            if (page != null) {
+                write(page, request, response);
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        try {
+            page = load(key, request, response, filterChain);
+        } finally {
+            future.complete(page);
+            loading.remove(key, future);
+        }
+    }
+
+    /**
+     * 执行请求并缓存控制器声明为可缓存的成功响应
+     *
+     * @return 缓存的响应；不可缓存时返回null（响应已原样写出）
+     */
+    private CachedPage load(String key, HttpServletRequest request, HttpServletResponse response,
+                            FilterChain filterChain) throws ServletException, IOException {
+        long generation = guestPageCache.generation();
+        ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(new UnconditionalRequest(request), capture);
+
+        GuestPageCache.Tags tags = GuestPageCache.getTags(request);
+        if (tags == null || capture.getStatus() != HttpServletResponse.SC_OK || response.isCommitted()) {
+            capture.copyBodyToResponse();
+            return null;
+        }
+
+        byte[] body = capture.getContentAsByteArray();
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = HttpHeaders.CONTENT_TYPE.equals(name) ? capture.getContentType() : capture.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        CachedPage page = new CachedPage(headers, gzip(body), body.length,
+                tags.getSiteId(), tags.getContentIds(), tags.getViewedContentId());
+        guestPageCache.put(key, page, generation);
+
+        // 控制器已计入浏览量，这里只负责按协商结果写出
+        writeBody(page, request, response);
+        return page;
+    }
+
+    private CachedPage await(CompletableFuture<CachedPage> future) {
+        try {
+            return future.get(config.getLoadTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 写出缓存的响应，返回完整内容时补记浏览量（304不计）
+     */
+    private void write(CachedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (writeBody(page, request, response) && page.getViewedContentId() != null) {
+            publicContentService.recordView(page.getSiteId(), page.getViewedContentId());
+        }
+    }
+
+    /**
+     * 按协商结果写出缓存的响应
+     *
+     * @return 是否写出了完整内容（false表示返回304）
+     */
+    private boolean writeBody(CachedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.resetBuffer();
+        response.setStatus(HttpServletResponse.SC_OK);
+        page.getHeaders().forEach(response::setHeader);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        String etag = page.getHeaders().get(HttpHeaders.ETAG);
+        if (etag != null && matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        if (JsonStreamSupport.acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(page.getGzipBody().length);
+            out.write(page.getGzipBody());
+        } else {
+            response.setContentLength(page.getLength());
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(page.getGzipBody()))) {
+                StreamUtils.copy(in, out);
+            }
+        }
+        out.flush();
+        return true;
+    }
+
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = etag.startsWith("W/") ? etag.substring(2) : etag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || value.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(body);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 隐藏条件请求头，保证加载请求得到完整响应
+     */
+    private static class UnconditionalRequest extends HttpServletRequestWrapper {
+
+        UnconditionalRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isConditional(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isConditional(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public long getDateHeader(String name) {
+            return isConditional(name) ? -1L : super.getDateHeader(name);
+        }
+
+        private boolean isConditional(String name) {
+            return CONDITIONAL_HEADERS.stream().anyMatch(header -> header.equalsIgnoreCase(name));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.cms.common.web;
+
+import com.cms.common.config.HttpCacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 条件请求支持
+ * 在加载实体和序列化之前比较 If-None-Match / If-Modified-Since，未变化时直接返回304。
+ *
+ * <p>用法：
+ * <pre>
+ * if (httpCacheSupport.checkNotModified(request, "detail", etag, lastModified)) {
+ *     return null;
+ * }
+ * </pre>
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Component
+@RequiredArgsConstructor
+public class HttpCacheSupport {
+
+    private final HttpCacheConfig httpCacheConfig;
+
+    /**
+     * 写入缓存相关响应头，并判断请求是否可以返回304
+     *
+     * @param request      当前请求
+     * @param endpoint     接口名称（用于查找Cache-Control配置）
+     * @param etag         ETag（不含引号时按强ETag处理，弱ETag传入 W/"..." 形式）
+     * @param lastModified 最后修改时间（毫秒）
+     * @return true表示已设置304，调用方应直接返回null
+     */
+    public boolean checkNotModified(ServletWebRequest request, String endpoint, String etag, long lastModified) {
+        if (!httpCacheConfig.isEnabled()) {
+            return false;
+        }
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, httpCacheConfig.getCacheControl(endpoint));
+        }
+        return request.checkNotModified(etag, lastModified);
+    }
+}
@@ -0,0 +1,171 @@
+package com.cms.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * JSON流式输出支持
+ * 逐条序列化写入响应流，服务端只缓冲固定大小的数据，内存占用与数据量无关。
+ * 客户端声明支持gzip时压缩输出（JDK没有brotli编码器，不支持br）。
+ *
+ * <p>用法：
+ * <pre>
+ * try (JsonStreamSupport.Writer writer = jsonStreamSupport.open(request, response, format, "contents")) {
+ *     service.export(siteId, writer::write);
+ *     writer.complete();
+ * }
+ * </pre>
+ * 未调用 {@link Writer#complete()} 就关闭（导出中途出错）时不会补全JSON数组和gzip尾部，
+ * 响应尚未提交则清空响应交给异常处理，已提交则由容器中断连接，客户端能够识别导出不完整。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonStreamSupport {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 写入响应头并打开输出流
+     *
+     * @param request  当前请求（用于协商压缩）
+     * @param response 当前响应
+     * @param format   输出格式
+     * @param filename 下载文件名（不含扩展名）
+     */
+    public Writer open(HttpServletRequest request, HttpServletResponse response,
+                       StreamFormat format, String filename) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + filename + "." + format.getExtension() + "\"");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        } else {
+            out = new BufferedOutputStream(out, BUFFER_SIZE);
+        }
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        // NDJSON由换行分隔，不使用默认的空格分隔符
+        generator.setRootValueSeparator(null);
+        // 逐条写入时不刷新，由缓冲区写满时输出，避免每条记录都提交一次响应
+        ObjectWriter itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new Writer(generator, itemWriter, out, format, response);
+    }
+
+    /**
+     * 客户端是否接受gzip编码
+     */
+    public static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim()) && !(parts.length > 1 && parts[1].trim().matches("q=0(\\.0*)?"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 流式写入器，标记完成后关闭时结束JSON数组并完成压缩
+     */
+    public static class Writer implements Closeable {
+
+        private final JsonGenerator generator;
+
+        private final ObjectWriter itemWriter;
+
+        private final OutputStream out;
+
+        private final StreamFormat format;
+
+        private final HttpServletResponse response;
+
+        private boolean completed;
+
+        private Writer(JsonGenerator generator, ObjectWriter itemWriter, OutputStream out, StreamFormat format,
+                       HttpServletResponse response) throws IOException {
+            this.generator = generator;
+            this.itemWriter = itemWriter;
+            this.out = out;
+            this.format = format;
+            this.response = response;
+            if (format == StreamFormat.JSON) {
+                generator.writeStartArray();
+            }
+        }
+
+        /**
+         * 写入一条记录
+         */
+        public void write(Object item) {
+            try {
+                itemWriter.writeValue(generator, item);
+                if (format == StreamFormat.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 标记所有记录已写入，关闭时正常结束输出
+         */
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!completed) {
+                abort();
+                return;
+            }
+            try {
+                if (format == StreamFormat.JSON) {
+                    generator.writeEndArray();
+                }
+                generator.flush();
+            } finally {
+                out.close();
+            }
+        }
+
+        /**
+         * 放弃输出：不写数组结尾和gzip尾部，也不关闭输出流（关闭会补全gzip尾部）
+         */
+        private void abort() {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cms.common.web;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 流式导出格式
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@AllArgsConstructor
+public enum StreamFormat {
+
+    /**
+     * 每行一个JSON对象
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * JSON数组
+     */
+    JSON("application/json", "json");
+
+    private final String contentType;
+
+    private final String extension;
+}
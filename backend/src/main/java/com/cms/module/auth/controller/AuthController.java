@@ -12,6 +12,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * 认证控制器
  */
@@ -56,11 +58,10 @@ public class AuthController {
     /**
      * 用户登出
      */
-    @Operation(summary = "用户登出", description = "退出登录（前端清除token即可）")
+    @Operation(summary = "用户登出", description = "退出登录，吊销当前token（前端同时清除token）")
     @PostMapping("/logout")
-    public ApiResponse<Void> logout() {
-        // JWT是无状态的，登出只需要前端清除token即可
-        // 这里可以记录登出日志
+    public ApiResponse<Void> logout(HttpServletRequest request) {
+        authService.logout(request);
         return ApiResponse.success();
     }
 }
@@ -0,0 +1,58 @@
+package com.cms.module.auth.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 已吊销token实体
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "uk_token_id", columnList = "token_id", unique = true),
+        @Index(name = "idx_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_created_at", columnList = "created_at")
+})
+public class RevokedToken {
+
+    /**
+     * 记录ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * token ID（jti，旧token为签名）
+     */
+    @Column(name = "token_id", nullable = false, length = 100)
+    private String tokenId;
+
+    /**
+     * 用户ID
+     */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * token过期时间，过期后记录可删除
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 吊销时间
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,40 @@
+package com.cms.module.auth.repository;
+
+import com.cms.module.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 已吊销token Repository
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    /**
+     * 查询ID大于指定值、且尚未过期的记录（启动加载和增量同步，走主键）
+     */
+    List<RevokedToken> findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(Long id, LocalDateTime now);
+
+    /**
+     * 查询指定时间之后吊销、且尚未过期的记录（增量同步回看晚提交的记录，走 idx_created_at）
+     */
+    List<RevokedToken> findByCreatedAtAfterAndExpiresAtAfter(LocalDateTime createdAt, LocalDateTime now);
+
+    /**
+     * 删除已过期的记录（走 idx_expires_at）
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -8,12 +8,18 @@ import com.cms.module.auth.dto.RegisterRequest;
 import com.cms.module.auth.dto.UserInfoVO;
 import com.cms.module.user.entity.Role;
 import com.cms.module.user.entity.User;
+import com.cms.module.user.event.UserChangedEvent;
 import com.cms.module.user.repository.RoleRepository;
 import com.cms.module.user.repository.UserRepository;
+import com.cms.security.config.JwtConfig;
+import com.cms.security.revocation.TokenRevocationList;
 import com.cms.security.service.CustomUserDetails;
+import com.cms.security.util.JwtClaims;
 import com.cms.security.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,6 +27,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import javax.servlet.http.HttpServletRequest;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -36,9 +45,12 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final JwtConfig jwtConfig;
+    private final TokenRevocationList tokenRevocationList;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 用户登录
@@ -60,7 +72,8 @@ public class AuthService {
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
 
             // 生成JWT token
-            String token = jwtUtil.generateToken(userDetails.getUsername(), userDetails.getUserId());
+            String token = jwtUtil.generateToken(userDetails.getUsername(), userDetails.getUserId(),
+                    userDetails.getRoleCodes(), userDetails.getAuthVersion());
 
             // 更新用户登录信息
             updateLoginInfo(userDetails.getUserId());
@@ -106,11 +119,11 @@ public class AuthService {
         UserInfoVO userInfo = new UserInfoVO();
         userInfo.setUserId(userDetails.getUserId());
         userInfo.setUsername(userDetails.getUsername());
-        userInfo.setNickname(userDetails.getNickname());
-        userInfo.setEmail(userDetails.getEmail());
+        userInfo.setNickname(user.getNickname());
+        userInfo.setEmail(user.getEmail());
         userInfo.setMobile(user.getMobile());
         userInfo.setAvatarUrl(user.getAvatarUrl());
-        userInfo.setStatus(userDetails.getStatus());
+        userInfo.setStatus(user.getStatus());
         userInfo.setRoles(userDetails.getRoleCodes());
         userInfo.setPermissions(userDetails.getPermissionCodes());
 
@@ -164,6 +177,7 @@ public class AuthService {
 
         // 保存用户
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.CREATED, user.getId()));
         log.info("用户注册成功: {}", user.getUsername());
 
         // 自动登录
@@ -176,7 +190,8 @@ public class AuthService {
             );
 
             CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
-            String token = jwtUtil.generateToken(userDetails.getUsername(), userDetails.getUserId());
+            String token = jwtUtil.generateToken(userDetails.getUsername(), userDetails.getUserId(),
+                    userDetails.getRoleCodes(), userDetails.getAuthVersion());
 
             return new LoginResponse(
                     token,
@@ -194,6 +209,24 @@ public class AuthService {
         }
     }
 
+    /**
+     * 用户登出：吊销请求中的token，在其过期前不能再使用
+     * 没有token或token已过期、无效时不做处理
+     */
+    public void logout(HttpServletRequest request) {
+        String header = request.getHeader(jwtConfig.getHeader());
+        if (!StringUtils.hasText(header) || !header.startsWith(jwtConfig.getTokenPrefix())) {
+            return;
+        }
+        try {
+            JwtClaims claims = jwtUtil.parseToken(header.substring(jwtConfig.getTokenPrefix().length()));
+            tokenRevocationList.revoke(claims);
+            log.info("用户登出: {}", claims.getUsername());
+        } catch (JwtException e) {
+            log.debug("登出时token无效，忽略: {}", e.getMessage());
+        }
+    }
+
     /**
      * 更新用户登录信息
      */
@@ -1,6 +1,7 @@
 package com.cms.module.category.controller;
 
 import com.cms.common.base.ApiResponse;
+import com.cms.common.cache.GuestPageCache;
 import com.cms.module.category.dto.CategoryTreeDTO;
 import com.cms.module.category.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 /**
@@ -33,9 +35,10 @@ public class PublicCategoryController {
     @GetMapping
     @PreAuthorize("hasAuthority('category:view:public')")
     @Operation(summary = "获取分类树", description = "获取指定站点的公开分类树结构")
-    public ApiResponse<List<CategoryTreeDTO>> getCategoryTree(@RequestParam Long siteId) {
+    public ApiResponse<List<CategoryTreeDTO>> getCategoryTree(@RequestParam Long siteId, HttpServletRequest request) {
         log.info("获取分类树请求: siteId={}", siteId);
         List<CategoryTreeDTO> categoryTree = categoryService.getCategoryTreeForGuest(siteId);
+        GuestPageCache.cacheable(request, siteId);
         return ApiResponse.success(categoryTree);
     }
 }
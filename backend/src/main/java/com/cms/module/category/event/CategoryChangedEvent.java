@@ -0,0 +1,31 @@
+package com.cms.module.category.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 分类变更事件
+ * 分类创建、更新、删除、可见性变化后发布
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Long categoryId;
+
+    private final Long siteId;
+
+    /**
+     * 分类名称是否变化（内容详情中包含分类名称）
+     */
+    private final boolean renamed;
+
+    public CategoryChangedEvent(Long categoryId, Long siteId) {
+        this(categoryId, siteId, false);
+    }
+}
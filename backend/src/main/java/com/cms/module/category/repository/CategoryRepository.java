@@ -82,5 +82,20 @@ public interface CategoryRepository extends JpaRepository<Category, Long>, JpaSp
      * @return 是否存在
      */
     boolean existsBySiteIdAndCodeAndDeletedFalse(Long siteId, String code);
-}
 
+    /**
+     * 统计站点下的分类数量
+     *
+     * @param siteId 站点ID
+     * @return 分类数量
+     */
+    long countBySiteIdAndDeletedFalse(Long siteId);
+
+    /**
+     * 按站点分组统计分类数量（站点统计对账使用）
+     *
+     * @return 各站点的分类数量
+     */
+    @Query("SELECT c.siteId AS siteId, COUNT(c.id) AS categoryCount FROM Category c WHERE c.deleted = false GROUP BY c.siteId")
+    List<SiteCategoryCount> countGroupBySite();
+}
@@ -0,0 +1,20 @@
+package com.cms.module.category.repository;
+
+/**
+ * 站点分类数量统计投影
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface SiteCategoryCount {
+
+    /**
+     * 站点ID
+     */
+    Long getSiteId();
+
+    /**
+     * 分类数量（不含已删除）
+     */
+    Long getCategoryCount();
+}
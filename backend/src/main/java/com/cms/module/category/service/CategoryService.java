@@ -1,14 +1,18 @@
 package com.cms.module.category.service;
 
+import com.cms.common.cache.CacheNames;
 import com.cms.common.exception.BusinessException;
 import com.cms.module.category.dto.CategoryDTO;
 import com.cms.module.category.dto.CategoryQueryDTO;
 import com.cms.module.category.dto.CategoryTreeDTO;
 import com.cms.module.category.entity.Category;
+import com.cms.module.category.event.CategoryChangedEvent;
 import com.cms.module.category.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -21,6 +25,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +40,7 @@ import java.util.stream.Collectors;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 获取分类树(按站点)
@@ -184,6 +190,7 @@ public class CategoryService {
         category = categoryRepository.save(category);
 
         log.info("创建分类成功: {}", category.getName());
+        publishChange(category);
         return convertToDTO(category);
     }
 
@@ -210,11 +217,15 @@ public class CategoryService {
             }
         }
 
+        String oldName = category.getName();
+
         // 不允许修改站点ID和父分类ID(避免破坏树形结构)
         BeanUtils.copyProperties(dto, category, "id", "siteId", "parentId", "level", "path", "createdAt", "updatedAt", "createdBy", "version");
 
         category = categoryRepository.save(category);
         log.info("更新分类成功: {}", category.getName());
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId(), category.getSiteId(),
+                !Objects.equals(oldName, category.getName())));
         return convertToDTO(category);
     }
 
@@ -244,6 +255,7 @@ public class CategoryService {
         category.setDeleted(true);
         categoryRepository.save(category);
         log.info("删除分类成功: {}", category.getName());
+        publishChange(category);
     }
 
     /**
@@ -264,6 +276,16 @@ public class CategoryService {
         category.setIsVisible(isVisible);
         categoryRepository.save(category);
         log.info("更新分类可见性成功: {} -> {}", category.getName(), isVisible);
+        publishChange(category);
+    }
+
+    /**
+     * 发布分类变更事件
+     *
+     * @param category 分类实体
+     */
+    private void publishChange(Category category) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId(), category.getSiteId()));
     }
 
     /**
@@ -281,10 +303,12 @@ public class CategoryService {
     /**
      * 获取访客端分类树（仅可见分类，不含内容统计）
      * 注意：内容统计由PublicContentService处理
+     * 结果按站点缓存，分类变更时失效
      *
      * @param siteId 站点ID
      * @return 分类树DTO列表
      */
+    @Cacheable(cacheNames = CacheNames.GUEST_CATEGORY_TREE, key = "#siteId")
     public List<CategoryTreeDTO> getCategoryTreeForGuest(Long siteId) {
         log.info("获取访客端分类树: siteId={}", siteId);
         
@@ -1,7 +1,10 @@
 package com.cms.module.content.controller;
 
 import com.cms.common.base.ApiResponse;
+import com.cms.common.base.CursorPage;
 import com.cms.common.base.Page;
+import com.cms.common.web.JsonStreamSupport;
+import com.cms.common.web.StreamFormat;
 import com.cms.module.content.dto.ContentDTO;
 import com.cms.module.content.dto.ContentQueryDTO;
 import com.cms.module.content.dto.SubmitApprovalOptionsDTO;
@@ -14,6 +17,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -30,6 +36,7 @@ import java.util.List;
 public class ContentController {
 
     private final ContentService contentService;
+    private final JsonStreamSupport jsonStreamSupport;
 
     /**
      * 创建内容
@@ -135,6 +142,45 @@ public class ContentController {
         return ApiResponse.success(result);
     }
 
+    /**
+     * 游标分页查询内容
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('content:view')")
+    @Operation(summary = "游标查询内容", description = "按排序字段倒序的游标分页，使用上一页返回的nextCursor获取下一页")
+    public ApiResponse<CursorPage<ContentDTO>> getContentsByCursor(
+            @RequestParam(required = false) Long siteId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String contentType,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Boolean isTop,
+            @RequestParam(required = false) Boolean isFeatured,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "false") Boolean withTotal) {
+
+        log.info("游标查询内容请求: siteId={}, categoryId={}, status={}, cursor={}, size={}, sortBy={}, withTotal={}",
+                siteId, categoryId, status, cursor, size, sortBy, withTotal);
+
+        ContentQueryDTO queryDTO = new ContentQueryDTO();
+        queryDTO.setSiteId(siteId);
+        queryDTO.setCategoryId(categoryId);
+        queryDTO.setTitle(title);
+        queryDTO.setContentType(contentType);
+        queryDTO.setStatus(status);
+        queryDTO.setAuthorId(authorId);
+        queryDTO.setIsTop(isTop);
+        queryDTO.setIsFeatured(isFeatured);
+        queryDTO.setSize(size);
+        queryDTO.setSortBy(sortBy);
+
+        CursorPage<ContentDTO> result = contentService.getContentsByCursor(queryDTO, cursor, withTotal);
+        return ApiResponse.success(result);
+    }
+
     /**
      * 获取所有内容列表
      */
@@ -147,6 +193,24 @@ public class ContentController {
         return ApiResponse.success(result);
     }
 
+    /**
+     * 流式导出站点内容
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('content:view')")
+    @Operation(summary = "导出内容", description = "以NDJSON或JSON数组流式导出指定站点的所有内容（含正文），支持gzip压缩")
+    public void exportContents(
+            @RequestParam Long siteId,
+            @RequestParam(defaultValue = "NDJSON") StreamFormat format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("导出内容请求: siteId={}, format={}", siteId, format);
+        try (JsonStreamSupport.Writer writer = jsonStreamSupport.open(request, response, format, "contents-site-" + siteId)) {
+            contentService.exportContents(siteId, writer::write);
+            writer.complete();
+        }
+    }
+
     /**
      * 更新内容状态
      */
@@ -0,0 +1,63 @@
+package com.cms.module.content.controller;
+
+import com.cms.common.base.ApiResponse;
+import com.cms.module.content.dto.ContentScheduleDTO;
+import com.cms.module.content.service.ContentScheduleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 内容定时发布控制器
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/contents/{contentId}/schedules")
+@RequiredArgsConstructor
+@Tag(name = "内容定时发布", description = "内容定时发布/下线相关接口")
+public class ContentScheduleController {
+
+    private final ContentScheduleService scheduleService;
+
+    @PostMapping
+    @PreAuthorize("hasAuthority('content:update')")
+    @Operation(summary = "创建定时任务", description = "在指定时间发布（PUBLISH）或下线（UNPUBLISH）内容")
+    public ApiResponse<ContentScheduleDTO> createSchedule(
+            @Parameter(description = "内容ID") @PathVariable Long contentId,
+            @Validated @RequestBody ContentScheduleDTO scheduleDTO) {
+        log.info("创建定时任务请求: contentId={}, data={}", contentId, scheduleDTO);
+        ContentScheduleDTO result = scheduleService.createSchedule(contentId, scheduleDTO);
+        return ApiResponse.success(result);
+    }
+
+    @GetMapping
+    @PreAuthorize("hasAuthority('content:view')")
+    @Operation(summary = "获取定时任务", description = "获取内容的所有定时发布/下线记录")
+    public ApiResponse<List<ContentScheduleDTO>> getSchedules(
+            @Parameter(description = "内容ID") @PathVariable Long contentId) {
+        log.info("获取定时任务请求: contentId={}", contentId);
+        List<ContentScheduleDTO> result = scheduleService.getSchedules(contentId);
+        return ApiResponse.success(result);
+    }
+
+    @DeleteMapping("/{scheduleId}")
+    @PreAuthorize("hasAuthority('content:update')")
+    @Operation(summary = "取消定时任务", description = "取消尚未执行的定时任务")
+    public ApiResponse<Void> cancelSchedule(
+            @Parameter(description = "内容ID") @PathVariable Long contentId,
+            @Parameter(description = "定时任务ID") @PathVariable Long scheduleId) {
+        log.info("取消定时任务请求: contentId={}, scheduleId={}", contentId, scheduleId);
+        scheduleService.cancelSchedule(contentId, scheduleId);
+        return ApiResponse.success(null);
+    }
+}
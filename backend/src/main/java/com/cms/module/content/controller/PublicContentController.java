@@ -1,10 +1,16 @@
 package com.cms.module.content.controller;
 
 import com.cms.common.base.ApiResponse;
+import com.cms.common.base.CursorPage;
+import com.cms.common.cache.GuestPageCache;
+import com.cms.common.cache.SiteContentVersions;
+import com.cms.common.web.HttpCacheSupport;
 import com.cms.module.content.dto.HomePageDTO;
+import com.cms.module.content.dto.HotWindow;
 import com.cms.module.content.dto.PublicContentDTO;
 import com.cms.module.content.dto.PublicContentDetailDTO;
 import com.cms.module.content.dto.PublicContentQueryDTO;
+import com.cms.module.content.repository.ContentValidator;
 import com.cms.module.content.service.PublicContentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,8 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 公开内容控制器（访客端）
@@ -30,6 +42,8 @@ import java.util.List;
 public class PublicContentController {
 
     private final PublicContentService publicContentService;
+    private final SiteContentVersions siteContentVersions;
+    private final HttpCacheSupport httpCacheSupport;
 
     /**
      * 获取首页数据
@@ -37,9 +51,13 @@ public class PublicContentController {
     @GetMapping("/home")
     @PreAuthorize("hasAuthority('content:view:published')")
     @Operation(summary = "获取首页数据", description = "获取首页展示的分类、置顶和推荐内容")
-    public ApiResponse<HomePageDTO> getHomePage(@RequestParam Long siteId) {
+    public ApiResponse<HomePageDTO> getHomePage(@RequestParam Long siteId, ServletWebRequest request) {
         log.info("获取首页数据请求: siteId={}", siteId);
+        if (checkSiteNotModified(request, "home", siteId)) {
+            return null;
+        }
         HomePageDTO homePageData = publicContentService.getHomePageData(siteId);
+        GuestPageCache.cacheable(request.getRequest(), siteId);
         return ApiResponse.success(homePageData);
     }
 
@@ -53,10 +71,14 @@ public class PublicContentController {
             @RequestParam Long siteId,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(defaultValue = "0") Integer page,
-            @RequestParam(defaultValue = "10") Integer size) {
+            @RequestParam(defaultValue = "10") Integer size,
+            ServletWebRequest request) {
         
         log.info("查询已发布内容请求: siteId={}, categoryId={}, page={}, size={}", 
                 siteId, categoryId, page, size);
+        if (checkSiteNotModified(request, "list", siteId)) {
+            return null;
+        }
         
         PublicContentQueryDTO queryDTO = new PublicContentQueryDTO();
         queryDTO.setSiteId(siteId);
@@ -65,9 +87,56 @@ public class PublicContentController {
         queryDTO.setSize(size);
         
         Page<PublicContentDTO> contents = publicContentService.getPublishedContents(queryDTO);
+        GuestPageCache.cacheable(request.getRequest(), siteId);
+        return ApiResponse.success(contents);
+    }
+
+    /**
+     * 游标分页查询已发布内容
+     */
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAuthority('content:view:published')")
+    @Operation(summary = "游标查询已发布内容列表", description = "按发布时间倒序的游标分页，使用上一页返回的nextCursor获取下一页")
+    public ApiResponse<CursorPage<PublicContentDTO>> getPublishedContentsByCursor(
+            @RequestParam Long siteId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") Integer size,
+            @RequestParam(defaultValue = "false") Boolean withTotal,
+            ServletWebRequest request) {
+
+        log.info("游标查询已发布内容请求: siteId={}, categoryId={}, cursor={}, size={}, withTotal={}",
+                siteId, categoryId, cursor, size, withTotal);
+        if (checkSiteNotModified(request, "list", siteId)) {
+            return null;
+        }
+
+        PublicContentQueryDTO queryDTO = new PublicContentQueryDTO();
+        queryDTO.setSiteId(siteId);
+        queryDTO.setCategoryId(categoryId);
+        queryDTO.setSize(size);
+
+        CursorPage<PublicContentDTO> contents = publicContentService.getPublishedContentsByCursor(queryDTO, cursor, withTotal);
+        GuestPageCache.cacheable(request.getRequest(), siteId);
         return ApiResponse.success(contents);
     }
 
+    /**
+     * 获取热门内容
+     */
+    @GetMapping("/hot")
+    @PreAuthorize("hasAuthority('content:view:published')")
+    @Operation(summary = "获取热门内容", description = "获取最近24小时（DAY）或7天（WEEK）浏览最多的内容")
+    public ApiResponse<List<PublicContentDTO>> getHotContents(
+            @RequestParam Long siteId,
+            @RequestParam(defaultValue = "DAY") HotWindow window,
+            @RequestParam(defaultValue = "10") Integer limit) {
+
+        log.info("获取热门内容请求: siteId={}, window={}, limit={}", siteId, window, limit);
+        List<PublicContentDTO> hotContents = publicContentService.getHotContents(siteId, window, Math.min(Math.max(limit, 1), 50));
+        return ApiResponse.success(hotContents);
+    }
+
     /**
      * 搜索内容
      */
@@ -99,9 +168,23 @@ public class PublicContentController {
     @GetMapping("/{id}")
     @PreAuthorize("hasAuthority('content:detail:published')")
     @Operation(summary = "获取内容详情", description = "获取指定内容的详细信息，并增加浏览量")
-    public ApiResponse<PublicContentDetailDTO> getContentDetail(@PathVariable Long id) {
+    public ApiResponse<PublicContentDetailDTO> getContentDetail(@PathVariable Long id, ServletWebRequest request) {
         log.info("获取内容详情请求: id={}", id);
+        ContentValidator validator = publicContentService.getContentValidator(id);
+        if (validator != null && validator.getUpdatedAt() != null) {
+            // 弱ETag：浏览量变化不改变updated_at，允许在缓存期内略有滞后；
+            // 分类、站点名称变化随站点版本体现
+            SiteContentVersions.Version siteVersion = siteContentVersions.get(validator.getSiteId());
+            long updatedAt = toEpochMilli(validator.getUpdatedAt());
+            long lastModified = Math.max(updatedAt, siteVersion.getLastModified());
+            String etag = "W/\"" + id + "-" + validator.getVersion() + "-" + updatedAt + "-s" + siteVersion.getVersion() + "\"";
+            // 304时客户端展示的是本地缓存，不计入浏览量
+            if (httpCacheSupport.checkNotModified(request, "detail", etag, lastModified)) {
+                return null;
+            }
+        }
         PublicContentDetailDTO contentDetail = publicContentService.getContentDetail(id);
+        GuestPageCache.cacheable(request.getRequest(), contentDetail.getSiteId(), Collections.singleton(id), id);
         return ApiResponse.success(contentDetail);
     }
 
@@ -113,11 +196,34 @@ public class PublicContentController {
     @Operation(summary = "获取相关内容", description = "获取与指定内容相关的推荐内容")
     public ApiResponse<List<PublicContentDTO>> getRelatedContents(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "5") Integer limit) {
+            @RequestParam(defaultValue = "5") Integer limit,
+            ServletWebRequest request) {
         
         log.info("获取相关内容请求: id={}, limit={}", id, limit);
+        ContentValidator validator = publicContentService.getContentValidator(id);
+        if (validator != null && checkSiteNotModified(request, "related", validator.getSiteId())) {
+            return null;
+        }
         List<PublicContentDTO> relatedContents = publicContentService.getRelatedContents(id, limit);
+        if (validator != null) {
+            Set<Long> contentIds = new LinkedHashSet<>();
+            contentIds.add(id);
+            relatedContents.forEach(related -> contentIds.add(related.getId()));
+            GuestPageCache.cacheable(request.getRequest(), validator.getSiteId(), contentIds, null);
+        }
         return ApiResponse.success(relatedContents);
     }
-}
 
+    /**
+     * 以站点内容版本作为校验值处理条件请求
+     */
+    private boolean checkSiteNotModified(ServletWebRequest request, String endpoint, Long siteId) {
+        SiteContentVersions.Version version = siteContentVersions.get(siteId);
+        String etag = "s" + siteId + "-" + version.getVersion();
+        return httpCacheSupport.checkNotModified(request, endpoint, etag, version.getLastModified());
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,82 @@
+package com.cms.module.content.controller;
+
+import com.cms.module.content.feed.FeedGenerator;
+import com.cms.module.content.feed.FeedWriter;
+import com.cms.module.content.feed.SitemapWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 站点地图和订阅源控制器（访客端）
+ * 只读取 {@link FeedGenerator} 预先生成的文件，允许匿名访问，供搜索引擎和订阅客户端抓取。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@RestController
+@RequestMapping("/guest/sites/{code}")
+@RequiredArgsConstructor
+@Tag(name = "访客端-站点地图", description = "站点地图和分类订阅源")
+public class PublicFeedController {
+
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType ATOM = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+
+    private final ObjectProvider<FeedGenerator> generatorProvider;
+
+    @GetMapping("/sitemap.xml")
+    @Operation(summary = "站点地图", description = "超过分片上限时返回站点地图索引")
+    public ResponseEntity<Resource> getSitemap(@PathVariable String code) {
+        return file(code, SitemapWriter.INDEX_FILE, XML);
+    }
+
+    @GetMapping("/sitemap-{shard:\\d+}.xml")
+    @Operation(summary = "站点地图分片")
+    public ResponseEntity<Resource> getSitemapShard(@PathVariable String code, @PathVariable int shard) {
+        return file(code, "sitemap-" + shard + ".xml", XML);
+    }
+
+    @GetMapping("/categories/{categoryId}/rss.xml")
+    @Operation(summary = "分类RSS订阅源")
+    public ResponseEntity<Resource> getCategoryRss(@PathVariable String code, @PathVariable Long categoryId) {
+        return file(code, "categories/" + categoryId + "/" + FeedWriter.RSS_FILE, RSS);
+    }
+
+    @GetMapping("/categories/{categoryId}/atom.xml")
+    @Operation(summary = "分类Atom订阅源")
+    public ResponseEntity<Resource> getCategoryAtom(@PathVariable String code, @PathVariable Long categoryId) {
+        return file(code, "categories/" + categoryId + "/" + FeedWriter.ATOM_FILE, ATOM);
+    }
+
+    /**
+     * 返回生成好的文件；带 Last-Modified，条件请求未修改时由框架返回304
+     */
+    private ResponseEntity<Resource> file(String code, String relative, MediaType mediaType) {
+        FeedGenerator generator = generatorProvider.getIfAvailable();
+        Path file = generator == null ? null : generator.resolve(code, relative);
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        FileSystemResource resource = new FileSystemResource(file);
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .lastModified(file.toFile().lastModified())
+                .cacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES).cachePublic())
+                .body(resource);
+    }
+}
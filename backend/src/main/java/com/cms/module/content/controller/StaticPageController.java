@@ -0,0 +1,47 @@
+package com.cms.module.content.controller;
+
+import com.cms.common.base.ApiResponse;
+import com.cms.common.exception.BusinessException;
+import com.cms.module.content.render.StaticPageRenderer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 静态页面预渲染管理控制器
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/static-pages")
+@RequiredArgsConstructor
+@Tag(name = "静态页面管理", description = "访客端静态页面预渲染管理接口")
+public class StaticPageController {
+
+    private final ObjectProvider<StaticPageRenderer> rendererProvider;
+
+    /**
+     * 全量重新渲染站点静态页面
+     */
+    @PostMapping("/sites/{siteId}")
+    @PreAuthorize("hasAuthority('system:config')")
+    @Operation(summary = "重新渲染站点", description = "在后台重新生成指定站点的全部静态页面")
+    public ApiResponse<Void> renderSite(@PathVariable Long siteId) {
+        log.info("重新渲染站点静态页面请求: siteId={}", siteId);
+        StaticPageRenderer renderer = rendererProvider.getIfAvailable();
+        if (renderer == null) {
+            throw new BusinessException("静态页面预渲染未启用");
+        }
+        renderer.renderSite(siteId);
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,123 @@
+package com.cms.module.content.dto;
+
+import com.cms.common.exception.BusinessException;
+import com.cms.common.exception.ErrorCode;
+import com.cms.module.content.entity.Content;
+import com.cms.module.content.repository.ContentSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 内容列表游标
+ * 记录上一页最后一条的 (排序字段, id)，下一页从该位置之后继续查找（按排序字段、id倒序）。
+ * 对外以不透明的Base64字符串传递。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@AllArgsConstructor
+public class ContentCursor {
+
+    public static final String PUBLISHED_AT = "publishedAt";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+
+    /**
+     * 单页最大条数
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 排序字段（publishedAt / createdAt / updatedAt）
+     */
+    private final String field;
+
+    /**
+     * 上一页最后一条的排序字段值（可能为null）
+     */
+    private final LocalDateTime value;
+
+    /**
+     * 上一页最后一条的ID
+     */
+    private final Long id;
+
+    /**
+     * 是否为支持游标分页的排序字段
+     */
+    public static boolean isSupportedField(String field) {
+        return PUBLISHED_AT.equals(field) || CREATED_AT.equals(field) || UPDATED_AT.equals(field);
+    }
+
+    /**
+     * 以内容的排序字段值和ID生成游标
+     */
+    public static ContentCursor of(String field, ContentSummary content) {
+        LocalDateTime value;
+        switch (field) {
+            case PUBLISHED_AT:
+                value = content.getPublishedAt();
+                break;
+            case UPDATED_AT:
+                value = content.getUpdatedAt();
+                break;
+            default:
+                value = content.getCreatedAt();
+        }
+        return new ContentCursor(field, value, content.getId());
+    }
+
+    /**
+     * 游标排序：排序字段倒序，相同时按ID倒序（MySQL中NULL排在最后）
+     */
+    public static Sort sort(String field) {
+        return Sort.by(Sort.Direction.DESC, field).and(Sort.by(Sort.Direction.DESC, "id"));
+    }
+
+    /**
+     * 定位到游标之后的查询条件
+     */
+    public Specification<Content> toSpecification() {
+        return (root, query, cb) -> {
+            if (value == null) {
+                return cb.and(cb.isNull(root.get(field)), cb.lessThan(root.get("id"), id));
+            }
+            return cb.or(
+                    cb.lessThan(root.<LocalDateTime>get(field), value),
+                    cb.and(cb.equal(root.get(field), value), cb.lessThan(root.get("id"), id)),
+                    cb.isNull(root.get(field)));
+        };
+    }
+
+    public String encode() {
+        String raw = field + SEPARATOR + (value == null ? "" : value.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解析游标，字段不匹配或格式错误时抛出参数错误
+     */
+    public static ContentCursor decode(String token, String expectedField) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedField)) {
+                throw new BusinessException(ErrorCode.PARAM_ERROR.getCode(), "无效的分页游标");
+            }
+            LocalDateTime value = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new ContentCursor(parts[0], value, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR.getCode(), "无效的分页游标");
+        }
+    }
+}
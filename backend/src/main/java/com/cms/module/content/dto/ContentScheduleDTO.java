@@ -0,0 +1,66 @@
+package com.cms.module.content.dto;
+
+import lombok.Data;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Pattern;
+import java.time.LocalDateTime;
+
+/**
+ * 内容定时发布DTO
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+public class ContentScheduleDTO {
+
+    /**
+     * 记录ID
+     */
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    private Long contentId;
+
+    /**
+     * 动作（PUBLISH/UNPUBLISH）
+     */
+    @NotBlank(message = "动作不能为空")
+    @Pattern(regexp = "PUBLISH|UNPUBLISH", message = "动作只能是PUBLISH或UNPUBLISH")
+    private String action;
+
+    /**
+     * 执行时间
+     */
+    @NotNull(message = "执行时间不能为空")
+    private LocalDateTime executeAt;
+
+    /**
+     * 状态（PENDING/DONE/FAILED/CANCELLED）
+     */
+    private String status;
+
+    /**
+     * 执行次数
+     */
+    private Integer attempts;
+
+    /**
+     * 最后一次失败原因
+     */
+    private String lastError;
+
+    /**
+     * 实际执行时间
+     */
+    private LocalDateTime executedAt;
+
+    /**
+     * 创建时间
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.cms.module.content.dto;
+
+/**
+ * 访客端内容搜索模式
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public enum ContentSearchMode {
+
+    /**
+     * LIKE 模糊匹配（全表扫描，仅用于兼容和兜底）
+     */
+    LIKE,
+
+    /**
+     * MySQL FULLTEXT 全文索引（ngram分词，按相关度排序），不可用时自动回退到LIKE
+     */
+    FULLTEXT,
+
+    /**
+     * 进程内倒排索引（BM25排序），需启用 cms.search.index.enabled；索引未就绪时回退到FULLTEXT
+     */
+    INDEX
+}
@@ -0,0 +1,30 @@
+package com.cms.module.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 热门内容统计窗口（按小时滚动）
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@AllArgsConstructor
+public enum HotWindow {
+
+    /**
+     * 最近24小时
+     */
+    DAY(24),
+
+    /**
+     * 最近7天
+     */
+    WEEK(24 * 7);
+
+    /**
+     * 窗口包含的小时数
+     */
+    private final int hours;
+}
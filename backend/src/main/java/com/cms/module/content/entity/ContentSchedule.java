@@ -0,0 +1,125 @@
+package com.cms.module.content.entity;
+
+import lombok.Data;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 内容定时发布实体
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@Entity
+@Table(name = "content_schedules", indexes = {
+        @Index(name = "idx_status_execute_at", columnList = "status, execute_at"),
+        @Index(name = "idx_content_status", columnList = "content_id, status")
+})
+public class ContentSchedule {
+
+    public static final String ACTION_PUBLISH = "PUBLISH";
+    public static final String ACTION_UNPUBLISH = "UNPUBLISH";
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_CANCELLED = "CANCELLED";
+
+    /**
+     * 记录ID
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 内容ID
+     */
+    @Column(name = "content_id", nullable = false)
+    private Long contentId;
+
+    /**
+     * 站点ID
+     */
+    @Column(name = "site_id", nullable = false)
+    private Long siteId;
+
+    /**
+     * 动作（PUBLISH/UNPUBLISH）
+     */
+    @Column(nullable = false, length = 20)
+    private String action;
+
+    /**
+     * 执行时间
+     */
+    @Column(name = "execute_at", nullable = false)
+    private LocalDateTime executeAt;
+
+    /**
+     * 状态（PENDING/DONE/FAILED/CANCELLED）
+     */
+    @Column(nullable = false, length = 20)
+    private String status = STATUS_PENDING;
+
+    /**
+     * 持有租约的节点
+     */
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    /**
+     * 租约到期时间
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 执行次数
+     */
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * 最后一次失败原因
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 实际执行时间
+     */
+    @Column(name = "executed_at")
+    private LocalDateTime executedAt;
+
+    /**
+     * 创建人ID
+     */
+    @Column(name = "created_by")
+    private Long createdBy;
+
+    /**
+     * 创建时间
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 更新时间
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,83 @@
+package com.cms.module.content.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 内容变更事件
+ * 内容创建、更新、状态变更、删除后发布，供缓存等下游组件感知访客端可见内容的变化
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+public class ContentChangedEvent {
+
+    /**
+     * 变更类型
+     */
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    private static final String PUBLISHED = "PUBLISHED";
+
+    private final Type type;
+
+    private final Long contentId;
+
+    private final Long siteId;
+
+    /**
+     * 变更后的分类ID
+     */
+    private final Long categoryId;
+
+    /**
+     * 变更前的分类ID
+     */
+    private final Long oldCategoryId;
+
+    /**
+     * 变更前状态
+     */
+    private final String oldStatus;
+
+    /**
+     * 变更后状态（删除时为null）
+     */
+    private final String newStatus;
+
+    public ContentChangedEvent(Type type, Long contentId, Long siteId, Long categoryId, Long oldCategoryId,
+                               String oldStatus, String newStatus) {
+        this.type = type;
+        this.contentId = contentId;
+        this.siteId = siteId;
+        this.categoryId = categoryId;
+        this.oldCategoryId = oldCategoryId;
+        this.oldStatus = oldStatus;
+        this.newStatus = newStatus;
+    }
+
+    /**
+     * 变更前是否已发布
+     */
+    public boolean wasPublished() {
+        return PUBLISHED.equals(oldStatus);
+    }
+
+    /**
+     * 变更后是否处于发布状态
+     */
+    public boolean isPublished() {
+        return type != Type.DELETED && PUBLISHED.equals(newStatus);
+    }
+
+    /**
+     * 是否影响访客端可见内容
+     */
+    public boolean affectsPublicView() {
+        return wasPublished() || isPublished();
+    }
+}
@@ -0,0 +1,25 @@
+package com.cms.module.content.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * 浏览量回写事件
+ * 内存中的浏览增量成功写入数据库后发布（在回写锁内同步处理）
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ContentViewsFlushedEvent {
+
+    /**
+     * 各站点本次写入的浏览量（站点ID -> 增量）
+     */
+    private final Map<Long, Long> siteDeltas;
+}
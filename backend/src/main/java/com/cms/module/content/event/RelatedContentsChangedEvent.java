@@ -0,0 +1,30 @@
+package com.cms.module.content.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * 相关内容变更事件
+ * 预计算的相关内容列表发生变化后发布
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RelatedContentsChangedEvent {
+
+    /**
+     * 站点ID
+     */
+    private final Long siteId;
+
+    /**
+     * 相关内容发生变化的内容ID
+     */
+    private final Set<Long> contentIds;
+}
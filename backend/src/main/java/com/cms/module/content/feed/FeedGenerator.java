@@ -0,0 +1,413 @@
+package com.cms.module.content.feed;
+
+import com.cms.module.category.entity.Category;
+import com.cms.module.category.event.CategoryChangedEvent;
+import com.cms.module.category.repository.CategoryRepository;
+import com.cms.module.content.entity.Content;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentSummary;
+import com.cms.module.content.repository.SiteContentModified;
+import com.cms.module.site.entity.Site;
+import com.cms.module.site.event.SiteChangedEvent;
+import com.cms.module.site.repository.SiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 站点地图和订阅源生成
+ * 按ID顺序分批读取站点已发布内容（不含正文），一次遍历同时写出站点地图分片，
+ * 并为每个可见分类保留最新的若干条内容，遍历结束后写出分类的 RSS 和 Atom 订阅源。
+ *
+ * <p>文件布局（相对 {cms.feed.dir}）：
+ * <pre>
+ * {siteCode}/sitemap.xml                        站点地图（超过分片上限时为站点地图索引）
+ * {siteCode}/sitemap-{n}.xml                    站点地图分片
+ * {siteCode}/categories/{categoryId}/rss.xml    分类RSS订阅源
+ * {siteCode}/categories/{categoryId}/atom.xml   分类Atom订阅源
+ * </pre>
+ * 内容、分类、站点变更只把站点标记为待生成，由定时任务合并后在后台重新生成；
+ * 启动时只重新生成文件缺失或早于站点内容最后修改时间的站点。
+ * 爬虫请求只读取生成好的文件，不访问数据库。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cms.feed", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class FeedGenerator {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final Pattern SAFE_CODE = Pattern.compile("[A-Za-z0-9_-]+");
+
+    private static final Comparator<ContentSummary> OLDEST_FIRST = Comparator
+            .comparing(FeedGenerator::publishedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(ContentSummary::getId);
+
+    private final ContentRepository contentRepository;
+    private final CategoryRepository categoryRepository;
+    private final SiteRepository siteRepository;
+
+    @Value("${file.upload.path:uploads}")
+    private String uploadPath;
+
+    @Value("${cms.feed.dir:feeds}")
+    private String outputDir;
+
+    @Value("${cms.feed.sitemap-max-urls:50000}")
+    private int sitemapMaxUrls;
+
+    @Value("${cms.feed.size:20}")
+    private int feedSize;
+
+    @Value("${cms.feed.scheme:https}")
+    private String scheme;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    /**
+     * 待重新生成的站点
+     */
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 已生成文件的站点编码（站点编码修改或站点停用时删除原目录）
+     */
+    private final Map<Long, String> siteCodes = new ConcurrentHashMap<>();
+
+    /**
+     * 生成任务在单线程中顺序执行，同一站点的文件不会被并发写入
+     */
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "feed-generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FeedGenerator(ContentRepository contentRepository,
+                         CategoryRepository categoryRepository,
+                         SiteRepository siteRepository) {
+        this.contentRepository = contentRepository;
+        this.categoryRepository = categoryRepository;
+        this.siteRepository = siteRepository;
+    }
+
+    /**
+     * 查找已生成的文件
+     *
+     * @param siteCode 站点编码
+     * @param relative 站点目录下的相对路径
+     * @return 文件路径；站点编码不合法或文件不存在时返回null
+     */
+    public Path resolve(String siteCode, String relative) {
+        if (siteCode == null || !SAFE_CODE.matcher(siteCode).matches()) {
+            return null;
+        }
+        Path file = siteDir(siteCode).resolve(relative).normalize();
+        return file.startsWith(siteDir(siteCode)) && Files.isRegularFile(file) ? file : null;
+    }
+
+    /**
+     * 启动后清理已不存在站点的目录，并重新生成过期的站点
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.submit(() -> {
+            try {
+                Map<Long, LocalDateTime> lastModified = new HashMap<>();
+                for (SiteContentModified row : contentRepository.findLastModifiedGroupBySite()) {
+                    lastModified.put(row.getSiteId(), row.getLastModified());
+                }
+                Set<String> codes = new HashSet<>();
+                for (Site site : siteRepository.findByStatusAndDeletedFalse("ACTIVE")) {
+                    codes.add(site.getCode());
+                    siteCodes.put(site.getId(), site.getCode());
+                    if (isStale(site, lastModified.get(site.getId()))) {
+                        dirty.add(site.getId());
+                    }
+                }
+                removeUnknownSites(codes);
+                log.info("站点地图待生成站点: {}", dirty);
+            } catch (Exception e) {
+                log.error("站点地图启动检查失败", e);
+            }
+        });
+    }
+
+    /**
+     * 内容发布、更新、下线后标记站点待生成
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.affectsPublicView()) {
+            dirty.add(event.getSiteId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        dirty.add(event.getSiteId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSiteChanged(SiteChangedEvent event) {
+        dirty.add(event.getSiteId());
+    }
+
+    /**
+     * 定时重新生成有变更的站点（同一周期内的多次变更只生成一次）
+     */
+    @Scheduled(fixedDelayString = "${cms.feed.regenerate-interval:60000}")
+    public void flush() {
+        for (Long siteId : new ArrayList<>(dirty)) {
+            dirty.remove(siteId);
+            worker.submit(() -> {
+                try {
+                    generate(siteId);
+                } catch (Exception e) {
+                    log.error("站点地图生成失败: siteId={}", siteId, e);
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("站点地图生成任务未在30秒内结束");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 重新生成站点的站点地图和分类订阅源；站点已停用、删除或没有域名时删除已生成的文件
+     */
+    void generate(Long siteId) throws IOException {
+        Site site = siteRepository.findById(siteId)
+                .filter(s -> !s.isDeleted() && "ACTIVE".equals(s.getStatus()))
+                .orElse(null);
+        String oldCode = siteCodes.get(siteId);
+        if (oldCode != null && (site == null || !oldCode.equals(site.getCode()))) {
+            FileSystemUtils.deleteRecursively(siteDir(oldCode));
+            siteCodes.remove(siteId);
+        }
+        if (site == null || !StringUtils.hasText(site.getDomain()) || !SAFE_CODE.matcher(site.getCode()).matches()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        String siteUrl = siteUrl(site);
+        String feedUrl = siteUrl + contextPath + "/guest/sites/" + site.getCode();
+        Path dir = siteDir(site.getCode());
+        Files.createDirectories(dir);
+
+        Map<Long, Category> categories = new HashMap<>();
+        for (Category category : categoryRepository.findBySiteIdAndIsVisibleAndDeletedFalseOrderBySortOrderAsc(siteId, true)) {
+            categories.put(category.getId(), category);
+        }
+        Map<Long, PriorityQueue<ContentSummary>> latest = new HashMap<>();
+
+        int shards;
+        long urls;
+        try (SitemapWriter sitemap = new SitemapWriter(dir, sitemapMaxUrls)) {
+            sitemap.add(siteUrl + "/guest", null);
+            long lastId = 0L;
+            while (true) {
+                long afterId = lastId;
+                Specification<Content> spec = (root, query, cb) -> cb.and(
+                        cb.equal(root.get("siteId"), siteId),
+                        cb.equal(root.get("status"), "PUBLISHED"),
+                        cb.equal(root.get("deleted"), false),
+                        cb.greaterThan(root.get("id"), afterId));
+                List<ContentSummary> batch = contentRepository.findSummaries(spec, Sort.by(Sort.Direction.ASC, "id"), BATCH_SIZE);
+                for (ContentSummary content : batch) {
+                    sitemap.add(contentUrl(siteUrl, content.getId()), content.getUpdatedAt() == null
+                            ? null : FeedWriter.format(offset(content.getUpdatedAt())));
+                    if (categories.containsKey(content.getCategoryId())) {
+                        offer(latest.computeIfAbsent(content.getCategoryId(), id -> new PriorityQueue<>(OLDEST_FIRST)), content);
+                    }
+                }
+                if (batch.size() < BATCH_SIZE) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            shards = sitemap.finish(feedUrl);
+            urls = sitemap.getUrls();
+        }
+
+        Path categoryRoot = dir.resolve("categories");
+        for (Category category : categories.values()) {
+            writeFeeds(categoryRoot.resolve(String.valueOf(category.getId())), site, category, siteUrl, feedUrl,
+                    latest.getOrDefault(category.getId(), new PriorityQueue<>(OLDEST_FIRST)));
+        }
+        removeUnknownCategories(categoryRoot, categories.keySet());
+
+        siteCodes.put(siteId, site.getCode());
+        log.info("站点地图生成完成: siteId={}, urls={}, shards={}, feeds={}, 耗时={}ms",
+                siteId, urls, shards, categories.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 保留每个分类最新的 feedSize 条内容
+     */
+    private void offer(PriorityQueue<ContentSummary> heap, ContentSummary content) {
+        heap.offer(content);
+        if (heap.size() > feedSize) {
+            heap.poll();
+        }
+    }
+
+    private void writeFeeds(Path dir, Site site, Category category, String siteUrl, String feedUrl,
+                            PriorityQueue<ContentSummary> heap) throws IOException {
+        List<FeedWriter.Item> items = new ArrayList<>(heap.size());
+        OffsetDateTime updated = null;
+        while (!heap.isEmpty()) {
+            ContentSummary content = heap.poll();
+            FeedWriter.Item item = new FeedWriter.Item(
+                    content.getTitle(),
+                    contentUrl(siteUrl, content.getId()),
+                    content.getSummary(),
+                    content.getAuthorName(),
+                    offset(publishedAt(content)),
+                    offset(content.getUpdatedAt()));
+            items.add(0, item);
+            if (item.getUpdated() != null && (updated == null || item.getUpdated().isAfter(updated))) {
+                updated = item.getUpdated();
+            }
+        }
+
+        String categoryFeedUrl = feedUrl + "/categories/" + category.getId() + "/";
+        String title = site.getName() + " - " + category.getName();
+        String description = StringUtils.hasText(category.getDescription()) ? category.getDescription() : title;
+        String link = siteUrl + "/guest?categoryId=" + category.getId();
+        String language = site.getLanguage() == null ? null : site.getLanguage().replace('_', '-').toLowerCase();
+
+        FeedWriter.writeRss(dir.resolve(FeedWriter.RSS_FILE),
+                new FeedWriter.Channel(title, link, description, categoryFeedUrl + FeedWriter.RSS_FILE, language, updated), items);
+        FeedWriter.writeAtom(dir.resolve(FeedWriter.ATOM_FILE),
+                new FeedWriter.Channel(title, link, description, categoryFeedUrl + FeedWriter.ATOM_FILE, language, updated), items);
+    }
+
+    /**
+     * 文件缺失，或站点、站点内容在文件生成之后有修改
+     */
+    private boolean isStale(Site site, LocalDateTime contentModified) throws IOException {
+        if (!SAFE_CODE.matcher(site.getCode()).matches()) {
+            return false;
+        }
+        Path sitemap = siteDir(site.getCode()).resolve(SitemapWriter.INDEX_FILE);
+        if (!Files.exists(sitemap)) {
+            return true;
+        }
+        long generatedAt = Files.getLastModifiedTime(sitemap).toMillis();
+        return toEpochMilli(site.getUpdatedAt()) > generatedAt
+                || toEpochMilli(contentModified) > generatedAt;
+    }
+
+    private void removeUnknownSites(Set<String> codes) throws IOException {
+        Path root = root();
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                if (!codes.contains(dir.getFileName().toString())) {
+                    FileSystemUtils.deleteRecursively(dir);
+                }
+            }
+        }
+    }
+
+    private void removeUnknownCategories(Path categoryRoot, Set<Long> categoryIds) throws IOException {
+        if (!Files.isDirectory(categoryRoot)) {
+            return;
+        }
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(categoryRoot, Files::isDirectory)) {
+            for (Path dir : dirs) {
+                String name = dir.getFileName().toString();
+                if (!name.matches("\\d+") || !categoryIds.contains(Long.valueOf(name))) {
+                    FileSystemUtils.deleteRecursively(dir);
+                }
+            }
+        }
+    }
+
+    /**
+     * 站点访问地址（域名未包含协议时使用 cms.feed.scheme）
+     */
+    private String siteUrl(Site site) {
+        String domain = site.getDomain().trim();
+        if (domain.endsWith("/")) {
+            domain = domain.substring(0, domain.length() - 1);
+        }
+        return domain.contains("://") ? domain : scheme + "://" + domain;
+    }
+
+    private static String contentUrl(String siteUrl, Long contentId) {
+        return siteUrl + "/guest/content/" + contentId;
+    }
+
+    private static LocalDateTime publishedAt(ContentSummary content) {
+        return content.getPublishedAt() != null ? content.getPublishedAt() : content.getCreatedAt();
+    }
+
+    /**
+     * 实体时间为服务器本地时间
+     */
+    private static OffsetDateTime offset(LocalDateTime time) {
+        return time == null ? null : time.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Path root() {
+        return Paths.get(uploadPath).toAbsolutePath().normalize().resolve(outputDir);
+    }
+
+    private Path siteDir(String siteCode) {
+        return root().resolve(siteCode);
+    }
+}
@@ -0,0 +1,187 @@
+package com.cms.module.content.feed;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * RSS 2.0 / Atom 1.0 订阅源写入
+ * 先写临时文件再原子替换，读取方不会看到写了一半的文件。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public final class FeedWriter {
+
+    public static final String RSS_FILE = "rss.xml";
+    public static final String ATOM_FILE = "atom.xml";
+
+    private static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
+
+    private static final XMLOutputFactory FACTORY = XMLOutputFactory.newInstance();
+
+    private FeedWriter() {
+    }
+
+    public static void writeRss(Path file, Channel channel, List<Item> items) throws IOException {
+        write(file, xml -> {
+            xml.writeStartElement("rss");
+            xml.writeAttribute("version", "2.0");
+            xml.writeNamespace("atom", ATOM_NAMESPACE);
+            xml.writeStartElement("channel");
+            SitemapWriter.element(xml, "title", channel.getTitle());
+            SitemapWriter.element(xml, "link", channel.getLink());
+            SitemapWriter.element(xml, "description", channel.getDescription());
+            if (channel.getLanguage() != null) {
+                SitemapWriter.element(xml, "language", channel.getLanguage());
+            }
+            if (channel.getUpdated() != null) {
+                SitemapWriter.element(xml, "lastBuildDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(channel.getUpdated()));
+            }
+            xml.writeEmptyElement("atom", "link", ATOM_NAMESPACE);
+            xml.writeAttribute("href", channel.getSelfLink());
+            xml.writeAttribute("rel", "self");
+            xml.writeAttribute("type", "application/rss+xml");
+
+            for (Item item : items) {
+                xml.writeStartElement("item");
+                SitemapWriter.element(xml, "title", item.getTitle());
+                SitemapWriter.element(xml, "link", item.getLink());
+                xml.writeStartElement("guid");
+                xml.writeAttribute("isPermaLink", "true");
+                xml.writeCharacters(item.getLink());
+                xml.writeEndElement();
+                if (item.getSummary() != null) {
+                    SitemapWriter.element(xml, "description", item.getSummary());
+                }
+                if (item.getPublished() != null) {
+                    SitemapWriter.element(xml, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(item.getPublished()));
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndElement();
+        });
+    }
+
+    public static void writeAtom(Path file, Channel channel, List<Item> items) throws IOException {
+        write(file, xml -> {
+            xml.writeStartElement("feed");
+            xml.writeDefaultNamespace(ATOM_NAMESPACE);
+            SitemapWriter.element(xml, "id", channel.getSelfLink());
+            SitemapWriter.element(xml, "title", channel.getTitle());
+            if (channel.getDescription() != null) {
+                SitemapWriter.element(xml, "subtitle", channel.getDescription());
+            }
+            SitemapWriter.element(xml, "updated", format(channel.getUpdated()));
+            link(xml, channel.getLink(), "alternate");
+            link(xml, channel.getSelfLink(), "self");
+
+            for (Item item : items) {
+                xml.writeStartElement("entry");
+                SitemapWriter.element(xml, "id", item.getLink());
+                SitemapWriter.element(xml, "title", item.getTitle());
+                link(xml, item.getLink(), "alternate");
+                SitemapWriter.element(xml, "updated", format(item.getUpdated() != null ? item.getUpdated() : item.getPublished()));
+                if (item.getPublished() != null) {
+                    SitemapWriter.element(xml, "published", format(item.getPublished()));
+                }
+                if (item.getAuthor() != null) {
+                    xml.writeStartElement("author");
+                    SitemapWriter.element(xml, "name", item.getAuthor());
+                    xml.writeEndElement();
+                }
+                if (item.getSummary() != null) {
+                    SitemapWriter.element(xml, "summary", item.getSummary());
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+        });
+    }
+
+    /**
+     * W3C日期时间格式（站点地图lastmod和Atom共用）
+     */
+    static String format(OffsetDateTime time) {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((time != null ? time : OffsetDateTime.now()).withNano(0));
+    }
+
+    private static void link(XMLStreamWriter xml, String href, String rel) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("href", href);
+        xml.writeAttribute("rel", rel);
+    }
+
+    private static void write(Path file, Body body) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            XMLStreamWriter xml = FACTORY.createXMLStreamWriter(out);
+            xml.writeStartDocument("UTF-8", "1.0");
+            body.write(xml);
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            Files.deleteIfExists(tmp);
+            throw new IOException(e);
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private interface Body {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+
+    /**
+     * 订阅源频道信息
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Channel {
+
+        private final String title;
+
+        private final String link;
+
+        private final String description;
+
+        private final String selfLink;
+
+        private final String language;
+
+        private final OffsetDateTime updated;
+    }
+
+    /**
+     * 订阅条目
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+
+        private final String title;
+
+        private final String link;
+
+        private final String summary;
+
+        private final String author;
+
+        private final OffsetDateTime published;
+
+        private final OffsetDateTime updated;
+    }
+}
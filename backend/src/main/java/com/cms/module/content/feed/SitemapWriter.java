@@ -0,0 +1,212 @@
+package com.cms.module.content.feed;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 分片站点地图写入器
+ * 逐条写入URL，每个分片达到上限后自动切换到下一个分片文件，内存中不保留URL。
+ *
+ * <p>完成时只有一个分片则直接作为 sitemap.xml；多个分片时写入 sitemap-{n}.xml，
+ * 并生成引用全部分片的站点地图索引 sitemap.xml。所有文件先写临时文件再原子替换，
+ * 上一次生成遗留的多余分片会被删除。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class SitemapWriter implements Closeable {
+
+    public static final String INDEX_FILE = "sitemap.xml";
+
+    static final String NAMESPACE = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    private static final Pattern SHARD_FILE = Pattern.compile("sitemap-(\\d+)\\.xml");
+
+    private static final XMLOutputFactory FACTORY = XMLOutputFactory.newInstance();
+
+    private final Path dir;
+
+    private final int maxUrls;
+
+    private XMLStreamWriter current;
+
+    private BufferedWriter currentOut;
+
+    private int shards;
+
+    private int urlsInShard;
+
+    private long urls;
+
+    public SitemapWriter(Path dir, int maxUrls) {
+        this.dir = dir;
+        this.maxUrls = maxUrls;
+    }
+
+    /**
+     * 写入一条URL
+     *
+     * @param loc     绝对地址
+     * @param lastmod 最后修改时间（W3C日期时间格式，可为null）
+     */
+    public void add(String loc, String lastmod) throws IOException {
+        if (current == null || urlsInShard >= maxUrls) {
+            openShard();
+        }
+        try {
+            current.writeStartElement("url");
+            element(current, "loc", loc);
+            if (lastmod != null) {
+                element(current, "lastmod", lastmod);
+            }
+            current.writeEndElement();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+        urlsInShard++;
+        urls++;
+    }
+
+    /**
+     * 完成写入
+     *
+     * @param shardBaseUrl 分片文件的访问地址前缀（多个分片时写入索引）
+     * @return 分片数
+     */
+    public int finish(String shardBaseUrl) throws IOException {
+        if (current == null) {
+            openShard();
+        }
+        closeShard();
+
+        if (shards == 1) {
+            Files.move(tmpShard(1), dir.resolve(INDEX_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } else {
+            for (int i = 1; i <= shards; i++) {
+                Files.move(tmpShard(i), dir.resolve(shardName(i)),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            writeIndex(shardBaseUrl);
+        }
+        deleteStaleShards();
+        return shards;
+    }
+
+    public long getUrls() {
+        return urls;
+    }
+
+    /**
+     * 中途失败时关闭并删除未完成的临时文件
+     */
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            try {
+                current.close();
+            } catch (XMLStreamException ignored) {
+                // 随后删除临时文件
+            }
+            currentOut.close();
+            current = null;
+        }
+        for (int i = 1; i <= shards; i++) {
+            Files.deleteIfExists(tmpShard(i));
+        }
+    }
+
+    private void openShard() throws IOException {
+        closeShard();
+        shards++;
+        urlsInShard = 0;
+        currentOut = Files.newBufferedWriter(tmpShard(shards), StandardCharsets.UTF_8);
+        current = start(currentOut, "urlset");
+    }
+
+    private void closeShard() throws IOException {
+        if (current == null) {
+            return;
+        }
+        try {
+            current.writeEndElement();
+            current.writeEndDocument();
+            current.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            currentOut.close();
+            current = null;
+        }
+    }
+
+    private void writeIndex(String shardBaseUrl) throws IOException {
+        Path tmp = dir.resolve(INDEX_FILE + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            XMLStreamWriter xml = start(out, "sitemapindex");
+            for (int i = 1; i <= shards; i++) {
+                xml.writeStartElement("sitemap");
+                element(xml, "loc", shardBaseUrl + "/" + shardName(i));
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+        Files.move(tmp, dir.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 删除编号超出本次分片数的旧分片（只有一个分片时全部删除）
+     */
+    private void deleteStaleShards() throws IOException {
+        int keep = shards == 1 ? 0 : shards;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "sitemap-*.xml")) {
+            for (Path file : files) {
+                Matcher matcher = SHARD_FILE.matcher(file.getFileName().toString());
+                if (matcher.matches() && Integer.parseInt(matcher.group(1)) > keep) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private XMLStreamWriter start(BufferedWriter out, String root) throws IOException {
+        try {
+            XMLStreamWriter xml = FACTORY.createXMLStreamWriter(out);
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement(root);
+            xml.writeDefaultNamespace(NAMESPACE);
+            return xml;
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+
+    static String shardName(int shard) {
+        return "sitemap-" + shard + ".xml";
+    }
+
+    private Path tmpShard(int shard) {
+        return dir.resolve(shardName(shard) + ".tmp");
+    }
+}
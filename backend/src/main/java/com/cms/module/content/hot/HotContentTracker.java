@@ -0,0 +1,257 @@
+package com.cms.module.content.hot;
+
+import com.cms.module.content.dto.HotWindow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 热门内容统计
+ * 每个站点按小时分桶，每个桶是一个固定容量的 {@link SpaceSavingSketch}；
+ * 查询时合并窗口内的桶（连同各桶的误差上界）得到近似的前K热门内容。
+ *
+ * <p>浏览先累加到内存计数器，由定时任务批量并入当前小时的桶，详情接口上只有一次无锁累加。
+ * 计数器常驻并通过 {@link LongAdder#sumThenReset()} 取走计数，取走前后的并发浏览都不会丢失；
+ * 空闲的计数器被回收后，仍在其上累加的浏览由记录方转交给新的计数器。
+ * 统计结果定期写入快照文件，重启后恢复最近7天的数据。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+public class HotContentTracker {
+
+    private static final long BUCKET_MILLIS = 60 * 60 * 1000L;
+
+    private static final int MAGIC = 0x434D5348;
+    private static final int VERSION = 1;
+
+    @Value("${cms.content.hot.capacity:200}")
+    private int capacity;
+
+    @Value("${cms.content.hot.snapshot-path:hot-content.snap}")
+    private String snapshotPath;
+
+    /**
+     * 待并入分桶的浏览（站点ID -> 内容ID -> 计数）
+     */
+    private final Map<Long, Map<Long, LongAdder>> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 站点分桶（站点ID -> 小时序号 -> 频繁项统计），访问时按站点加锁
+     */
+    private final Map<Long, TreeMap<Long, SpaceSavingSketch>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 上次快照后是否有新的浏览
+     */
+    private volatile boolean dirty;
+
+    /**
+     * 记录一次浏览
+     */
+    public void record(Long siteId, Long contentId) {
+        if (siteId == null || contentId == null) {
+            return;
+        }
+        Map<Long, LongAdder> counts = pending.computeIfAbsent(siteId, id -> new ConcurrentHashMap<>());
+        LongAdder adder = counts.computeIfAbsent(contentId, id -> new LongAdder());
+        adder.increment();
+
+        // 计数器已被回收时，把其上未取走的计数转交给当前计数器
+        while (counts.get(contentId) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned == 0) {
+                return;
+            }
+            adder = counts.computeIfAbsent(contentId, id -> new LongAdder());
+            adder.add(orphaned);
+        }
+    }
+
+    /**
+     * 获取窗口内浏览最多的内容ID（按估计浏览量降序，估计值相同时误差小的在前）
+     */
+    public List<Long> top(Long siteId, HotWindow window, int limit) {
+        TreeMap<Long, SpaceSavingSketch> siteBuckets = buckets.get(siteId);
+        if (siteBuckets == null) {
+            return new ArrayList<>();
+        }
+
+        long from = currentBucket() - window.getHours() + 1;
+        List<SpaceSavingSketch.Counter> merged;
+        synchronized (siteBuckets) {
+            merged = SpaceSavingSketch.merge(siteBuckets.tailMap(from, true).values());
+        }
+
+        return merged.stream()
+                .limit(limit)
+                .map(SpaceSavingSketch.Counter::getItem)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 定时把内存中的浏览并入当前小时的桶，并清理超出最大窗口的桶
+     * 上个周期以来没有浏览的计数器被回收，避免计数器随内容数量无限增长
+     */
+    @Scheduled(fixedDelayString = "${cms.content.hot.fold-interval:5000}")
+    public void fold() {
+        long bucket = currentBucket();
+        for (Map.Entry<Long, Map<Long, LongAdder>> site : pending.entrySet()) {
+            Map<Long, LongAdder> counts = site.getValue();
+            Map<Long, Long> drained = new HashMap<>();
+            for (Map.Entry<Long, LongAdder> entry : counts.entrySet()) {
+                long count = entry.getValue().sumThenReset();
+                if (count > 0) {
+                    drained.put(entry.getKey(), count);
+                } else {
+                    counts.computeIfPresent(entry.getKey(), (contentId, adder) -> adder.sum() == 0 ? null : adder);
+                }
+            }
+            if (drained.isEmpty()) {
+                continue;
+            }
+            TreeMap<Long, SpaceSavingSketch> siteBuckets = buckets.computeIfAbsent(site.getKey(), id -> new TreeMap<>());
+            synchronized (siteBuckets) {
+                SpaceSavingSketch sketch = siteBuckets.computeIfAbsent(bucket, b -> new SpaceSavingSketch(capacity));
+                drained.forEach(sketch::add);
+            }
+            dirty = true;
+        }
+        prune(bucket);
+    }
+
+    @PostConstruct
+    public void init() {
+        Path file = snapshotFile();
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            load(file);
+            log.info("热门内容快照已加载: sites={}", buckets.size());
+        } catch (IOException e) {
+            log.warn("热门内容快照不可用，忽略: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 定期写入快照
+     */
+    @Scheduled(fixedDelayString = "${cms.content.hot.snapshot-interval:60000}")
+    public void snapshot() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        Path file = snapshotFile();
+        try {
+            write(file);
+        } catch (IOException e) {
+            dirty = true;
+            log.warn("热门内容快照写入失败: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fold();
+        snapshot();
+    }
+
+    private void prune(long currentBucket) {
+        long oldest = currentBucket - HotWindow.WEEK.getHours() + 1;
+        for (TreeMap<Long, SpaceSavingSketch> siteBuckets : buckets.values()) {
+            synchronized (siteBuckets) {
+                siteBuckets.headMap(oldest, false).clear();
+            }
+        }
+    }
+
+    private void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(buckets.size());
+            for (Map.Entry<Long, TreeMap<Long, SpaceSavingSketch>> site : buckets.entrySet()) {
+                TreeMap<Long, List<SpaceSavingSketch.Counter>> copy = new TreeMap<>();
+                synchronized (site.getValue()) {
+                    site.getValue().forEach((bucket, sketch) -> copy.put(bucket, sketch.counters()));
+                }
+                out.writeLong(site.getKey());
+                out.writeInt(copy.size());
+                for (Map.Entry<Long, List<SpaceSavingSketch.Counter>> bucket : copy.entrySet()) {
+                    out.writeLong(bucket.getKey());
+                    out.writeInt(bucket.getValue().size());
+                    for (SpaceSavingSketch.Counter counter : bucket.getValue()) {
+                        out.writeLong(counter.getItem());
+                        out.writeLong(counter.getCount());
+                        out.writeLong(counter.getError());
+                    }
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void load(Path file) throws IOException {
+        long oldest = currentBucket() - HotWindow.WEEK.getHours() + 1;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("快照格式不匹配");
+            }
+            int siteCount = in.readInt();
+            for (int s = 0; s < siteCount; s++) {
+                long siteId = in.readLong();
+                int bucketCount = in.readInt();
+                TreeMap<Long, SpaceSavingSketch> siteBuckets = new TreeMap<>();
+                for (int b = 0; b < bucketCount; b++) {
+                    long bucket = in.readLong();
+                    int counterCount = in.readInt();
+                    SpaceSavingSketch sketch = new SpaceSavingSketch(capacity);
+                    for (int c = 0; c < counterCount; c++) {
+                        sketch.restore(in.readLong(), in.readLong(), in.readLong());
+                    }
+                    if (bucket >= oldest) {
+                        siteBuckets.put(bucket, sketch);
+                    }
+                }
+                if (!siteBuckets.isEmpty()) {
+                    buckets.put(siteId, siteBuckets);
+                }
+            }
+        }
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    private Path snapshotFile() {
+        return Paths.get(snapshotPath).toAbsolutePath().normalize();
+    }
+}
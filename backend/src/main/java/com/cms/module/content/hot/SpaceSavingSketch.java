@@ -0,0 +1,156 @@
+package com.cms.module.content.hot;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 频繁项统计
+ * 固定容量的计数器集合，容量满时新元素替换计数最小的元素并继承其计数（记为误差上界）。
+ * 真实计数位于 [count - error, count] 之间，出现次数超过 总数/容量 的元素一定会被保留。
+ *
+ * <p>非线程安全，由调用方加锁。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class SpaceSavingSketch {
+
+    private final int capacity;
+
+    private final Map<Long, Counter> counters;
+
+    /**
+     * 累加的总次数（等于所有计数器之和）
+     */
+    private long total;
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 累加元素计数
+     */
+    public void add(long item, long count) {
+        total += count;
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += count;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new Counter(item, count, 0));
+            return;
+        }
+
+        // 替换计数最小的元素（容量较小，线性查找即可）
+        Counter min = null;
+        for (Counter candidate : counters.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        counters.remove(min.item);
+        counters.put(item, new Counter(item, min.count + count, min.count));
+    }
+
+    /**
+     * 恢复快照中的计数器
+     */
+    public void restore(long item, long count, long error) {
+        if (counters.size() < capacity && !counters.containsKey(item)) {
+            counters.put(item, new Counter(item, count, error));
+            total += count;
+        }
+    }
+
+    /**
+     * 当前所有计数器（按计数降序）
+     */
+    public List<Counter> counters() {
+        List<Counter> result = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            result.add(new Counter(counter.item, counter.count, counter.error));
+        }
+        result.sort(Comparator.comparingLong(Counter::getCount).reversed());
+        return result;
+    }
+
+    /**
+     * 累加的总次数（精确值）
+     */
+    public long total() {
+        return total;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    /**
+     * 未被统计的元素可能的最大计数：容量已满时为最小计数，否则为0
+     */
+    public long unmonitoredBound() {
+        if (counters.size() < capacity) {
+            return 0;
+        }
+        long min = Long.MAX_VALUE;
+        for (Counter counter : counters.values()) {
+            min = Math.min(min, counter.count);
+        }
+        return min;
+    }
+
+    /**
+     * 合并多个统计（按计数降序，计数相同时误差小的在前）
+     * 元素在某个已满的统计中缺失时，真实计数最多为该统计的 {@link #unmonitoredBound()}，
+     * 合并时计入计数和误差，结果仍满足真实计数位于 [count - error, count] 之间。
+     */
+    public static List<Counter> merge(Collection<SpaceSavingSketch> sketches) {
+        long unmonitored = 0;
+        Map<Long, Counter> merged = new HashMap<>();
+        Map<Long, Long> monitoredBound = new HashMap<>();
+        for (SpaceSavingSketch sketch : sketches) {
+            long bound = sketch.unmonitoredBound();
+            unmonitored += bound;
+            for (Counter counter : sketch.counters.values()) {
+                Counter target = merged.computeIfAbsent(counter.item, item -> new Counter(item, 0, 0));
+                target.count += counter.count;
+                target.error += counter.error;
+                monitoredBound.merge(counter.item, bound, Long::sum);
+            }
+        }
+
+        List<Counter> result = new ArrayList<>(merged.size());
+        for (Counter counter : merged.values()) {
+            long missing = unmonitored - monitoredBound.get(counter.item);
+            result.add(new Counter(counter.item, counter.count + missing, counter.error + missing));
+        }
+        result.sort(Comparator.comparingLong(Counter::getCount).reversed()
+                .thenComparingLong(Counter::getError)
+                .thenComparing(Comparator.comparingLong(Counter::getItem).reversed()));
+        return result;
+    }
+
+    /**
+     * 元素计数（count为估计值，error为可能高估的上界）
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Counter {
+
+        private final long item;
+
+        private long count;
+
+        private long error;
+    }
+}
@@ -0,0 +1,248 @@
+package com.cms.module.content.related;
+
+import com.cms.module.content.entity.Content;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.event.RelatedContentsChangedEvent;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentSummary;
+import com.cms.module.content.repository.ContentTagRef;
+import com.cms.module.content.search.ContentTokenizer;
+import com.cms.module.site.entity.Site;
+import com.cms.module.site.repository.SiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 相关内容预计算引擎
+ * 启动时为每个站点的已发布内容计算相关内容，之后根据内容变更事件增量更新，
+ * 访客端获取相关内容时只需按内容ID查表。
+ *
+ * <p>通过 cms.related.enabled 控制（默认启用）。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cms.related", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RelatedContentEngine {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ContentRepository contentRepository;
+    private final SiteRepository siteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${cms.related.size:10}")
+    private int size;
+
+    private final Map<Long, RelatedContentGraph> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * 内容所在站点（内容更换站点时用于从原站点移除）
+     */
+    private final Map<Long, Long> contentSites = new ConcurrentHashMap<>();
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "related-content");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean ready;
+
+    public RelatedContentEngine(ContentRepository contentRepository, SiteRepository siteRepository,
+                                ApplicationEventPublisher eventPublisher) {
+        this.contentRepository = contentRepository;
+        this.siteRepository = siteRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 应用启动后在后台计算所有站点的相关内容
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker.submit(() -> {
+            long start = System.currentTimeMillis();
+            for (Site site : siteRepository.findByDeletedFalse()) {
+                try {
+                    graphs.put(site.getId(), build(site.getId()));
+                } catch (Exception e) {
+                    log.error("相关内容计算失败: siteId={}", site.getId(), e);
+                }
+            }
+            ready = true;
+            log.info("相关内容预计算完成: sites={}, 耗时={}ms", graphs.size(), System.currentTimeMillis() - start);
+        });
+    }
+
+    /**
+     * 获取预计算的相关内容ID
+     *
+     * @return 相关内容ID（按相关度降序）；尚未计算时返回null
+     */
+    public long[] getRelated(Long contentId) {
+        if (!ready) {
+            return null;
+        }
+        Long siteId = contentSites.get(contentId);
+        RelatedContentGraph graph = siteId == null ? null : graphs.get(siteId);
+        return graph == null ? null : graph.get(contentId);
+    }
+
+    /**
+     * 内容变更后增量更新
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!event.affectsPublicView()) {
+            return;
+        }
+        worker.submit(() -> {
+            try {
+                apply(event);
+            } catch (Exception e) {
+                log.error("相关内容更新失败: {}", event, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("相关内容任务未在30秒内结束");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void apply(ContentChangedEvent event) {
+        Long contentId = event.getContentId();
+        ContentSummary content = null;
+        if (event.isPublished()) {
+            Specification<Content> spec = (root, query, cb) -> cb.and(
+                    cb.equal(root.get("id"), contentId),
+                    cb.equal(root.get("status"), "PUBLISHED"),
+                    cb.equal(root.get("deleted"), false));
+            content = contentRepository.findSummaries(spec, Sort.unsorted(), 1).stream().findFirst().orElse(null);
+        }
+        boolean visible = content != null;
+
+        // 从原站点移除（下线、删除或更换站点）
+        Long oldSiteId = contentSites.get(contentId);
+        if (oldSiteId != null && (!visible || !oldSiteId.equals(content.getSiteId()))) {
+            RelatedContentGraph oldGraph = graphs.get(oldSiteId);
+            if (oldGraph != null) {
+                publish(oldSiteId, oldGraph.remove(contentId));
+            }
+            contentSites.remove(contentId);
+        }
+
+        if (visible) {
+            RelatedContentGraph graph = graphs.computeIfAbsent(content.getSiteId(), id -> new RelatedContentGraph(id, size));
+            List<RelatedContentGraph.Doc> docs = toDocs(content);
+            contentSites.put(contentId, content.getSiteId());
+            publish(content.getSiteId(), graph.put(docs.get(0)));
+        }
+    }
+
+    private void publish(Long siteId, Set<Long> changed) {
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new RelatedContentsChangedEvent(siteId, changed));
+        }
+    }
+
+    /**
+     * 按ID顺序分批加载站点已发布内容（不含正文）及标签，全部加载后统一计算
+     */
+    private RelatedContentGraph build(Long siteId) {
+        RelatedContentGraph graph = new RelatedContentGraph(siteId, size);
+        long lastId = 0L;
+        while (true) {
+            long afterId = lastId;
+            Specification<Content> spec = (root, query, cb) -> cb.and(
+                    cb.equal(root.get("siteId"), siteId),
+                    cb.equal(root.get("status"), "PUBLISHED"),
+                    cb.equal(root.get("deleted"), false),
+                    cb.greaterThan(root.get("id"), afterId));
+            List<ContentSummary> batch = contentRepository.findSummaries(spec, Sort.by(Sort.Direction.ASC, "id"), BATCH_SIZE);
+            for (RelatedContentGraph.Doc doc : toDocs(batch.toArray(new ContentSummary[0]))) {
+                graph.add(doc);
+                contentSites.put(doc.getId(), siteId);
+            }
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+        graph.recomputeAll();
+        log.info("站点相关内容计算完成: siteId={}, docs={}", siteId, graph.size());
+        return graph;
+    }
+
+    /**
+     * 转换为相关度特征（标签一次批量查询）
+     */
+    private List<RelatedContentGraph.Doc> toDocs(ContentSummary... contents) {
+        List<Long> ids = new ArrayList<>(contents.length);
+        for (ContentSummary content : contents) {
+            ids.add(content.getId());
+        }
+        Map<Long, List<Long>> tags = loadTags(ids);
+
+        List<RelatedContentGraph.Doc> docs = new ArrayList<>(contents.length);
+        for (ContentSummary content : contents) {
+            long[] tagIds = tags.getOrDefault(content.getId(), new ArrayList<>()).stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            docs.add(new RelatedContentGraph.Doc(
+                    content.getId(),
+                    content.getCategoryId(),
+                    tagIds,
+                    ContentTokenizer.tokenize(content.getTitle()),
+                    toEpochMilli(content.getPublishedAt())));
+        }
+        return docs;
+    }
+
+    private Map<Long, List<Long>> loadTags(Collection<Long> contentIds) {
+        Map<Long, List<Long>> tags = new HashMap<>();
+        if (contentIds.isEmpty()) {
+            return tags;
+        }
+        for (ContentTagRef ref : contentRepository.findTagRefsByContentIds(contentIds)) {
+            tags.computeIfAbsent(ref.getContentId(), id -> new ArrayList<>()).add(ref.getTagId());
+        }
+        return tags;
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
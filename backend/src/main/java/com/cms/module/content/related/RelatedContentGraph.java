@@ -0,0 +1,422 @@
+package com.cms.module.content.related;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 单个站点的相关内容图
+ * 根据同分类、共同标签数量和标题词Jaccard相似度为每条内容预先计算前N条相关内容。
+ *
+ * <p>候选集来自三类倒排：分类（只取最新的 {@link #MAX_CATEGORY_CANDIDATES} 条）、标签、标题词；
+ * 文档数超过 {@link #MAX_POSTING_SIZE} 的标签或词区分度太低，不参与候选召回。
+ * 分类候选有上限，候选关系并不对称：窗口外的旧内容可能引用窗口内的内容，而后者的候选集不包含前者，
+ * 因此另维护反向引用（内容ID → 相关列表包含它的内容），增删时一并重算引用方，保证不会留下指向已删除内容的ID。
+ * 新发布的内容仅靠同分类进入窗口外旧内容的相关列表，这部分在下次全量计算时补齐。
+ * 写操作只允许单线程调用；{@link #get(long)} 可被任意线程并发读取。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class RelatedContentGraph {
+
+    static final double CATEGORY_WEIGHT = 1.0;
+    static final double TAG_WEIGHT = 2.0;
+    static final double TITLE_WEIGHT = 3.0;
+
+    static final int MAX_CATEGORY_CANDIDATES = 500;
+    static final int MAX_POSTING_SIZE = 1000;
+
+    private static final long[] EMPTY = new long[0];
+
+    private static final Comparator<Doc> RECENT_FIRST = Comparator
+            .comparingLong(Doc::getPublishedAt).reversed()
+            .thenComparing(Comparator.comparingLong(Doc::getId).reversed());
+
+    @Getter
+    private final Long siteId;
+
+    private final int size;
+
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<Long, TreeSet<Doc>> byCategory = new HashMap<>();
+    private final Map<Long, Set<Long>> byTag = new HashMap<>();
+    private final Map<String, Set<Long>> byTerm = new HashMap<>();
+
+    private final Map<Long, long[]> related = new ConcurrentHashMap<>();
+
+    /**
+     * 反向引用：内容ID → 相关列表包含该内容的内容ID
+     */
+    private final Map<Long, Set<Long>> referrers = new HashMap<>();
+
+    public RelatedContentGraph(Long siteId, int size) {
+        this.siteId = siteId;
+        this.size = size;
+    }
+
+    /**
+     * 获取预计算的相关内容ID（按相关度降序）
+     *
+     * @return 相关内容ID；未计算时返回null
+     */
+    public long[] get(long id) {
+        return related.get(id);
+    }
+
+    public boolean contains(long id) {
+        return docs.containsKey(id);
+    }
+
+    public int size() {
+        return docs.size();
+    }
+
+    /**
+     * 批量加载时添加文档，不重新计算；加载完成后调用 {@link #recomputeAll()}
+     */
+    public void add(Doc doc) {
+        Doc old = docs.get(doc.getId());
+        if (old != null) {
+            unlink(old);
+        }
+        link(doc);
+    }
+
+    /**
+     * 重新计算所有文档的相关内容
+     */
+    public void recomputeAll() {
+        referrers.clear();
+        for (Doc doc : docs.values()) {
+            store(doc.getId(), compute(doc));
+        }
+    }
+
+    /**
+     * 新增或更新文档，并重新计算受影响文档的相关内容
+     *
+     * @return 相关内容发生变化的文档ID
+     */
+    public Set<Long> put(Doc doc) {
+        Set<Long> affected = new HashSet<>();
+        Doc old = docs.get(doc.getId());
+        if (old != null) {
+            affected.addAll(candidates(old));
+            affected.addAll(referrers(old.getId()));
+            unlink(old);
+        }
+        Doc displaced = link(doc);
+        if (displaced != null) {
+            // 被挤出分类窗口的内容不再是窗口外内容的候选，引用它的列表需要重算
+            affected.addAll(referrers(displaced.getId()));
+        }
+        affected.addAll(candidates(doc));
+        affected.add(doc.getId());
+        return recompute(affected);
+    }
+
+    /**
+     * 移除文档，并重新计算原先可能引用它的文档
+     *
+     * @return 相关内容发生变化的文档ID
+     */
+    public Set<Long> remove(long id) {
+        Doc old = docs.get(id);
+        if (old == null) {
+            return new HashSet<>();
+        }
+        Set<Long> affected = candidates(old);
+        affected.addAll(referrers(id));
+        unlink(old);
+        store(id, null);
+        referrers.remove(id);
+        return recompute(affected);
+    }
+
+    private Set<Long> recompute(Set<Long> ids) {
+        Set<Long> changed = new HashSet<>();
+        for (Long id : ids) {
+            Doc doc = docs.get(id);
+            if (doc == null) {
+                continue;
+            }
+            long[] result = compute(doc);
+            long[] previous = store(id, result);
+            if (!Arrays.equals(previous, result)) {
+                changed.add(id);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 保存相关内容并同步反向引用
+     *
+     * @param result 相关内容ID；为null时删除
+     * @return 原来的相关内容ID
+     */
+    private long[] store(long id, long[] result) {
+        long[] previous = result == null ? related.remove(id) : related.put(id, result);
+        if (previous != null) {
+            for (long target : previous) {
+                removePosting(referrers, target, id);
+            }
+        }
+        if (result != null) {
+            for (long target : result) {
+                referrers.computeIfAbsent(target, k -> new HashSet<>()).add(id);
+            }
+        }
+        return previous;
+    }
+
+    private Set<Long> referrers(long id) {
+        Set<Long> result = referrers.get(id);
+        return result == null ? new HashSet<>() : new HashSet<>(result);
+    }
+
+    /**
+     * 计算单个文档的前N条相关内容
+     */
+    private long[] compute(Doc doc) {
+        Set<Long> candidateIds = candidates(doc);
+        if (candidateIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        // 小顶堆保留得分最高的N条
+        PriorityQueue<Scored> heap = new PriorityQueue<>(size + 1);
+        for (Long candidateId : candidateIds) {
+            Doc candidate = docs.get(candidateId);
+            double score = score(doc, candidate);
+            if (score <= 0) {
+                continue;
+            }
+            heap.offer(new Scored(candidate, score));
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        }
+
+        long[] result = new long[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll().doc.getId();
+        }
+        return result;
+    }
+
+    /**
+     * 候选集：同分类的最新内容、共享标签或标题词的内容（不含自身）
+     */
+    private Set<Long> candidates(Doc doc) {
+        Set<Long> result = new HashSet<>();
+        if (doc.getCategoryId() != null) {
+            TreeSet<Doc> categoryDocs = byCategory.get(doc.getCategoryId());
+            if (categoryDocs != null) {
+                Iterator<Doc> iterator = categoryDocs.iterator();
+                for (int i = 0; i < MAX_CATEGORY_CANDIDATES && iterator.hasNext(); i++) {
+                    result.add(iterator.next().getId());
+                }
+            }
+        }
+        for (long tagId : doc.getTagIds()) {
+            addPosting(result, byTag.get(tagId));
+        }
+        for (String term : doc.getTerms()) {
+            addPosting(result, byTerm.get(term));
+        }
+        result.remove(doc.getId());
+        return result;
+    }
+
+    private void addPosting(Set<Long> result, Set<Long> posting) {
+        if (posting != null && posting.size() <= MAX_POSTING_SIZE) {
+            result.addAll(posting);
+        }
+    }
+
+    static double score(Doc a, Doc b) {
+        double score = 0;
+        if (a.getCategoryId() != null && a.getCategoryId().equals(b.getCategoryId())) {
+            score += CATEGORY_WEIGHT;
+        }
+        score += TAG_WEIGHT * intersect(a.getTagIds(), b.getTagIds());
+        int common = intersect(a.getTerms(), b.getTerms());
+        if (common > 0) {
+            score += TITLE_WEIGHT * common / (a.getTerms().length + b.getTerms().length - common);
+        }
+        return score;
+    }
+
+    /**
+     * 两个有序数组的交集大小
+     */
+    private static int intersect(long[] a, long[] b) {
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                count++;
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private static int intersect(String[] a, String[] b) {
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            int cmp = a[i].compareTo(b[j]);
+            if (cmp == 0) {
+                count++;
+                i++;
+                j++;
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 建立索引
+     *
+     * @return 因此被挤出分类候选窗口的内容；没有时返回null
+     */
+    private Doc link(Doc doc) {
+        docs.put(doc.getId(), doc);
+        Doc displaced = null;
+        if (doc.getCategoryId() != null) {
+            TreeSet<Doc> categoryDocs = byCategory.computeIfAbsent(doc.getCategoryId(), k -> new TreeSet<>(RECENT_FIRST));
+            categoryDocs.add(doc);
+            if (categoryDocs.size() > MAX_CATEGORY_CANDIDATES
+                    && RECENT_FIRST.compare(doc, windowEdge(categoryDocs)) < 0) {
+                displaced = windowEdge(categoryDocs);
+            }
+        }
+        for (long tagId : doc.getTagIds()) {
+            byTag.computeIfAbsent(tagId, k -> new HashSet<>()).add(doc.getId());
+        }
+        for (String term : doc.getTerms()) {
+            byTerm.computeIfAbsent(term, k -> new HashSet<>()).add(doc.getId());
+        }
+        return displaced;
+    }
+
+    /**
+     * 分类候选窗口之后的第一条内容
+     */
+    private static Doc windowEdge(TreeSet<Doc> categoryDocs) {
+        Iterator<Doc> iterator = categoryDocs.iterator();
+        for (int i = 0; i < MAX_CATEGORY_CANDIDATES; i++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    private void unlink(Doc doc) {
+        docs.remove(doc.getId());
+        if (doc.getCategoryId() != null) {
+            TreeSet<Doc> categoryDocs = byCategory.get(doc.getCategoryId());
+            if (categoryDocs != null) {
+                categoryDocs.remove(doc);
+                if (categoryDocs.isEmpty()) {
+                    byCategory.remove(doc.getCategoryId());
+                }
+            }
+        }
+        for (long tagId : doc.getTagIds()) {
+            removePosting(byTag, tagId, doc.getId());
+        }
+        for (String term : doc.getTerms()) {
+            removePosting(byTerm, term, doc.getId());
+        }
+    }
+
+    private <K> void removePosting(Map<K, Set<Long>> index, K key, Long id) {
+        Set<Long> posting = index.get(key);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 参与相关度计算的内容特征
+     */
+    @Getter
+    public static class Doc {
+
+        private final long id;
+
+        private final Long categoryId;
+
+        /**
+         * 标签ID（升序、去重）
+         */
+        private final long[] tagIds;
+
+        /**
+         * 标题词（升序、去重）
+         */
+        private final String[] terms;
+
+        private final long publishedAt;
+
+        public Doc(long id, Long categoryId, long[] tagIds, List<String> terms, long publishedAt) {
+            this.id = id;
+            this.categoryId = categoryId;
+            this.tagIds = Arrays.stream(tagIds).distinct().sorted().toArray();
+            this.terms = new TreeSet<>(terms).toArray(new String[0]);
+            this.publishedAt = publishedAt;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Doc && ((Doc) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(id);
+        }
+    }
+
+    /**
+     * 候选内容及得分；得分相同时较新的内容排前
+     */
+    @AllArgsConstructor
+    private static class Scored implements Comparable<Scored> {
+
+        private final Doc doc;
+
+        private final double score;
+
+        @Override
+        public int compareTo(Scored other) {
+            int cmp = Double.compare(score, other.score);
+            return cmp != 0 ? cmp : RECENT_FIRST.compare(other.doc, doc);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.cms.module.content.render;
+
+import com.cms.common.base.ApiResponse;
+import com.cms.module.category.entity.Category;
+import com.cms.module.category.event.CategoryChangedEvent;
+import com.cms.module.category.repository.CategoryRepository;
+import com.cms.module.content.dto.PublicContentDTO;
+import com.cms.module.content.dto.PublicContentDetailDTO;
+import com.cms.module.content.dto.PublicContentQueryDTO;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.event.RelatedContentsChangedEvent;
+import com.cms.module.content.related.RelatedContentEngine;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.service.PublicContentService;
+import com.cms.module.site.event.SiteChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 访客端页面静态预渲染
+ * 内容发布、更新、下线后，在后台把该站点受影响的详情、列表片段和相关内容写成JSON文件，
+ * 输出到上传目录下，通过 /files/** 静态资源映射直接提供访问，不经过业务接口和数据库。
+ *
+ * <p>文件布局（相对 /files/{cms.static-render.dir}）：
+ * <pre>
+ * site-{siteId}/home.json                              首页数据
+ * site-{siteId}/contents.json                          最新内容列表第一页
+ * site-{siteId}/categories/{categoryId}.json           分类内容列表第一页（分类隐藏或删除后移除）
+ * site-{siteId}/categories/{categoryId}-related.json   分类最新N条内容（未启用相关内容预计算时使用）
+ * site-{siteId}/contents/{id}.json                     内容详情
+ * site-{siteId}/contents/{id}-related.json             相关内容
+ * </pre>
+ * 文件内容与对应接口的响应体一致。通过 cms.static-render.enabled=true 启用。
+ *
+ * <p>未启用相关内容预计算时，相关内容为同分类最新N条（不含自身），分类内最新N条以外的内容结果都相同，
+ * 因此只为最新N条内容单独生成相关内容文件，其余内容读取所在分类的 {categoryId}-related.json；
+ * 每次变更只重写这N个文件并删除被挤出的内容的文件，代价与分类大小无关。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cms.static-render", name = "enabled", havingValue = "true")
+public class StaticPageRenderer {
+
+    private static final Pattern CATEGORY_LIST_FILE = Pattern.compile("\\d+\\.json");
+
+    private final PublicContentService publicContentService;
+    private final ContentRepository contentRepository;
+    private final CategoryRepository categoryRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<RelatedContentEngine> relatedEngineProvider;
+
+    @Value("${file.upload.path:uploads}")
+    private String uploadPath;
+
+    @Value("${cms.static-render.dir:static}")
+    private String outputDir;
+
+    @Value("${cms.static-render.list-size:10}")
+    private int listSize;
+
+    @Value("${cms.static-render.related-size:5}")
+    private int relatedSize;
+
+    /**
+     * 渲染任务在单线程中顺序执行，同一文件不会被并发写入
+     */
+    private final ExecutorService renderer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "static-renderer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public StaticPageRenderer(PublicContentService publicContentService,
+                              ContentRepository contentRepository,
+                              CategoryRepository categoryRepository,
+                              ObjectMapper objectMapper,
+                              ObjectProvider<RelatedContentEngine> relatedEngineProvider) {
+        this.publicContentService = publicContentService;
+        this.contentRepository = contentRepository;
+        this.categoryRepository = categoryRepository;
+        this.objectMapper = objectMapper;
+        this.relatedEngineProvider = relatedEngineProvider;
+    }
+
+    /**
+     * 内容变更后增量渲染：内容详情、所在（及原）分类列表、站点列表、首页和分类内的相关内容
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!event.affectsPublicView()) {
+            return;
+        }
+        submit(() -> {
+            Set<Long> categoryIds = new LinkedHashSet<>();
+            if (event.getCategoryId() != null) {
+                categoryIds.add(event.getCategoryId());
+            }
+            if (event.getOldCategoryId() != null) {
+                categoryIds.add(event.getOldCategoryId());
+            }
+
+            renderDetail(event.getSiteId(), event.getContentId());
+            renderSiteLists(event.getSiteId());
+            for (Long categoryId : categoryIds) {
+                renderCategory(event.getSiteId(), categoryId);
+            }
+        });
+    }
+
+    /**
+     * 预计算的相关内容变化后重新渲染对应的相关内容文件
+     */
+    @EventListener
+    public void onRelatedContentsChanged(RelatedContentsChangedEvent event) {
+        submit(() -> {
+            for (Long contentId : event.getContentIds()) {
+                write(contentDir(event.getSiteId()).resolve(contentId + "-related.json"),
+                        publicContentService.getRelatedContents(contentId, relatedSize));
+            }
+        });
+    }
+
+    /**
+     * 分类变更后重新渲染首页和该分类列表（分类隐藏或删除时移除列表文件），
+     * 分类改名时同时重新渲染该分类下的内容详情
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        submit(() -> {
+            renderSiteLists(event.getSiteId());
+            renderCategory(event.getSiteId(), event.getCategoryId());
+            if (event.isRenamed()) {
+                renderDetails(event.getSiteId(),
+                        contentRepository.findPublishedIdsByCategoryId(event.getSiteId(), event.getCategoryId()));
+            }
+        });
+    }
+
+    /**
+     * 站点改名后重新渲染站点下的内容详情（列表和首页不含站点名称）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSiteChanged(SiteChangedEvent event) {
+        if (!event.isRenamed()) {
+            return;
+        }
+        submit(() -> renderDetails(event.getSiteId(), contentRepository.findPublishedIdsBySiteId(event.getSiteId())));
+    }
+
+    /**
+     * 全量渲染站点（首次启用或输出目录丢失时使用）
+     */
+    public void renderSite(Long siteId) {
+        submit(() -> {
+            long start = System.currentTimeMillis();
+            renderSiteLists(siteId);
+            Set<Long> categoryIds = new HashSet<>();
+            Set<Long> relatedHeads = new HashSet<>();
+            for (Category category : categoryRepository.findBySiteIdAndDeletedFalseOrderBySortOrderAsc(siteId)) {
+                categoryIds.add(category.getId());
+                relatedHeads.addAll(renderCategory(siteId, category.getId()));
+            }
+            deleteCategoryListsExcept(siteId, categoryIds);
+
+            for (Long contentId : contentRepository.findPublishedIdsBySiteId(siteId)) {
+                renderDetail(siteId, contentId);
+                if (relatedEngineProvider.getIfAvailable() == null && !relatedHeads.contains(contentId)) {
+                    delete(contentDir(siteId).resolve(contentId + "-related.json"));
+                }
+            }
+            log.info("站点静态页面渲染完成: siteId={}, 耗时={}ms", siteId, System.currentTimeMillis() - start);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderer.shutdown();
+        try {
+            if (!renderer.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("静态页面渲染任务未在30秒内结束");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submit(Runnable task) {
+        renderer.submit(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("静态页面渲染失败", e);
+            }
+        });
+    }
+
+    /**
+     * 渲染首页和站点最新内容列表
+     */
+    private void renderSiteLists(Long siteId) {
+        write(siteDir(siteId).resolve("home.json"), publicContentService.getHomePageData(siteId));
+        write(siteDir(siteId).resolve("contents.json"), publicContentService.getPublishedContents(listQuery(siteId, null, listSize)));
+    }
+
+    /**
+     * 渲染分类列表（分类已隐藏或删除时移除列表文件）；未启用相关内容预计算时同时更新分类的相关内容文件
+     *
+     * @return 单独生成了相关内容文件的内容ID
+     */
+    private Set<Long> renderCategory(Long siteId, Long categoryId) {
+        boolean visible = categoryRepository.findById(categoryId)
+                .map(category -> !category.isDeleted() && Boolean.TRUE.equals(category.getIsVisible()))
+                .orElse(false);
+        Path listFile = siteDir(siteId).resolve("categories").resolve(categoryId + ".json");
+        if (visible) {
+            write(listFile, publicContentService.getPublishedContents(listQuery(siteId, categoryId, listSize)));
+        } else {
+            delete(listFile);
+        }
+
+        if (relatedEngineProvider.getIfAvailable() != null) {
+            return Collections.emptySet();
+        }
+        return renderCategoryRelated(siteId, categoryId);
+    }
+
+    /**
+     * 未启用相关内容预计算时渲染分类的相关内容：分类最新N条写入分类文件，
+     * 这N条内容各自的相关内容（排除自身后取N条）单独写入，被挤出最新N条的内容删除单独的文件
+     *
+     * @return 单独生成了相关内容文件的内容ID
+     */
+    private Set<Long> renderCategoryRelated(Long siteId, Long categoryId) {
+        Path categoryFile = siteDir(siteId).resolve("categories").resolve(categoryId + "-related.json");
+        Set<Long> previous = readIds(categoryFile);
+
+        List<PublicContentDTO> newest = publicContentService
+                .getPublishedContents(listQuery(siteId, categoryId, relatedSize + 1)).getContent();
+        Set<Long> heads = new LinkedHashSet<>();
+        if (newest.isEmpty()) {
+            delete(categoryFile);
+        } else {
+            write(categoryFile, newest.subList(0, Math.min(relatedSize, newest.size())));
+            for (int i = 0; i < Math.min(relatedSize, newest.size()); i++) {
+                Long contentId = newest.get(i).getId();
+                List<PublicContentDTO> related = new ArrayList<>(newest);
+                related.remove(i);
+                write(contentDir(siteId).resolve(contentId + "-related.json"),
+                        related.subList(0, Math.min(relatedSize, related.size())));
+                heads.add(contentId);
+            }
+        }
+
+        for (Long contentId : previous) {
+            if (!heads.contains(contentId)) {
+                delete(contentDir(siteId).resolve(contentId + "-related.json"));
+            }
+        }
+        return heads;
+    }
+
+    /**
+     * 渲染内容详情（启用相关内容预计算时一并渲染相关内容）；内容已下线或删除时移除对应文件
+     */
+    private void renderDetails(Long siteId, List<Long> contentIds) {
+        long start = System.currentTimeMillis();
+        for (Long contentId : contentIds) {
+            renderDetail(siteId, contentId);
+        }
+        log.info("内容详情重新渲染完成: siteId={}, count={}, 耗时={}ms", siteId, contentIds.size(), System.currentTimeMillis() - start);
+    }
+
+    private void renderDetail(Long siteId, Long contentId) {
+        PublicContentDetailDTO detail = publicContentService.getPublishedContentDetail(contentId);
+        if (detail == null) {
+            delete(contentDir(siteId).resolve(contentId + ".json"));
+            delete(contentDir(siteId).resolve(contentId + "-related.json"));
+            return;
+        }
+        write(contentDir(siteId).resolve(contentId + ".json"), detail);
+        if (relatedEngineProvider.getIfAvailable() != null) {
+            write(contentDir(siteId).resolve(contentId + "-related.json"),
+                    publicContentService.getRelatedContents(contentId, relatedSize));
+        }
+    }
+
+    /**
+     * 删除已不存在的分类的列表文件
+     */
+    private void deleteCategoryListsExcept(Long siteId, Set<Long> visibleIds) {
+        Path dir = siteDir(siteId).resolve("categories");
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(file -> CATEGORY_LIST_FILE.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !visibleIds.contains(Long.valueOf(file.getFileName().toString().replace(".json", ""))))
+                    .forEach(this::delete);
+        } catch (IOException e) {
+            log.warn("清理分类列表文件失败: dir={}, error={}", dir, e.getMessage());
+        }
+    }
+
+    /**
+     * 读取已渲染列表文件中的内容ID（文件不存在或无法解析时返回空集合）
+     */
+    private Set<Long> readIds(Path file) {
+        Set<Long> ids = new LinkedHashSet<>();
+        if (!Files.exists(file)) {
+            return ids;
+        }
+        try {
+            for (JsonNode item : objectMapper.readTree(file.toFile()).path("data")) {
+                ids.add(item.path("id").asLong());
+            }
+        } catch (IOException e) {
+            log.warn("静态页面读取失败: file={}, error={}", file, e.getMessage());
+        }
+        return ids;
+    }
+
+    private PublicContentQueryDTO listQuery(Long siteId, Long categoryId, int size) {
+        PublicContentQueryDTO queryDTO = new PublicContentQueryDTO();
+        queryDTO.setSiteId(siteId);
+        queryDTO.setCategoryId(categoryId);
+        queryDTO.setPage(0);
+        queryDTO.setSize(size);
+        return queryDTO;
+    }
+
+    /**
+     * 以接口响应体格式写入文件（先写临时文件再原子替换，读取方不会看到写了一半的文件）
+     */
+    private void write(Path file, Object data) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), ApiResponse.success(data));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("静态页面写入失败: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    private void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("静态页面删除失败: file={}, error={}", file, e.getMessage());
+        }
+    }
+
+    private Path siteDir(Long siteId) {
+        return Paths.get(uploadPath).toAbsolutePath().normalize().resolve(outputDir).resolve("site-" + siteId);
+    }
+
+    private Path contentDir(Long siteId) {
+        return siteDir(siteId).resolve("contents");
+    }
+}
@@ -0,0 +1,20 @@
+package com.cms.module.content.repository;
+
+/**
+ * 分类内容数量统计投影
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface CategoryContentCount {
+
+    /**
+     * 分类ID
+     */
+    Long getCategoryId();
+
+    /**
+     * 已发布内容数量
+     */
+    Long getContentCount();
+}
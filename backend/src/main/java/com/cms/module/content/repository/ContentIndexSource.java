@@ -0,0 +1,43 @@
+package com.cms.module.content.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容检索索引数据投影
+ * 只包含建立倒排索引需要的字段，不加载实体的其余列
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface ContentIndexSource {
+
+    /**
+     * 内容ID
+     */
+    Long getId();
+
+    /**
+     * 站点ID
+     */
+    Long getSiteId();
+
+    /**
+     * 标题
+     */
+    String getTitle();
+
+    /**
+     * 正文（HTML）
+     */
+    String getContent();
+
+    /**
+     * 发布时间
+     */
+    LocalDateTime getPublishedAt();
+
+    /**
+     * 更新时间
+     */
+    LocalDateTime getUpdatedAt();
+}
@@ -5,10 +5,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 内容仓库
@@ -17,7 +25,7 @@ import java.util.Optional;
  * @since 1.0.0
  */
 @Repository
-public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpecificationExecutor<Content> {
+public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpecificationExecutor<Content>, ContentRepositoryCustom {
 
     /**
      * 根据ID和未删除标记查找
@@ -63,5 +71,166 @@ public interface ContentRepository extends JpaRepository<Content, Long>, JpaSpec
      * 根据状态查找所有内容
      */
     List<Content> findByStatusAndDeletedFalse(String status);
-}
 
+    /**
+     * 按分类分组统计站点下已发布内容数量（单次查询）
+     *
+     * @param siteId 站点ID
+     * @return 各分类的已发布内容数量（仅包含有内容的分类）
+     */
+    @Query("SELECT c.categoryId AS categoryId, COUNT(c.id) AS contentCount FROM Content c " +
+            "WHERE c.siteId = :siteId AND c.status = 'PUBLISHED' AND c.deleted = false AND c.categoryId IS NOT NULL " +
+            "GROUP BY c.categoryId")
+    List<CategoryContentCount> countPublishedGroupByCategory(@Param("siteId") Long siteId);
+
+    /**
+     * 按站点分组统计内容数量和浏览量（站点统计对账使用）
+     *
+     * @return 各站点的内容统计（仅包含有内容的站点）
+     */
+    @Query("SELECT c.siteId AS siteId, COUNT(c.id) AS contentCount, " +
+            "SUM(CASE WHEN c.status = 'PUBLISHED' THEN 1 ELSE 0 END) AS publishedCount, " +
+            "SUM(CASE WHEN c.status = 'DRAFT' THEN 1 ELSE 0 END) AS draftCount, " +
+            "SUM(COALESCE(c.viewCount, 0)) AS viewCount " +
+            "FROM Content c WHERE c.deleted = false GROUP BY c.siteId")
+    List<SiteContentCount> countGroupBySite();
+
+    /**
+     * 按站点分组查询内容最后修改时间（含已删除内容，删除也会改变公开内容）
+     *
+     * @return 各站点内容的最后修改时间
+     */
+    @Query("SELECT c.siteId AS siteId, MAX(c.updatedAt) AS lastModified FROM Content c GROUP BY c.siteId")
+    List<SiteContentModified> findLastModifiedGroupBySite();
+
+    /**
+     * 增量累加浏览次数（不修改更新时间和版本号）
+     *
+     * @param id    内容ID
+     * @param delta 增量
+     * @return 影响行数
+     */
+    @Modifying
+    @Query("UPDATE Content c SET c.viewCount = COALESCE(c.viewCount, 0) + :delta, c.updatedAt = c.updatedAt WHERE c.id = :id")
+    int incrementViewCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 全文搜索已发布内容（MATCH ... AGAINST 布尔模式，按相关度倒序）
+     *
+     * @param siteId   站点ID（为空时不限站点）
+     * @param keyword  布尔模式搜索表达式
+     * @param pageable 分页参数（排序由查询本身决定）
+     * @return 内容ID分页数据（原生查询的ID为数据库数值类型，如BIGINT对应BigInteger，由调用方转换；
+     *         列表字段另行按ID投影查询，不读取正文）
+     */
+    @Query(value = "SELECT c.id FROM contents c " +
+            "WHERE c.deleted = 0 AND c.status = 'PUBLISHED' AND (:siteId IS NULL OR c.site_id = :siteId) " +
+            "AND MATCH(c.title, c.content) AGAINST (:keyword IN BOOLEAN MODE) " +
+            "ORDER BY MATCH(c.title, c.content) AGAINST (:keyword IN BOOLEAN MODE) DESC, c.published_at DESC",
+            countQuery = "SELECT COUNT(*) FROM contents c " +
+                    "WHERE c.deleted = 0 AND c.status = 'PUBLISHED' AND (:siteId IS NULL OR c.site_id = :siteId) " +
+                    "AND MATCH(c.title, c.content) AGAINST (:keyword IN BOOLEAN MODE)",
+            nativeQuery = true)
+    Page<Number> searchPublishedIdsByFulltext(@Param("siteId") Long siteId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 查询站点下所有已发布内容的ID
+     *
+     * @param siteId 站点ID
+     * @return 内容ID列表
+     */
+    @Query("SELECT c.id FROM Content c WHERE c.siteId = :siteId AND c.status = 'PUBLISHED' AND c.deleted = false")
+    List<Long> findPublishedIdsBySiteId(@Param("siteId") Long siteId);
+
+    /**
+     * 查询分类下所有已发布内容的ID
+     *
+     * @param siteId     站点ID
+     * @param categoryId 分类ID
+     * @return 内容ID列表
+     */
+    @Query("SELECT c.id FROM Content c WHERE c.siteId = :siteId AND c.categoryId = :categoryId " +
+            "AND c.status = 'PUBLISHED' AND c.deleted = false")
+    List<Long> findPublishedIdsByCategoryId(@Param("siteId") Long siteId, @Param("categoryId") Long categoryId);
+
+    /**
+     * 查询已发布内容的缓存校验信息（不加载实体）
+     *
+     * @param id 内容ID
+     * @return 校验信息
+     */
+    @Query("SELECT c.siteId AS siteId, c.updatedAt AS updatedAt, c.version AS version FROM Content c " +
+            "WHERE c.id = :id AND c.status = 'PUBLISHED' AND c.deleted = false")
+    Optional<ContentValidator> findPublishedValidatorById(@Param("id") Long id);
+
+    /**
+     * 批量查询内容的标签关联
+     *
+     * @param contentIds 内容ID列表
+     * @return 内容标签关联
+     */
+    @Query(value = "SELECT ct.content_id AS contentId, ct.tag_id AS tagId FROM content_tags ct WHERE ct.content_id IN (:contentIds)",
+            nativeQuery = true)
+    List<ContentTagRef> findTagRefsByContentIds(@Param("contentIds") Collection<Long> contentIds);
+
+    /**
+     * 查询分类下已发布内容的ID
+     *
+     * @param categoryId 分类ID
+     * @return 内容ID列表
+     */
+    @Query("SELECT c.id FROM Content c WHERE c.categoryId = :categoryId AND c.status = 'PUBLISHED' AND c.deleted = false")
+    List<Long> findPublishedIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * 按ID顺序分批读取站点下已发布内容的索引数据（用于重建索引）
+     *
+     * @param siteId   站点ID
+     * @param lastId   上一批的最大ID
+     * @param pageable 批大小
+     * @return 索引数据
+     */
+    @Query("SELECT c.id AS id, c.siteId AS siteId, c.title AS title, c.content AS content, " +
+            "c.publishedAt AS publishedAt, c.updatedAt AS updatedAt FROM Content c " +
+            "WHERE c.siteId = :siteId AND c.status = 'PUBLISHED' AND c.deleted = false " +
+            "AND c.id > :lastId ORDER BY c.id ASC")
+    List<ContentIndexSource> findPublishedIndexSourcesAfterId(@Param("siteId") Long siteId, @Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 查询站点下指定时间及之后更新过的已发布内容的索引数据
+     *
+     * @param siteId    站点ID
+     * @param updatedAt 更新时间下限（含）
+     * @return 索引数据
+     */
+    @Query("SELECT c.id AS id, c.siteId AS siteId, c.title AS title, c.content AS content, " +
+            "c.publishedAt AS publishedAt, c.updatedAt AS updatedAt FROM Content c " +
+            "WHERE c.siteId = :siteId AND c.status = 'PUBLISHED' AND c.deleted = false " +
+            "AND c.updatedAt >= :updatedAt")
+    List<ContentIndexSource> findPublishedIndexSourcesUpdatedAfter(@Param("siteId") Long siteId, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 按ID查询已发布内容的索引数据
+     *
+     * @param ids 内容ID列表
+     * @return 索引数据（已不可见的内容不返回）
+     */
+    @Query("SELECT c.id AS id, c.siteId AS siteId, c.title AS title, c.content AS content, " +
+            "c.publishedAt AS publishedAt, c.updatedAt AS updatedAt FROM Content c " +
+            "WHERE c.id IN (:ids) AND c.status = 'PUBLISHED' AND c.deleted = false")
+    List<ContentIndexSource> findPublishedIndexSourcesByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 流式读取站点下所有未删除的内容（按ID升序，调用方需在只读事务内消费并关闭）
+     * MySQL驱动仅在fetchSize为Integer.MIN_VALUE时逐行读取结果集，否则会一次性加载到内存
+     *
+     * @param siteId 站点ID
+     * @return 内容流
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("SELECT c FROM Content c WHERE c.siteId = :siteId AND c.deleted = false ORDER BY c.id ASC")
+    Stream<Content> streamBySiteId(@Param("siteId") Long siteId);
+}
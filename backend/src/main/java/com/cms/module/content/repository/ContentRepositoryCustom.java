@@ -0,0 +1,47 @@
+package com.cms.module.content.repository;
+
+import com.cms.module.content.entity.Content;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 内容仓库自定义查询
+ * 列表查询只选择 {@link ContentSummary} 中的字段，不加载正文
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface ContentRepositoryCustom {
+
+    /**
+     * 按条件分页查询内容列表
+     *
+     * @param spec     查询条件
+     * @param pageable 分页和排序
+     * @return 内容列表分页
+     */
+    Page<ContentSummary> findSummaries(Specification<Content> spec, Pageable pageable);
+
+    /**
+     * 按条件和排序查询前N条（不执行count查询）
+     *
+     * @param spec  查询条件
+     * @param sort  排序
+     * @param limit 最大条数
+     * @return 内容列表
+     */
+    List<ContentSummary> findSummaries(Specification<Content> spec, Sort sort, int limit);
+
+    /**
+     * 按条件和排序查询全部
+     *
+     * @param spec 查询条件
+     * @param sort 排序
+     * @return 内容列表
+     */
+    List<ContentSummary> findSummaries(Specification<Content> spec, Sort sort);
+}
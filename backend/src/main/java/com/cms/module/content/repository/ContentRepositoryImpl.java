@@ -0,0 +1,89 @@
+package com.cms.module.content.repository;
+
+import com.cms.module.content.entity.Content;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.List;
+
+/**
+ * 内容仓库自定义查询实现
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class ContentRepositoryImpl implements ContentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ContentSummary> findSummaries(Specification<Content> spec, Pageable pageable) {
+        TypedQuery<ContentSummary> query = createSummaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ContentSummary> findSummaries(Specification<Content> spec, Sort sort, int limit) {
+        return createSummaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ContentSummary> findSummaries(Specification<Content> spec, Sort sort) {
+        return createSummaryQuery(spec, sort).getResultList();
+    }
+
+    private TypedQuery<ContentSummary> createSummaryQuery(Specification<Content> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ContentSummary> query = cb.createQuery(ContentSummary.class);
+        Root<Content> root = query.from(Content.class);
+
+        Selection<?>[] selections = new Selection<?>[ContentSummary.COLUMNS.length];
+        for (int i = 0; i < selections.length; i++) {
+            selections[i] = root.get(ContentSummary.COLUMNS[i]);
+        }
+        query.select(cb.construct(ContentSummary.class, selections));
+
+        applySpecification(spec, root, query, cb);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Content> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Content> root = query.from(Content.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void applySpecification(Specification<Content> spec, Root<Content> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+    }
+}
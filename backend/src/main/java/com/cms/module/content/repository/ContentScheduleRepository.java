@@ -0,0 +1,89 @@
+package com.cms.module.content.repository;
+
+import com.cms.module.content.entity.ContentSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 内容定时发布Repository
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Repository
+public interface ContentScheduleRepository extends JpaRepository<ContentSchedule, Long> {
+
+    /**
+     * 查询内容的定时记录（执行时间倒序）
+     */
+    List<ContentSchedule> findByContentIdOrderByExecuteAtDesc(Long contentId);
+
+    /**
+     * 查询指定时间前到期、且未被其他节点持有租约的待执行记录（走 idx_status_execute_at）
+     *
+     * @param until 到期时间上限
+     * @param now   当前时间（租约到期判断）
+     */
+    @Query("SELECT s FROM ContentSchedule s WHERE s.status = 'PENDING' AND s.executeAt < :until " +
+            "AND (s.leaseUntil IS NULL OR s.leaseUntil < :now) ORDER BY s.executeAt ASC")
+    List<ContentSchedule> findLoadable(@Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+
+    /**
+     * 批量抢占租约：只有待执行且租约为空或已过期的记录会被当前节点持有
+     *
+     * @return 抢占成功的数量
+     */
+    @Modifying
+    @Query("UPDATE ContentSchedule s SET s.leaseOwner = :owner, s.leaseUntil = :leaseUntil " +
+            "WHERE s.id IN :ids AND s.status = 'PENDING' AND (s.leaseUntil IS NULL OR s.leaseUntil < :now)")
+    int lease(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    /**
+     * 查询当前节点持有租约的待执行记录
+     */
+    List<ContentSchedule> findByIdInAndLeaseOwnerAndStatus(Collection<Long> ids, String leaseOwner, String status);
+
+    /**
+     * 批量标记为已执行
+     */
+    @Modifying
+    @Query("UPDATE ContentSchedule s SET s.status = 'DONE', s.executedAt = :now, s.attempts = s.attempts + 1, " +
+            "s.leaseUntil = NULL WHERE s.id IN :ids AND s.leaseOwner = :owner")
+    int markDone(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 记录执行失败：只更新当前节点持有租约的待执行记录（不会覆盖并发的取消），次数达到上限时标记为失败
+     * 状态先于次数赋值，MySQL按赋值顺序使用更新后的值
+     *
+     * @return 更新的数量
+     */
+    @Modifying
+    @Query("UPDATE ContentSchedule s SET " +
+            "s.status = CASE WHEN s.attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE s.status END, " +
+            "s.attempts = s.attempts + 1, s.lastError = :error " +
+            "WHERE s.id = :id AND s.leaseOwner = :owner AND s.status = 'PENDING'")
+    int markFailed(@Param("id") Long id, @Param("owner") String owner, @Param("error") String error,
+                   @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 取消待执行记录
+     */
+    @Modifying
+    @Query("UPDATE ContentSchedule s SET s.status = 'CANCELLED' WHERE s.id = :id AND s.status = 'PENDING'")
+    int cancel(@Param("id") Long id);
+
+    /**
+     * 取消内容的所有待执行记录（内容删除时）
+     */
+    @Modifying
+    @Query("UPDATE ContentSchedule s SET s.status = 'CANCELLED' WHERE s.contentId = :contentId AND s.status = 'PENDING'")
+    int cancelByContentId(@Param("contentId") Long contentId);
+}
@@ -0,0 +1,86 @@
+package com.cms.module.content.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容列表投影
+ * 只包含列表展示需要的字段，不包含LONGTEXT正文；正文只在详情查询时加载。
+ *
+ * <p>构造参数顺序与 {@link #COLUMNS} 一致，用于JPA构造器表达式。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContentSummary {
+
+    /**
+     * 投影查询的实体属性（与字段声明顺序一致）
+     */
+    static final String[] COLUMNS = {
+            "id", "siteId", "categoryId", "title", "slug", "summary", "contentType", "template",
+            "coverImage", "authorId", "authorName", "status", "approvalStatus", "workflowInstanceId",
+            "submittedAt", "approvedAt", "approvedBy", "publishedAt", "viewCount", "isTop",
+            "isFeatured", "isOriginal", "createdAt", "updatedAt", "createdBy", "updatedBy", "version"
+    };
+
+    private Long id;
+
+    private Long siteId;
+
+    private Long categoryId;
+
+    private String title;
+
+    private String slug;
+
+    private String summary;
+
+    private String contentType;
+
+    private String template;
+
+    private String coverImage;
+
+    private Long authorId;
+
+    private String authorName;
+
+    private String status;
+
+    private String approvalStatus;
+
+    private Long workflowInstanceId;
+
+    private LocalDateTime submittedAt;
+
+    private LocalDateTime approvedAt;
+
+    private Long approvedBy;
+
+    private LocalDateTime publishedAt;
+
+    private Integer viewCount;
+
+    private Boolean isTop;
+
+    private Boolean isFeatured;
+
+    private Boolean isOriginal;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long createdBy;
+
+    private Long updatedBy;
+
+    private Integer version;
+}
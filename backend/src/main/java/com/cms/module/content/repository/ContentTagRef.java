@@ -0,0 +1,20 @@
+package com.cms.module.content.repository;
+
+/**
+ * 内容标签关联投影
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface ContentTagRef {
+
+    /**
+     * 内容ID
+     */
+    Long getContentId();
+
+    /**
+     * 标签ID
+     */
+    Long getTagId();
+}
@@ -0,0 +1,27 @@
+package com.cms.module.content.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 内容缓存校验信息投影（用于ETag / Last-Modified）
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface ContentValidator {
+
+    /**
+     * 站点ID
+     */
+    Long getSiteId();
+
+    /**
+     * 更新时间
+     */
+    LocalDateTime getUpdatedAt();
+
+    /**
+     * 乐观锁版本号
+     */
+    Integer getVersion();
+}
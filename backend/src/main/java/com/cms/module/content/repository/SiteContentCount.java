@@ -0,0 +1,35 @@
+package com.cms.module.content.repository;
+
+/**
+ * 站点内容数量统计投影
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface SiteContentCount {
+
+    /**
+     * 站点ID
+     */
+    Long getSiteId();
+
+    /**
+     * 内容总数（不含已删除）
+     */
+    Long getContentCount();
+
+    /**
+     * 已发布内容数量
+     */
+    Long getPublishedCount();
+
+    /**
+     * 草稿数量
+     */
+    Long getDraftCount();
+
+    /**
+     * 浏览量合计
+     */
+    Long getViewCount();
+}
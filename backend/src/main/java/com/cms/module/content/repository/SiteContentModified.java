@@ -0,0 +1,22 @@
+package com.cms.module.content.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 站点内容最后修改时间投影
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface SiteContentModified {
+
+    /**
+     * 站点ID
+     */
+    Long getSiteId();
+
+    /**
+     * 站点内容（含已删除）的最后修改时间
+     */
+    LocalDateTime getLastModified();
+}
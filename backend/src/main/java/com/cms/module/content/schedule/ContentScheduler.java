@@ -0,0 +1,228 @@
+package com.cms.module.content.schedule;
+
+import com.cms.module.content.entity.ContentSchedule;
+import com.cms.module.content.repository.ContentScheduleRepository;
+import com.cms.module.content.service.ContentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 内容定时发布调度器
+ * 待执行记录加载到内存中的分层时间轮（第一层每格1秒），每秒推进时间轮只涉及内存操作，
+ * 不查询数据库；只有到期时才访问数据库，按批抢占租约后调用 {@link ContentService#updateContentStatus}。
+ *
+ * <p>多节点部署时每个节点都会加载同一批记录，租约保证同一条记录只由一个节点执行。
+ * 每隔 cms.content.schedule.reload-interval 重新加载即将到期的记录，
+ * 以获取其他节点新建的记录以及宕机节点遗留的过期租约。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cms.content.schedule", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ContentScheduler {
+
+    private static final long TICK_MS = 1000L;
+    private static final int WHEEL_SIZE = 60;
+
+    private final ContentScheduleRepository scheduleRepository;
+    private final ContentService contentService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cms.content.schedule.reload-interval:300000}")
+    private long reloadInterval;
+
+    @Value("${cms.content.schedule.lease-duration:60000}")
+    private long leaseDuration;
+
+    @Value("${cms.content.schedule.batch-size:100}")
+    private int batchSize;
+
+    @Value("${cms.content.schedule.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * 节点标识（租约持有者）
+     */
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    private final TimingWheel<Long> wheel = new TimingWheel<>(TICK_MS, WHEEL_SIZE, System.currentTimeMillis());
+
+    /**
+     * 已加入时间轮的记录（记录ID -> 执行时间），用于去重和取消
+     */
+    private final Map<Long, Long> scheduled = new ConcurrentHashMap<>();
+
+    /**
+     * 加入时已到期、等待下一次推进时执行的记录
+     */
+    private final List<Long> overdue = new ArrayList<>();
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "content-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ContentScheduler(ContentScheduleRepository scheduleRepository, ContentService contentService,
+                            TransactionTemplate transactionTemplate) {
+        this.scheduleRepository = scheduleRepository;
+        this.contentService = contentService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 应用启动后加载待执行记录并开始推进时间轮
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker.scheduleWithFixedDelay(() -> run(this::reload), 0, reloadInterval, TimeUnit.MILLISECONDS);
+        ticker.scheduleAtFixedRate(() -> run(this::tick), TICK_MS, TICK_MS, TimeUnit.MILLISECONDS);
+        log.info("内容定时发布调度器已启动: node={}", nodeId);
+    }
+
+    /**
+     * 加入时间轮（重复加入同一记录会被忽略）
+     */
+    public void add(Long scheduleId, LocalDateTime executeAt) {
+        long expiration = toEpochMilli(executeAt);
+        synchronized (wheel) {
+            if (scheduled.putIfAbsent(scheduleId, expiration) != null) {
+                return;
+            }
+            if (!wheel.add(expiration, scheduleId)) {
+                overdue.add(scheduleId);
+            }
+        }
+    }
+
+    /**
+     * 从时间轮移除（时间轮中的条目到期时跳过）
+     */
+    public void remove(Long scheduleId) {
+        scheduled.remove(scheduleId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+        try {
+            if (!ticker.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("内容定时发布任务未在30秒内结束");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 加载两个加载周期内到期的记录
+     */
+    private void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ContentSchedule> schedules = scheduleRepository.findLoadable(
+                now.plus(Duration.ofMillis(reloadInterval * 2)), now);
+        for (ContentSchedule schedule : schedules) {
+            add(schedule.getId(), schedule.getExecuteAt());
+        }
+        log.debug("定时发布记录已加载: count={}, wheel={}", schedules.size(), scheduled.size());
+    }
+
+    /**
+     * 推进时间轮，执行到期记录
+     */
+    private void tick() {
+        List<Long> due = new ArrayList<>();
+        synchronized (wheel) {
+            due.addAll(overdue);
+            overdue.clear();
+            due.addAll(wheel.advance(System.currentTimeMillis()));
+        }
+        due.removeIf(id -> scheduled.remove(id) == null);
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            execute(due.subList(from, Math.min(from + batchSize, due.size())));
+        }
+    }
+
+    /**
+     * 批量抢占租约并执行
+     */
+    private void execute(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseDuration));
+        List<ContentSchedule> leased = transactionTemplate.execute(status -> {
+            scheduleRepository.lease(ids, nodeId, leaseUntil, now);
+            return scheduleRepository.findByIdInAndLeaseOwnerAndStatus(ids, nodeId, ContentSchedule.STATUS_PENDING);
+        });
+        if (leased == null || leased.isEmpty()) {
+            return;
+        }
+
+        List<Long> done = new ArrayList<>();
+        for (ContentSchedule schedule : leased) {
+            String status = ContentSchedule.ACTION_PUBLISH.equals(schedule.getAction()) ? "PUBLISHED" : "DRAFT";
+            try {
+                // 调度线程没有登录用户，以创建定时记录的用户作为操作人
+                contentService.updateContentStatus(schedule.getContentId(), status, schedule.getCreatedBy());
+                done.add(schedule.getId());
+            } catch (Exception e) {
+                fail(schedule, e);
+            }
+        }
+        if (!done.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduleRepository.markDone(done, nodeId, LocalDateTime.now()));
+        }
+        log.info("定时发布执行完成: leased={}, done={}", leased.size(), done.size());
+    }
+
+    /**
+     * 记录失败；未超过最大次数时保留租约，过期后由重新加载再次执行
+     * 按条件更新而不保存租约时读取的实体，执行期间被取消的记录保持取消状态
+     */
+    private void fail(ContentSchedule schedule, Exception e) {
+        log.warn("定时发布执行失败: id={}, contentId={}, error={}", schedule.getId(), schedule.getContentId(), e.getMessage());
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        String error = message.length() > 500 ? message.substring(0, 500) : message;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduleRepository.markFailed(schedule.getId(), nodeId, error, maxAttempts));
+        } catch (Exception saveError) {
+            log.warn("定时发布失败状态保存失败: id={}, error={}", schedule.getId(), saveError.getMessage());
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("内容定时发布调度异常", e);
+        }
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,149 @@
+package com.cms.module.content.schedule;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * 分层时间轮
+ * 第一层每格 tickMs、共 wheelSize 格；超出本层范围的任务放入上一层（每格为下层一圈），
+ * 上层格子到期时把任务重新放回下层，逐层降级直到到期。添加和推进一格都是O(1)，与任务数量无关。
+ *
+ * <p>非线程安全，由调用方加锁。
+ *
+ * @param <T> 任务类型
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class TimingWheel<T> {
+
+    private final long tickMs;
+
+    private final int wheelSize;
+
+    private final long interval;
+
+    private final List<LinkedList<Entry<T>>> buckets;
+
+    /**
+     * 当前时间（tickMs的整数倍）
+     */
+    private long currentTime;
+
+    private TimingWheel<T> overflowWheel;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new LinkedList<>());
+        }
+    }
+
+    /**
+     * 添加任务
+     *
+     * @return 已到期（不会加入时间轮）时返回false，调用方应立即执行
+     */
+    public boolean add(long expiration, T task) {
+        return add(new Entry<>(expiration, task));
+    }
+
+    /**
+     * 推进时钟到指定时间
+     *
+     * @return 到期的任务（按到期格子顺序）
+     */
+    public List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        while (currentTime + tickMs <= nowMs) {
+            tick(expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 时间轮中的任务数量
+     */
+    public int size() {
+        int size = 0;
+        for (LinkedList<Entry<T>> bucket : buckets) {
+            size += bucket.size();
+        }
+        return overflowWheel == null ? size : size + overflowWheel.size();
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.expiration < currentTime + tickMs) {
+            return false;
+        }
+        if (entry.expiration < currentTime + interval) {
+            buckets.get((int) ((entry.expiration / tickMs) % wheelSize)).add(entry);
+            return true;
+        }
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel.add(entry);
+    }
+
+    /**
+     * 推进一格：上层到期的任务降级放回本层，本层当前格子中的任务到期
+     */
+    private void tick(List<T> expired) {
+        currentTime += tickMs;
+        if (overflowWheel != null) {
+            for (Entry<T> entry : overflowWheel.advanceEntries(currentTime)) {
+                reinsert(entry, expired);
+            }
+        }
+        LinkedList<Entry<T>> bucket = buckets.get((int) ((currentTime / tickMs) % wheelSize));
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.expiration < currentTime + tickMs) {
+                iterator.remove();
+                expired.add(entry.task);
+            }
+        }
+    }
+
+    /**
+     * 上层推进到指定时间，返回需要降级的任务
+     */
+    private List<Entry<T>> advanceEntries(long nowMs) {
+        List<Entry<T>> result = new ArrayList<>();
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            if (overflowWheel != null) {
+                result.addAll(overflowWheel.advanceEntries(currentTime));
+            }
+            LinkedList<Entry<T>> bucket = buckets.get((int) ((currentTime / tickMs) % wheelSize));
+            result.addAll(bucket);
+            bucket.clear();
+        }
+        return result;
+    }
+
+    private void reinsert(Entry<T> entry, List<T> expired) {
+        if (!add(entry)) {
+            expired.add(entry.task);
+        }
+    }
+
+    private static class Entry<T> {
+
+        private final long expiration;
+
+        private final T task;
+
+        Entry(long expiration, T task) {
+            this.expiration = expiration;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.cms.module.content.search;
+
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.repository.ContentIndexSource;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.site.entity.Site;
+import com.cms.module.site.repository.SiteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 已发布内容的进程内搜索引擎
+ * 每个站点一个倒排索引分区；启动时优先加载磁盘段文件并增量追赶数据库，
+ * 运行期间根据内容变更事件增量维护，并定期把有变化的分区写回磁盘。
+ *
+ * <p>通过 cms.search.index.enabled=true 启用，cms.search.mode=INDEX 时访客端搜索使用该引擎。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "cms.search.index", name = "enabled", havingValue = "true")
+public class ContentSearchEngine {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ContentRepository contentRepository;
+    private final SiteRepository siteRepository;
+
+    @Value("${cms.search.index.path:search-index}")
+    private String indexPath;
+
+    private final Map<Long, SiteSearchIndex> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * 所有索引变更在单线程中顺序执行，保证事件与启动加载的先后顺序
+     */
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean ready;
+
+    public ContentSearchEngine(ContentRepository contentRepository, SiteRepository siteRepository) {
+        this.contentRepository = contentRepository;
+        this.siteRepository = siteRepository;
+    }
+
+    /**
+     * 应用启动后在后台加载或重建索引
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        indexer.submit(() -> {
+            long start = System.currentTimeMillis();
+            for (Site site : siteRepository.findByDeletedFalse()) {
+                try {
+                    partitions.put(site.getId(), loadOrBuild(site.getId()));
+                } catch (Exception e) {
+                    log.error("站点索引初始化失败: siteId={}", site.getId(), e);
+                }
+            }
+            ready = true;
+            log.info("搜索索引初始化完成: sites={}, 耗时={}ms", partitions.size(), System.currentTimeMillis() - start);
+            snapshot();
+        });
+    }
+
+    /**
+     * 索引是否可用于指定站点的搜索
+     */
+    public boolean isReady(Long siteId) {
+        return ready && siteId != null;
+    }
+
+    /**
+     * 搜索站点内的已发布内容
+     *
+     * @return 命中结果；查询无法由索引回答（如单个汉字）时返回null
+     */
+    public SearchHits search(Long siteId, String keyword, int page, int size) {
+        List<String> terms = ContentTokenizer.tokenize(keyword);
+        if (terms.isEmpty() || terms.stream().anyMatch(ContentTokenizer::isSingleCjkToken)) {
+            return null;
+        }
+        SiteSearchIndex index = partitions.get(siteId);
+        if (index == null) {
+            // 初始化完成后仍不存在分区，说明站点没有已发布内容
+            return SearchHits.empty();
+        }
+        return index.search(terms, page * size, size);
+    }
+
+    /**
+     * 内容变更后增量更新索引
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!event.affectsPublicView()) {
+            return;
+        }
+        indexer.submit(() -> {
+            try {
+                apply(event);
+            } catch (Exception e) {
+                log.error("索引更新失败: {}", event, e);
+            }
+        });
+    }
+
+    private void apply(ContentChangedEvent event) {
+        ContentIndexSource content = event.isPublished()
+                ? contentRepository.findPublishedIndexSourcesByIds(Collections.singletonList(event.getContentId()))
+                        .stream().findFirst().orElse(null)
+                : null;
+
+        // 先从所有分区移除（内容可能更换了站点），再按当前状态加入
+        for (SiteSearchIndex index : partitions.values()) {
+            index.remove(event.getContentId());
+        }
+        if (content != null) {
+            partitions.computeIfAbsent(content.getSiteId(), SiteSearchIndex::new);
+            index(partitions.get(content.getSiteId()), content);
+        }
+    }
+
+    /**
+     * 定期把有变化的分区写回磁盘
+     */
+    @Scheduled(fixedDelayString = "${cms.search.index.snapshot-interval:300000}")
+    public void scheduledSnapshot() {
+        if (ready) {
+            indexer.submit(this::snapshot);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+        try {
+            if (!indexer.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("搜索索引任务未在30秒内结束");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (ready) {
+            snapshot();
+        }
+    }
+
+    private void snapshot() {
+        for (SiteSearchIndex index : partitions.values()) {
+            if (!index.isDirty()) {
+                continue;
+            }
+            try {
+                index.writeTo(segmentFile(index.getSiteId()));
+                log.debug("索引段已写入: siteId={}, docs={}", index.getSiteId(), index.size());
+            } catch (IOException e) {
+                log.warn("索引段写入失败: siteId={}, error={}", index.getSiteId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 加载段文件并追赶数据库变化；没有可用段文件时全量重建
+     */
+    private SiteSearchIndex loadOrBuild(Long siteId) {
+        Path file = segmentFile(siteId);
+        if (Files.exists(file)) {
+            try {
+                SiteSearchIndex index = SiteSearchIndex.readFrom(file);
+                catchUp(index);
+                log.info("站点索引已从段文件加载: siteId={}, docs={}", siteId, index.size());
+                return index;
+            } catch (IOException e) {
+                log.warn("索引段文件不可用，重建索引: siteId={}, error={}", siteId, e.getMessage());
+            }
+        }
+        return rebuild(siteId);
+    }
+
+    private SiteSearchIndex rebuild(Long siteId) {
+        SiteSearchIndex index = new SiteSearchIndex(siteId);
+        long lastId = 0L;
+        while (true) {
+            List<ContentIndexSource> batch = contentRepository.findPublishedIndexSourcesAfterId(siteId, lastId, PageRequest.of(0, BATCH_SIZE));
+            for (ContentIndexSource content : batch) {
+                index(index, content);
+                lastId = content.getId();
+            }
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+        log.info("站点索引全量重建完成: siteId={}, docs={}", siteId, index.size());
+        return index;
+    }
+
+    /**
+     * 段文件之后的变化：移除已下线/删除的文档，补齐缺失和更新过的文档
+     */
+    private void catchUp(SiteSearchIndex index) {
+        Set<Long> published = new HashSet<>(contentRepository.findPublishedIdsBySiteId(index.getSiteId()));
+        Set<Long> indexed = index.docIds();
+
+        for (Long docId : indexed) {
+            if (!published.contains(docId)) {
+                index.remove(docId);
+            }
+        }
+
+        LocalDateTime watermark = LocalDateTime.ofInstant(Instant.ofEpochMilli(index.getWatermark()), ZoneId.systemDefault());
+        Set<Long> refreshed = new HashSet<>();
+        for (ContentIndexSource content : contentRepository.findPublishedIndexSourcesUpdatedAfter(index.getSiteId(), watermark)) {
+            index(index, content);
+            refreshed.add(content.getId());
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (Long id : published) {
+            if (!indexed.contains(id) && !refreshed.contains(id)) {
+                missing.add(id);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Long> ids = missing.subList(from, Math.min(from + BATCH_SIZE, missing.size()));
+            for (ContentIndexSource content : contentRepository.findPublishedIndexSourcesByIds(ids)) {
+                index(index, content);
+            }
+        }
+    }
+
+    private void index(SiteSearchIndex index, ContentIndexSource content) {
+        index.put(content.getId(),
+                content.getTitle(),
+                ContentTokenizer.stripHtml(content.getContent()),
+                toEpochMilli(content.getPublishedAt()),
+                toEpochMilli(content.getUpdatedAt()));
+    }
+
+    private long toEpochMilli(LocalDateTime time) {
+        return time == null ? 0L : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private Path segmentFile(Long siteId) {
+        return Paths.get(indexPath).toAbsolutePath().normalize().resolve("site-" + siteId + ".seg");
+    }
+}
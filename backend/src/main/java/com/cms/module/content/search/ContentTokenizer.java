@@ -0,0 +1,110 @@
+package com.cms.module.content.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 内容分词器
+ * 拉丁字母和数字按连续字符切分为词并转为小写；中日韩文字按二元组（bigram）切分，
+ * 单个孤立的中日韩字符作为单字词。其它字符视为分隔符。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public final class ContentTokenizer {
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+    private static final Pattern HTML_ENTITY = Pattern.compile("&(#\\d+|#x[0-9a-fA-F]+|[a-zA-Z]+);");
+
+    private ContentTokenizer() {
+    }
+
+    /**
+     * 去除富文本中的HTML标签和实体
+     */
+    public static String stripHtml(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        String text = HTML_TAG.matcher(html).replaceAll(" ");
+        return HTML_ENTITY.matcher(text).replaceAll(" ");
+    }
+
+    /**
+     * 分词
+     *
+     * @param text 纯文本
+     * @return 词列表（保留重复，用于计算词频）
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        int previousCjk = -1;
+        int cjkRunLength = 0;
+
+        int offset = 0;
+        while (offset < text.length()) {
+            int codePoint = Character.toLowerCase(text.codePointAt(offset));
+            offset += Character.charCount(codePoint);
+
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                if (previousCjk != -1) {
+                    tokens.add(new StringBuilder(2).appendCodePoint(previousCjk).appendCodePoint(codePoint).toString());
+                }
+                previousCjk = codePoint;
+                cjkRunLength++;
+                continue;
+            }
+
+            flushCjkRun(previousCjk, cjkRunLength, tokens);
+            previousCjk = -1;
+            cjkRunLength = 0;
+
+            if (Character.isLetterOrDigit(codePoint)) {
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, tokens);
+            }
+        }
+
+        flushWord(word, tokens);
+        flushCjkRun(previousCjk, cjkRunLength, tokens);
+        return tokens;
+    }
+
+    /**
+     * 是否为单个中日韩字符组成的词（无法与二元组索引匹配）
+     */
+    public static boolean isSingleCjkToken(String token) {
+        return token.codePointCount(0, token.length()) == 1 && isCjk(token.codePointAt(0));
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjkRun(int lastCjk, int runLength, List<String> tokens) {
+        // 只有一个字符的中日韩片段没有二元组，以单字入索引
+        if (runLength == 1) {
+            tokens.add(new String(Character.toChars(lastCjk)));
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
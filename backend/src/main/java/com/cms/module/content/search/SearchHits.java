@@ -0,0 +1,32 @@
+package com.cms.module.content.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 搜索命中结果
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@AllArgsConstructor
+public class SearchHits {
+
+    /**
+     * 命中总数
+     */
+    private final long total;
+
+    /**
+     * 当前页的内容ID（按相关度排序）
+     */
+    private final List<Long> contentIds;
+
+    public static SearchHits empty() {
+        return new SearchHits(0, Collections.emptyList());
+    }
+}
@@ -0,0 +1,449 @@
+package com.cms.module.content.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 单个站点的倒排索引分区
+ * 使用BM25对命中文档打分，支持增量增删文档，并可持久化为紧凑的段文件。
+ *
+ * <p>段文件格式（整数均为变长编码，文档ID按升序差值编码）：
+ * <pre>
+ * magic(int) formatVersion(int) siteId(long) watermark(long)
+ * docCount, [docIdDelta, length, publishedAt]...
+ * termCount, [term(UTF), df, [docIdDelta, tf]...]...
+ * crc32(int)
+ * </pre>
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class SiteSearchIndex {
+
+    private static final int MAGIC = 0x434D5358;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final double K1 = 1.2;
+
+    private static final double B = 0.75;
+
+    /**
+     * 标题中的词按该倍数计入词频
+     */
+    private static final int TITLE_WEIGHT = 2;
+
+    private final Long siteId;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 词 -> (文档ID -> 词频)
+     */
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    /**
+     * 文档ID -> 文档信息
+     */
+    private final Map<Long, DocEntry> docs = new HashMap<>();
+
+    private long totalLength;
+
+    /**
+     * 已索引文档的最大更新时间（毫秒），用于重启后增量追赶
+     */
+    private long watermark;
+
+    private volatile boolean dirty;
+
+    public SiteSearchIndex(Long siteId) {
+        this.siteId = siteId;
+    }
+
+    /**
+     * 文档信息
+     */
+    private static final class DocEntry {
+
+        private final int length;
+
+        private final long publishedAt;
+
+        private final String[] terms;
+
+        private DocEntry(int length, long publishedAt, String[] terms) {
+            this.length = length;
+            this.publishedAt = publishedAt;
+            this.terms = terms;
+        }
+    }
+
+    /**
+     * 命中文档及得分
+     */
+    private static final class ScoredDoc {
+
+        private final long docId;
+
+        private final double score;
+
+        private final long publishedAt;
+
+        private ScoredDoc(long docId, double score, long publishedAt) {
+            this.docId = docId;
+            this.score = score;
+            this.publishedAt = publishedAt;
+        }
+    }
+
+    /**
+     * 得分高者优先，其次发布时间新者优先，最后ID大者优先
+     */
+    private static final Comparator<ScoredDoc> RANKING = Comparator
+            .comparingDouble((ScoredDoc doc) -> doc.score)
+            .thenComparingLong(doc -> doc.publishedAt)
+            .thenComparingLong(doc -> doc.docId);
+
+    public Long getSiteId() {
+        return siteId;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 当前已索引的文档ID
+     */
+    public Set<Long> docIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docs.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 添加或替换文档
+     *
+     * @param docId       内容ID
+     * @param title       标题
+     * @param body        正文（纯文本）
+     * @param publishedAt 发布时间（毫秒）
+     * @param updatedAt   更新时间（毫秒）
+     */
+    public void put(long docId, String title, String body, long publishedAt, long updatedAt) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String token : ContentTokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String token : ContentTokenizer.tokenize(body)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            String[] terms = new String[termFrequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                Map<Long, Integer> list = postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>());
+                list.put(docId, entry.getValue());
+                terms[i++] = entry.getKey();
+            }
+            docs.put(docId, new DocEntry(length, publishedAt, terms));
+            totalLength += length;
+            watermark = Math.max(watermark, updatedAt);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 移除文档
+     */
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            if (removeInternal(docId)) {
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(long docId) {
+        DocEntry entry = docs.remove(docId);
+        if (entry == null) {
+            return false;
+        }
+        for (String term : entry.terms) {
+            Map<Long, Integer> list = postings.get(term);
+            if (list != null) {
+                list.remove(docId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= entry.length;
+        return true;
+    }
+
+    /**
+     * 搜索（所有查询词都必须命中），按BM25得分排序
+     *
+     * @param queryTerms 查询词
+     * @param offset     起始位置
+     * @param limit      返回数量
+     * @return 命中结果
+     */
+    public SearchHits search(Collection<String> queryTerms, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(queryTerms);
+        if (terms.isEmpty() || limit <= 0) {
+            return SearchHits.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> list = postings.get(term);
+                if (list == null) {
+                    return SearchHits.empty();
+                }
+                lists.add(list);
+            }
+            // 从最短的倒排表开始求交集
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = docs.size();
+            double averageLength = docCount == 0 ? 0 : (double) totalLength / docCount;
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            int capacity = offset + limit;
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(Math.min(capacity, 1024), RANKING);
+            long total = 0;
+
+            candidates:
+            for (Map.Entry<Long, Integer> candidate : lists.get(0).entrySet()) {
+                long docId = candidate.getKey();
+                DocEntry doc = docs.get(docId);
+                double norm = K1 * (1 - B + B * doc.length / averageLength);
+                double score = 0;
+                for (int i = 0; i < lists.size(); i++) {
+                    Integer tf = i == 0 ? candidate.getValue() : lists.get(i).get(docId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                total++;
+                ScoredDoc scored = new ScoredDoc(docId, score, doc.publishedAt);
+                if (top.size() < capacity) {
+                    top.offer(scored);
+                } else if (RANKING.compare(scored, top.peek()) > 0) {
+                    top.poll();
+                    top.offer(scored);
+                }
+            }
+
+            List<ScoredDoc> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING.reversed());
+            List<Long> ids = new ArrayList<>();
+            for (int i = offset; i < ranked.size(); i++) {
+                ids.add(ranked.get(i).docId);
+            }
+            return new SearchHits(total, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 写入段文件（先写临时文件再原子替换）
+     */
+    public void writeTo(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try {
+            CRC32 crc = new CRC32();
+            try (DataOutputStream out = new DataOutputStream(new CheckedOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp)), crc))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(siteId);
+                out.writeLong(watermark);
+
+                long[] docIds = docs.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+                writeVarLong(out, docIds.length);
+                long previous = 0;
+                for (long docId : docIds) {
+                    DocEntry entry = docs.get(docId);
+                    writeVarLong(out, docId - previous);
+                    writeVarLong(out, entry.length);
+                    writeVarLong(out, entry.publishedAt);
+                    previous = docId;
+                }
+
+                String[] terms = postings.keySet().toArray(new String[0]);
+                Arrays.sort(terms);
+                writeVarLong(out, terms.length);
+                for (String term : terms) {
+                    Map<Long, Integer> list = postings.get(term);
+                    out.writeUTF(term);
+                    long[] ids = list.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+                    writeVarLong(out, ids.length);
+                    previous = 0;
+                    for (long docId : ids) {
+                        writeVarLong(out, docId - previous);
+                        writeVarLong(out, list.get(docId));
+                        previous = docId;
+                    }
+                }
+
+                out.flush();
+                out.writeInt((int) crc.getValue());
+            }
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 从段文件加载
+     *
+     * @throws IOException 文件损坏或格式不兼容
+     */
+    public static SiteSearchIndex readFrom(Path file) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), new CRC32());
+        try (DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("索引段文件格式错误: " + file);
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("索引段文件版本不兼容: " + version);
+            }
+
+            SiteSearchIndex index = new SiteSearchIndex(in.readLong());
+            index.watermark = in.readLong();
+
+            int docCount = (int) readVarLong(in);
+            Map<Long, List<String>> forward = new HashMap<>(docCount * 2);
+            Map<Long, long[]> docInfo = new HashMap<>(docCount * 2);
+            long docId = 0;
+            for (int i = 0; i < docCount; i++) {
+                docId += readVarLong(in);
+                long length = readVarLong(in);
+                long publishedAt = readVarLong(in);
+                docInfo.put(docId, new long[]{length, publishedAt});
+                forward.put(docId, new ArrayList<>());
+                index.totalLength += length;
+            }
+
+            int termCount = (int) readVarLong(in);
+            for (int i = 0; i < termCount; i++) {
+                String term = in.readUTF();
+                int df = (int) readVarLong(in);
+                Map<Long, Integer> list = new HashMap<>(df * 2);
+                docId = 0;
+                for (int j = 0; j < df; j++) {
+                    docId += readVarLong(in);
+                    list.put(docId, (int) readVarLong(in));
+                    List<String> docTerms = forward.get(docId);
+                    if (docTerms == null) {
+                        throw new IOException("索引段文件损坏: 未知文档 " + docId);
+                    }
+                    docTerms.add(term);
+                }
+                index.postings.put(term, list);
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if ((int) expected != in.readInt()) {
+                throw new IOException("索引段文件校验失败: " + file);
+            }
+
+            for (Map.Entry<Long, long[]> entry : docInfo.entrySet()) {
+                List<String> terms = forward.get(entry.getKey());
+                index.docs.put(entry.getKey(), new DocEntry((int) entry.getValue()[0], entry.getValue()[1],
+                        terms.toArray(new String[0])));
+            }
+            return index;
+        }
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        while (shift < 64) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+        throw new IOException("变长整数格式错误");
+    }
+}
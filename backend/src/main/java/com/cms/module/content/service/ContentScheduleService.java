@@ -0,0 +1,115 @@
+package com.cms.module.content.service;
+
+import com.cms.common.exception.BusinessException;
+import com.cms.common.exception.ErrorCode;
+import com.cms.module.content.dto.ContentScheduleDTO;
+import com.cms.module.content.entity.Content;
+import com.cms.module.content.entity.ContentSchedule;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentScheduleRepository;
+import com.cms.module.content.schedule.ContentScheduler;
+import com.cms.security.util.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 内容定时发布服务
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentScheduleService {
+
+    private final ContentScheduleRepository scheduleRepository;
+    private final ContentRepository contentRepository;
+    private final ObjectProvider<ContentScheduler> schedulerProvider;
+
+    /**
+     * 创建定时发布/下线
+     */
+    public ContentScheduleDTO createSchedule(Long contentId, ContentScheduleDTO scheduleDTO) {
+        log.info("创建定时任务: contentId={}, action={}, executeAt={}",
+                contentId, scheduleDTO.getAction(), scheduleDTO.getExecuteAt());
+
+        Content content = contentRepository.findById(contentId)
+                .filter(found -> !found.getDeleted())
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONTENT_NOT_FOUND));
+        if (!scheduleDTO.getExecuteAt().isAfter(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR.getCode(), "执行时间必须晚于当前时间");
+        }
+
+        ContentSchedule schedule = new ContentSchedule();
+        schedule.setContentId(contentId);
+        schedule.setSiteId(content.getSiteId());
+        schedule.setAction(scheduleDTO.getAction());
+        schedule.setExecuteAt(scheduleDTO.getExecuteAt());
+        schedule.setCreatedBy(SecurityUtils.getCurrentUserId());
+        ContentSchedule saved = scheduleRepository.save(schedule);
+
+        ContentScheduler scheduler = schedulerProvider.getIfAvailable();
+        if (scheduler != null) {
+            scheduler.add(saved.getId(), saved.getExecuteAt());
+        }
+        return convertToDTO(saved);
+    }
+
+    /**
+     * 查询内容的定时记录
+     */
+    public List<ContentScheduleDTO> getSchedules(Long contentId) {
+        return scheduleRepository.findByContentIdOrderByExecuteAtDesc(contentId).stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 取消待执行的定时记录
+     */
+    @Transactional
+    public void cancelSchedule(Long contentId, Long scheduleId) {
+        log.info("取消定时任务: contentId={}, scheduleId={}", contentId, scheduleId);
+
+        ContentSchedule schedule = scheduleRepository.findById(scheduleId)
+                .filter(found -> found.getContentId().equals(contentId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND));
+        if (scheduleRepository.cancel(schedule.getId()) == 0) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR.getCode(), "定时任务已执行或已取消");
+        }
+
+        ContentScheduler scheduler = schedulerProvider.getIfAvailable();
+        if (scheduler != null) {
+            scheduler.remove(scheduleId);
+        }
+    }
+
+    /**
+     * 内容删除后取消其待执行的定时记录（其他节点抢占租约时会失败，无需通知）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.getType() == ContentChangedEvent.Type.DELETED) {
+            scheduleRepository.cancelByContentId(event.getContentId());
+        }
+    }
+
+    private ContentScheduleDTO convertToDTO(ContentSchedule schedule) {
+        ContentScheduleDTO dto = new ContentScheduleDTO();
+        BeanUtils.copyProperties(schedule, dto);
+        return dto;
+    }
+}
@@ -1,13 +1,21 @@
 package com.cms.module.content.service;
 
+import com.cms.common.base.CursorPage;
 import com.cms.common.base.Page;
+import com.cms.common.exception.BusinessException;
+import com.cms.common.exception.ErrorCode;
+import com.cms.module.content.dto.ContentCursor;
 import com.cms.module.content.dto.ContentDTO;
 import com.cms.module.content.dto.ContentQueryDTO;
 import com.cms.module.content.entity.Content;
+import com.cms.module.content.event.ContentChangedEvent;
 import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentSummary;
+import com.cms.security.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -15,11 +23,15 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.Predicate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 内容服务
@@ -34,6 +46,10 @@ public class ContentService {
 
     private final ContentRepository contentRepository;
     private final org.springframework.context.ApplicationContext applicationContext;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
     private ContentVersionService versionService; // 延迟注入避免循环依赖
 
     /**
@@ -58,6 +74,7 @@ public class ContentService {
 
         Content saved = contentRepository.save(content);
         log.info("内容创建成功: id={}", saved.getId());
+        publishChange(ContentChangedEvent.Type.CREATED, saved, null, null);
 
         // 创建初始版本快照
         try {
@@ -93,6 +110,7 @@ public class ContentService {
 
         // 保存旧状态
         String oldStatus = content.getStatus();
+        Long oldCategoryId = content.getCategoryId();
 
         BeanUtils.copyProperties(contentDTO, content, "id", "createdAt", "createdBy");
 
@@ -104,6 +122,7 @@ public class ContentService {
 
         Content updated = contentRepository.save(content);
         log.info("内容更新成功: id={}", updated.getId());
+        publishChange(ContentChangedEvent.Type.UPDATED, updated, oldCategoryId, oldStatus);
 
         // 创建版本快照
         try {
@@ -144,6 +163,7 @@ public class ContentService {
         contentRepository.save(content);
 
         log.info("内容删除成功: id={}", id);
+        publishChange(ContentChangedEvent.Type.DELETED, content, content.getCategoryId(), content.getStatus());
     }
 
     /**
@@ -185,8 +205,67 @@ public class ContentService {
         // 构建分页（前端传递的page从0开始，Spring Data JPA也是从0开始）
         Pageable pageable = PageRequest.of(queryDTO.getPage(), queryDTO.getSize(), sort);
 
-        // 构建查询条件
-        Specification<Content> spec = (root, query, cb) -> {
+        org.springframework.data.domain.Page<ContentSummary> pageResult = contentRepository.findSummaries(buildQuerySpecification(queryDTO), pageable);
+
+        List<ContentDTO> contentDTOs = pageResult.getContent().stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+
+        return new Page<>(
+                contentDTOs,
+                queryDTO.getPage(),
+                queryDTO.getSize(),
+                pageResult.getTotalElements(),
+                pageResult.getTotalPages()
+        );
+    }
+
+    /**
+     * 游标分页查询内容
+     * 按 (排序字段, id) 倒序定位，翻页代价与页数无关；仅在 withTotal 为true时统计总数。
+     * 排序字段支持 createdAt / publishedAt / updatedAt，默认 createdAt（草稿没有发布时间）
+     *
+     * @param queryDTO  查询条件（page和sortDir参数被忽略）
+     * @param cursor    上一页返回的游标，首页传null
+     * @param withTotal 是否统计总记录数
+     */
+    public CursorPage<ContentDTO> getContentsByCursor(ContentQueryDTO queryDTO, String cursor, boolean withTotal) {
+        log.debug("游标查询内容: {}, cursor={}", queryDTO, cursor);
+
+        String field = queryDTO.getSortBy() == null ? ContentCursor.CREATED_AT : queryDTO.getSortBy();
+        if (!ContentCursor.isSupportedField(field)) {
+            throw new BusinessException(ErrorCode.PARAM_ERROR.getCode(), "游标分页不支持的排序字段: " + field);
+        }
+
+        int size = Math.min(Math.max(queryDTO.getSize(), 1), ContentCursor.MAX_PAGE_SIZE);
+        Specification<Content> spec = buildQuerySpecification(queryDTO);
+        Specification<Content> seekSpec = spec;
+        if (cursor != null && !cursor.isEmpty()) {
+            seekSpec = spec.and(ContentCursor.decode(cursor, field).toSpecification());
+        }
+
+        // 多取一条判断是否还有下一页
+        List<ContentSummary> contents = contentRepository.findSummaries(seekSpec, ContentCursor.sort(field), size + 1);
+        boolean hasMore = contents.size() > size;
+        if (hasMore) {
+            contents = contents.subList(0, size);
+        }
+
+        String nextCursor = hasMore ? ContentCursor.of(field, contents.get(contents.size() - 1)).encode() : null;
+        Long total = withTotal ? contentRepository.count(spec) : null;
+
+        List<ContentDTO> contentDTOs = contents.stream()
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+
+        return new CursorPage<>(contentDTOs, size, nextCursor, hasMore, total);
+    }
+
+    /**
+     * 后台内容列表查询条件
+     */
+    private Specification<Content> buildQuerySpecification(ContentQueryDTO queryDTO) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             // 未删除
@@ -234,20 +313,6 @@ public class ContentService {
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        org.springframework.data.domain.Page<Content> pageResult = contentRepository.findAll(spec, pageable);
-
-        List<ContentDTO> contentDTOs = pageResult.getContent().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
-
-        return new Page<>(
-                contentDTOs,
-                queryDTO.getPage(),
-                queryDTO.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.getTotalPages()
-        );
     }
 
     /**
@@ -256,17 +321,48 @@ public class ContentService {
     public List<ContentDTO> getAllContents(Long siteId) {
         log.debug("获取所有内容列表: siteId={}", siteId);
 
-        List<Content> contents = contentRepository.findBySiteIdAndDeletedFalse(siteId);
+        Specification<Content> spec = (root, query, cb) -> cb.and(
+                cb.equal(root.get("siteId"), siteId),
+                cb.equal(root.get("deleted"), false));
+
+        List<ContentSummary> contents = contentRepository.findSummaries(spec, Sort.unsorted());
         return contents.stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 流式导出站点下所有内容（含正文）
+     * 逐条转换并交给调用方写出，处理完的实体立即从持久化上下文移除，内存占用与数据量无关
+     */
+    @Transactional(readOnly = true)
+    public void exportContents(Long siteId, Consumer<ContentDTO> consumer) {
+        log.info("导出内容: siteId={}", siteId);
+
+        try (Stream<Content> contents = contentRepository.streamBySiteId(siteId)) {
+            contents.forEach(content -> {
+                consumer.accept(convertToDTO(content));
+                entityManager.detach(content);
+            });
+        }
+    }
+
     /**
      * 更新内容状态
      */
     @Transactional
     public void updateContentStatus(Long id, String status) {
+        updateContentStatus(id, status, SecurityUtils.getCurrentUserId());
+    }
+
+    /**
+     * 更新内容状态（指定操作人，用于定时发布等没有登录用户的场景）
+     * 版本快照要求记录创建人，没有操作人时不创建快照，避免写入失败导致整个事务回滚
+     *
+     * @param operatorId 操作人ID
+     */
+    @Transactional
+    public void updateContentStatus(Long id, String status, Long operatorId) {
         log.info("更新内容状态: id={}, status={}", id, status);
 
         Content content = contentRepository.findById(id)
@@ -287,18 +383,23 @@ public class ContentService {
 
         contentRepository.save(content);
         log.info("内容状态更新成功: id={}, status={}", id, status);
+        publishChange(ContentChangedEvent.Type.STATUS_CHANGED, content, content.getCategoryId(), oldStatus);
 
         // 在状态变更后创建版本快照，记录发布/下线/其它状态变更
+        if (operatorId == null) {
+            log.warn("没有操作人，跳过版本快照（状态变更）: id={}", id);
+            return;
+        }
         try {
             if (!"PUBLISHED".equals(oldStatus) && "PUBLISHED".equals(status)) {
                 // 发布内容：记录发布版本
-                getVersionService().createVersion(id, "PUBLISH", "发布内容");
+                getVersionService().createVersion(id, "PUBLISH", "发布内容", operatorId);
             } else if ("PUBLISHED".equals(oldStatus) && "DRAFT".equals(status)) {
                 // 下线内容：记录下线版本
-                getVersionService().createVersion(id, "UNPUBLISH", "下线内容");
+                getVersionService().createVersion(id, "UNPUBLISH", "下线内容", operatorId);
             } else {
                 // 其它状态变化：通用状态变更记录
-                getVersionService().createVersion(id, "STATUS_CHANGE", "状态变更: " + oldStatus + " -> " + status);
+                getVersionService().createVersion(id, "STATUS_CHANGE", "状态变更: " + oldStatus + " -> " + status, operatorId);
             }
         } catch (Exception e) {
             log.warn("创建版本失败（状态变更）: id={}, error={}", id, e.getMessage());
@@ -447,6 +548,8 @@ public class ContentService {
         Content content = contentRepository.findById(contentId)
                 .orElseThrow(() -> new RuntimeException("内容不存在"));
 
+        String oldStatus = content.getStatus();
+
         // 更新审批状态
         content.setApprovalStatus("APPROVED");
         content.setApprovedAt(LocalDateTime.now());
@@ -458,6 +561,7 @@ public class ContentService {
 
         contentRepository.save(content);
         log.info("内容自动发布成功: id={}", contentId);
+        publishChange(ContentChangedEvent.Type.STATUS_CHANGED, content, content.getCategoryId(), oldStatus);
 
         // 创建版本快照：记录审批通过并自动发布
         try {
@@ -477,6 +581,8 @@ public class ContentService {
         Content content = contentRepository.findById(contentId)
                 .orElseThrow(() -> new RuntimeException("内容不存在"));
 
+        String oldStatus = content.getStatus();
+
         // 更新审批状态
         content.setApprovalStatus("REJECTED");
         content.setRejectReason(reason);
@@ -486,6 +592,7 @@ public class ContentService {
 
         contentRepository.save(content);
         log.info("内容返回草稿状态: id={}", contentId);
+        publishChange(ContentChangedEvent.Type.STATUS_CHANGED, content, content.getCategoryId(), oldStatus);
 
         // 创建版本快照：记录审批拒绝并退回草稿
         try {
@@ -495,6 +602,15 @@ public class ContentService {
         }
     }
 
+    /**
+     * 发布内容变更事件
+     */
+    private void publishChange(ContentChangedEvent.Type type, Content content, Long oldCategoryId, String oldStatus) {
+        String newStatus = type == ContentChangedEvent.Type.DELETED ? null : content.getStatus();
+        eventPublisher.publishEvent(new ContentChangedEvent(type, content.getId(), content.getSiteId(),
+                content.getCategoryId(), oldCategoryId, oldStatus, newStatus));
+    }
+
     /**
      * 转换为DTO
      */
@@ -503,5 +619,14 @@ public class ContentService {
         BeanUtils.copyProperties(content, dto);
         return dto;
     }
+
+    /**
+     * 转换列表投影为DTO（不含正文）
+     */
+    private ContentDTO convertToDTO(ContentSummary summary) {
+        ContentDTO dto = new ContentDTO();
+        BeanUtils.copyProperties(summary, dto);
+        return dto;
+    }
 }
 
@@ -18,6 +18,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
@@ -59,6 +60,21 @@ public class ContentVersionService {
      */
     @Transactional
     public ContentVersion createVersion(Long contentId, String changeType, String changeSummary) {
+        return createVersion(contentId, changeType, changeSummary, getCurrentUserId());
+    }
+
+    /**
+     * 创建内容版本（指定操作人）
+     * 定时发布等没有登录用户的场景由调用方传入操作人
+     *
+     * @param contentId     内容ID
+     * @param changeType    修改类型
+     * @param changeSummary 修改摘要
+     * @param operatorId    操作人ID
+     * @return 新创建的版本实体
+     */
+    @Transactional
+    public ContentVersion createVersion(Long contentId, String changeType, String changeSummary, Long operatorId) {
         log.info("创建内容版本: contentId={}, changeType={}, changeSummary={}", contentId, changeType, changeSummary);
 
         // 获取内容，如果不存在则抛出业务异常
@@ -77,7 +93,7 @@ public class ContentVersionService {
         version.setContent(content.getContent());
         version.setChangeSummary(changeSummary);
         version.setChangeType(changeType); // 设置本次变更的类型
-        version.setCreatedBy(getCurrentUserId());
+        version.setCreatedBy(operatorId);
         version.setCreatedAt(LocalDateTime.now());
 
         // 复制其他相关字段，确保版本快照尽可能完整
@@ -94,7 +110,7 @@ public class ContentVersionService {
         version = versionRepository.save(version);
 
         // 记录操作日志，标记为 CREATE（创建了一个新的版本记录）
-        createVersionLog(contentId, version.getId(), "CREATE", "创建版本 v" + newVersionNumber + " (" + changeType + ")");
+        createVersionLog(contentId, version.getId(), "CREATE", "创建版本 v" + newVersionNumber + " (" + changeType + ")", operatorId);
 
         log.info("版本创建成功: versionId={}, versionNumber={}, changeType={}", version.getId(), newVersionNumber, changeType);
         return version;
@@ -214,17 +230,21 @@ public class ContentVersionService {
      * 创建版本操作日志
      */
     private void createVersionLog(Long contentId, Long versionId, String operationType, String detail) {
+        createVersionLog(contentId, versionId, operationType, detail, getCurrentUserId());
+    }
+
+    private void createVersionLog(Long contentId, Long versionId, String operationType, String detail, Long operatorId) {
         try {
             ContentVersionLog log = new ContentVersionLog();
             log.setContentId(contentId);
             log.setVersionId(versionId);
             log.setOperationType(operationType);
-            log.setOperatorId(getCurrentUserId());
+            log.setOperatorId(operatorId);
             log.setOperatorName(getCurrentUsername());
             log.setCreatedAt(LocalDateTime.now());
 
-            // 记录IP和User-Agent
-            if (request != null) {
+            // 记录IP和User-Agent（定时任务等不在请求线程中时跳过）
+            if (RequestContextHolder.getRequestAttributes() != null) {
                 log.setIpAddress(getClientIp());
                 log.setUserAgent(request.getHeader("User-Agent"));
             }
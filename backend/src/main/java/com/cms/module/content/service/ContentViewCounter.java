@@ -0,0 +1,161 @@
+package com.cms.module.content.service;
+
+import com.cms.module.content.event.ContentViewsFlushedEvent;
+import com.cms.module.content.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 内容浏览量计数器（异步回写）
+ * 访客浏览只在内存中累加，由定时任务批量以增量方式写回数据库，
+ * 避免每次浏览都对内容行执行整行更新和行锁竞争。
+ *
+ * <p>同时按站点累计未回写的浏览量；回写成功后发布 {@link ContentViewsFlushedEvent}，
+ * 数据库中的浏览量合计加上未回写量即为准确的总浏览量。回写与 {@link #withFlushLock} 互斥，
+ * 在锁内读取的数据库合计与未回写量不会重复或遗漏。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentViewCounter {
+
+    private final ContentRepository contentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 待回写的浏览增量（内容ID -> 计数器）
+     */
+    private final ConcurrentHashMap<Long, Pending> pendingCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 各站点尚未回写的浏览量（站点ID -> 计数器），回写成功后才扣减
+     */
+    private final ConcurrentHashMap<Long, LongAdder> sitePendingCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 记录一次浏览
+     */
+    public void increment(Long siteId, Long contentId) {
+        sitePendingCounts.computeIfAbsent(siteId, id -> new LongAdder()).increment();
+        Pending pending = pendingCounts.computeIfAbsent(contentId, id -> new Pending(siteId));
+        pending.count.increment();
+
+        // 计数器已被回写任务移除时，把其上未取走的计数转交给当前计数器
+        while (pendingCounts.get(contentId) != pending) {
+            long orphaned = pending.count.sumThenReset();
+            if (orphaned == 0) {
+                return;
+            }
+            pending = pendingCounts.computeIfAbsent(contentId, id -> new Pending(siteId));
+            pending.count.add(orphaned);
+        }
+    }
+
+    /**
+     * 获取尚未回写的浏览增量
+     */
+    public long getPendingCount(Long contentId) {
+        Pending pending = pendingCounts.get(contentId);
+        return pending == null ? 0L : pending.count.sum();
+    }
+
+    /**
+     * 获取站点尚未回写的浏览量（需在 {@link #withFlushLock} 内读取才与数据库合计一致）
+     */
+    public long getSitePendingCount(Long siteId) {
+        LongAdder adder = sitePendingCounts.get(siteId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 在回写锁内执行，期间不会有浏览量写入数据库
+     */
+    public synchronized <T> T withFlushLock(Supplier<T> action) {
+        return action.get();
+    }
+
+    /**
+     * 定时批量回写浏览量
+     */
+    @Scheduled(fixedDelayString = "${cms.content.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+
+        // 取出当前增量：先读取再扣减，期间并发的浏览不会丢失
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, Long> contentSites = new HashMap<>();
+        Map<Long, Long> siteDeltas = new HashMap<>();
+        for (Map.Entry<Long, Pending> entry : pendingCounts.entrySet()) {
+            Pending pending = entry.getValue();
+            long delta = pending.count.sum();
+            if (delta > 0) {
+                pending.count.add(-delta);
+                deltas.put(entry.getKey(), delta);
+                contentSites.put(entry.getKey(), pending.siteId);
+                siteDeltas.merge(pending.siteId, delta, Long::sum);
+            } else if (pendingCounts.remove(entry.getKey(), pending)) {
+                // 一个周期内无浏览的计数器移除；移除瞬间并发写入的增量重新放回
+                // （取走后清零，与记录方的转交不会重复计数）
+                long residual = pending.count.sumThenReset();
+                if (residual != 0) {
+                    pendingCounts.computeIfAbsent(entry.getKey(), id -> new Pending(pending.siteId)).count.add(residual);
+                }
+            }
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    deltas.forEach((id, delta) -> contentRepository.incrementViewCount(id, (int) Math.min(delta, Integer.MAX_VALUE))));
+            log.debug("浏览量回写成功: {}条内容", deltas.size());
+        } catch (Exception e) {
+            // 回写失败时把增量放回，等待下次重试
+            log.warn("浏览量回写失败, 将在下次重试: count={}, error={}", deltas.size(), e.getMessage());
+            deltas.forEach((id, delta) ->
+                    pendingCounts.computeIfAbsent(id, key -> new Pending(contentSites.get(id))).count.add(delta));
+            return;
+        }
+
+        siteDeltas.forEach((siteId, delta) -> sitePendingCounts.get(siteId).add(-delta));
+        eventPublisher.publishEvent(new ContentViewsFlushedEvent(siteDeltas));
+    }
+
+    /**
+     * 应用关闭前回写剩余的浏览量
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 单条内容的待回写增量
+     */
+    @RequiredArgsConstructor
+    private static class Pending {
+
+        private final Long siteId;
+
+        private final LongAdder count = new LongAdder();
+    }
+}
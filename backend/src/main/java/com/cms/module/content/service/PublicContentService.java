@@ -1,15 +1,29 @@
 package com.cms.module.content.service;
 
+import com.cms.common.base.CursorPage;
+import com.cms.common.cache.CacheNames;
 import com.cms.module.category.dto.CategoryTreeDTO;
 import com.cms.module.category.entity.Category;
 import com.cms.module.category.repository.CategoryRepository;
 import com.cms.module.content.dto.*;
 import com.cms.module.content.entity.Content;
+import com.cms.module.content.hot.HotContentTracker;
+import com.cms.module.content.related.RelatedContentEngine;
+import com.cms.module.content.repository.CategoryContentCount;
 import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentSummary;
+import com.cms.module.content.repository.ContentValidator;
+import com.cms.module.content.search.ContentSearchEngine;
+import com.cms.module.content.search.SearchHits;
 import com.cms.module.site.repository.SiteRepository;
+import com.cms.module.site.service.SiteStatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -19,9 +33,16 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -35,13 +56,37 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PublicContentService {
 
+    /**
+     * 全文搜索失败后的重试间隔（毫秒）
+     */
+    private static final long FULLTEXT_RETRY_INTERVAL_MS = 5 * 60 * 1000L;
+
+    /**
+     * 布尔模式全文搜索的保留操作符
+     */
+    private static final Pattern FULLTEXT_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
     private final ContentRepository contentRepository;
     private final CategoryRepository categoryRepository;
     private final SiteRepository siteRepository;
+    private final ContentViewCounter viewCounter;
+    private final HotContentTracker hotContentTracker;
+    private final SiteStatisticsService siteStatisticsService;
+    private final ObjectProvider<ContentSearchEngine> searchEngineProvider;
+    private final ObjectProvider<RelatedContentEngine> relatedEngineProvider;
+
+    @Value("${cms.search.mode:FULLTEXT}")
+    private ContentSearchMode searchMode;
+
+    @Value("${cms.search.ngram-token-size:2}")
+    private int ngramTokenSize;
+
+    private volatile long fulltextDisabledUntil = 0L;
 
     /**
-     * 获取首页数据
+     * 获取首页数据（按站点缓存，内容或分类变更时失效）
      */
+    @Cacheable(cacheNames = CacheNames.GUEST_HOME_PAGE, key = "#siteId")
     public HomePageDTO getHomePageData(Long siteId) {
         log.info("获取首页数据: siteId={}", siteId);
 
@@ -67,8 +112,51 @@ public class PublicContentService {
     public Page<PublicContentDTO> getPublishedContents(PublicContentQueryDTO queryDTO) {
         log.info("分页查询已发布内容: {}", queryDTO);
 
-        // 构建查询条件
-        Specification<Content> spec = (root, query, cb) -> {
+        // 按发布时间倒序
+        Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
+        Pageable pageable = PageRequest.of(queryDTO.getPage(), queryDTO.getSize(), sort);
+
+        Page<ContentSummary> contentPage = contentRepository.findSummaries(buildPublishedSpecification(queryDTO), pageable);
+
+        return convertToPublicDTOPage(contentPage);
+    }
+
+    /**
+     * 游标分页查询已发布内容
+     * 按 (发布时间, id) 倒序定位，翻页代价与页数无关；仅在 withTotal 为true时统计总数
+     *
+     * @param queryDTO  查询条件（page参数被忽略）
+     * @param cursor    上一页返回的游标，首页传null
+     * @param withTotal 是否统计总记录数
+     */
+    public CursorPage<PublicContentDTO> getPublishedContentsByCursor(PublicContentQueryDTO queryDTO, String cursor, boolean withTotal) {
+        log.info("游标查询已发布内容: {}, cursor={}", queryDTO, cursor);
+
+        int size = Math.min(Math.max(queryDTO.getSize(), 1), ContentCursor.MAX_PAGE_SIZE);
+        Specification<Content> spec = buildPublishedSpecification(queryDTO);
+        Specification<Content> seekSpec = spec;
+        if (cursor != null && !cursor.isEmpty()) {
+            seekSpec = spec.and(ContentCursor.decode(cursor, ContentCursor.PUBLISHED_AT).toSpecification());
+        }
+
+        // 多取一条判断是否还有下一页
+        List<ContentSummary> contents = contentRepository.findSummaries(seekSpec, ContentCursor.sort(ContentCursor.PUBLISHED_AT), size + 1);
+        boolean hasMore = contents.size() > size;
+        if (hasMore) {
+            contents = contents.subList(0, size);
+        }
+
+        String nextCursor = hasMore ? ContentCursor.of(ContentCursor.PUBLISHED_AT, contents.get(contents.size() - 1)).encode() : null;
+        Long total = withTotal ? contentRepository.count(spec) : null;
+
+        return new CursorPage<>(convertToPublicDTOs(contents), size, nextCursor, hasMore, total);
+    }
+
+    /**
+     * 已发布内容的列表查询条件
+     */
+    private Specification<Content> buildPublishedSpecification(PublicContentQueryDTO queryDTO) {
+        return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
             // 必须是已发布且未删除
@@ -87,18 +175,12 @@ public class PublicContentService {
 
             return cb.and(predicates.toArray(new Predicate[0]));
         };
-
-        // 按发布时间倒序
-        Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
-        Pageable pageable = PageRequest.of(queryDTO.getPage(), queryDTO.getSize(), sort);
-
-        Page<Content> contentPage = contentRepository.findAll(spec, pageable);
-
-        return contentPage.map(this::convertToPublicDTO);
     }
 
     /**
      * 全文搜索（标题+内容）
+     * INDEX模式使用进程内倒排索引，索引未启用或未就绪时回退到FULLTEXT；
+     * FULLTEXT模式使用ngram全文索引按相关度排序；关键词过短或全文索引不可用时回退到LIKE
      */
     public Page<PublicContentDTO> searchContents(PublicContentQueryDTO queryDTO) {
         log.info("搜索内容: keyword={}, siteId={}", queryDTO.getKeyword(), queryDTO.getSiteId());
@@ -109,6 +191,60 @@ public class PublicContentService {
 
         String keyword = queryDTO.getKeyword().trim();
 
+        if (searchMode == ContentSearchMode.INDEX) {
+            Page<PublicContentDTO> indexResult = searchContentsByIndex(queryDTO, keyword);
+            if (indexResult != null) {
+                return indexResult;
+            }
+        }
+
+        if (searchMode != ContentSearchMode.LIKE && isFulltextAvailable()) {
+            String booleanQuery = buildFulltextQuery(keyword);
+            if (booleanQuery != null) {
+                try {
+                    Pageable pageable = PageRequest.of(queryDTO.getPage(), queryDTO.getSize());
+                    Page<Number> idPage = contentRepository.searchPublishedIdsByFulltext(queryDTO.getSiteId(), booleanQuery, pageable);
+                    List<Long> ids = idPage.getContent().stream().map(Number::longValue).collect(Collectors.toList());
+                    List<ContentSummary> contents = findPublishedSummaries(ids);
+                    return new PageImpl<>(convertToPublicDTOs(contents), pageable, idPage.getTotalElements());
+                } catch (Exception e) {
+                    // 全文索引缺失或数据库不支持时暂停使用，冷却期后再尝试
+                    fulltextDisabledUntil = System.currentTimeMillis() + FULLTEXT_RETRY_INTERVAL_MS;
+                    log.warn("全文搜索失败，回退到LIKE搜索: keyword={}, error={}", keyword, e.getMessage());
+                }
+            }
+        }
+
+        return searchContentsByLike(queryDTO, keyword);
+    }
+
+    /**
+     * 使用进程内倒排索引搜索
+     *
+     * @return 搜索结果；索引不可用或无法回答该查询时返回null
+     */
+    private Page<PublicContentDTO> searchContentsByIndex(PublicContentQueryDTO queryDTO, String keyword) {
+        ContentSearchEngine searchEngine = searchEngineProvider.getIfAvailable();
+        if (searchEngine == null || !searchEngine.isReady(queryDTO.getSiteId())) {
+            return null;
+        }
+
+        SearchHits hits = searchEngine.search(queryDTO.getSiteId(), keyword, queryDTO.getPage(), queryDTO.getSize());
+        if (hits == null) {
+            return null;
+        }
+
+        // 按索引给出的相关度顺序组装结果，已不可见的内容跳过
+        List<ContentSummary> contents = findPublishedSummaries(hits.getContentIds());
+
+        Pageable pageable = PageRequest.of(queryDTO.getPage(), queryDTO.getSize());
+        return new PageImpl<>(convertToPublicDTOs(contents), pageable, hits.getTotal());
+    }
+
+    /**
+     * LIKE模糊搜索（标题或内容包含关键词）
+     */
+    private Page<PublicContentDTO> searchContentsByLike(PublicContentQueryDTO queryDTO, String keyword) {
         // 构建查询条件
         Specification<Content> spec = (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -136,15 +272,46 @@ public class PublicContentService {
         Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
         Pageable pageable = PageRequest.of(queryDTO.getPage(), queryDTO.getSize(), sort);
 
-        Page<Content> contentPage = contentRepository.findAll(spec, pageable);
+        Page<ContentSummary> contentPage = contentRepository.findSummaries(spec, pageable);
 
-        return contentPage.map(this::convertToPublicDTO);
+        return convertToPublicDTOPage(contentPage);
+    }
+
+    /**
+     * 全文索引是否可用（失败后的冷却期内视为不可用）
+     */
+    private boolean isFulltextAvailable() {
+        return System.currentTimeMillis() >= fulltextDisabledUntil;
+    }
+
+    /**
+     * 构建布尔模式全文搜索表达式
+     * 每个词作为必须出现的短语（+"词"），与LIKE的包含语义一致；
+     * 任一词短于ngram分词长度时无法命中索引，返回null由调用方回退到LIKE
+     */
+    private String buildFulltextQuery(String keyword) {
+        StringBuilder builder = new StringBuilder();
+        for (String term : keyword.split("\\s+")) {
+            String cleaned = FULLTEXT_OPERATORS.matcher(term).replaceAll("");
+            if (cleaned.isEmpty()) {
+                continue;
+            }
+            if (cleaned.codePointCount(0, cleaned.length()) < ngramTokenSize) {
+                return null;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append("+\"").append(cleaned).append('"');
+        }
+        return builder.length() > 0 ? builder.toString() : null;
     }
 
     /**
      * 获取内容详情并增加浏览量
+     * 浏览量先累加到内存计数器，由ContentViewCounter异步批量回写
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public PublicContentDetailDTO getContentDetail(Long id) {
         log.info("获取内容详情: id={}", id);
 
@@ -157,10 +324,61 @@ public class PublicContentService {
         }
 
         // 增加浏览量
-        content.setViewCount(content.getViewCount() + 1);
-        contentRepository.save(content);
+        viewCounter.increment(content.getSiteId(), id);
+        hotContentTracker.record(content.getSiteId(), id);
+        siteStatisticsService.recordVisit(content.getSiteId());
 
-        return convertToDetailDTO(content);
+        PublicContentDetailDTO dto = convertToDetailDTO(content);
+        dto.setViewCount(getViewCount(content));
+        return dto;
+    }
+
+    /**
+     * 获取已发布内容的缓存校验信息（只查询校验字段，不加载实体）
+     *
+     * @return 校验信息；内容不存在或未发布时返回null
+     */
+    public ContentValidator getContentValidator(Long id) {
+        return contentRepository.findPublishedValidatorById(id).orElse(null);
+    }
+
+    /**
+     * 记录一次浏览（详情由页面缓存直接返回时调用，返回304时不计入）
+     */
+    public void recordView(Long siteId, Long id) {
+        viewCounter.increment(siteId, id);
+        hotContentTracker.record(siteId, id);
+        siteStatisticsService.recordVisit(siteId);
+    }
+
+    /**
+     * 获取热门内容（按窗口内浏览量降序）
+     * 统计来自内存中的近似频繁项统计，结果短时间缓存
+     */
+    @Cacheable(cacheNames = CacheNames.GUEST_HOT_CONTENTS, key = "#siteId + ':' + #window + ':' + #limit")
+    public List<PublicContentDTO> getHotContents(Long siteId, HotWindow window, int limit) {
+        log.info("获取热门内容: siteId={}, window={}, limit={}", siteId, window, limit);
+
+        // 多取一些，跳过已下线的内容
+        List<Long> ids = hotContentTracker.top(siteId, window, limit * 2);
+        return getPublishedContentsByIds(ids.stream().mapToLong(Long::longValue).toArray(), limit);
+    }
+
+    /**
+     * 获取用于静态预渲染的内容详情（不增加浏览量）
+     *
+     * @return 内容详情；内容不存在或未发布时返回null
+     */
+    @Transactional(readOnly = true)
+    public PublicContentDetailDTO getPublishedContentDetail(Long id) {
+        Content content = contentRepository.findById(id).orElse(null);
+        if (content == null || !"PUBLISHED".equals(content.getStatus()) || content.isDeleted()) {
+            return null;
+        }
+
+        PublicContentDetailDTO dto = convertToDetailDTO(content);
+        dto.setViewCount(getViewCount(content));
+        return dto;
     }
 
     /**
@@ -169,6 +387,13 @@ public class PublicContentService {
     public List<PublicContentDTO> getRelatedContents(Long contentId, Integer limit) {
         log.info("获取相关内容: contentId={}, limit={}", contentId, limit);
 
+        // 优先使用预计算结果
+        RelatedContentEngine relatedEngine = relatedEngineProvider.getIfAvailable();
+        long[] relatedIds = relatedEngine != null ? relatedEngine.getRelated(contentId) : null;
+        if (relatedIds != null) {
+            return getPublishedContentsByIds(relatedIds, limit);
+        }
+
         Content current = contentRepository.findById(contentId)
                 .orElseThrow(() -> new RuntimeException("内容不存在"));
 
@@ -178,6 +403,7 @@ public class PublicContentService {
 
             predicates.add(cb.equal(root.get("deleted"), false));
             predicates.add(cb.equal(root.get("status"), "PUBLISHED"));
+            predicates.add(cb.equal(root.get("siteId"), current.getSiteId()));
             predicates.add(cb.equal(root.get("categoryId"), current.getCategoryId()));
             predicates.add(cb.notEqual(root.get("id"), contentId));
 
@@ -185,27 +411,54 @@ public class PublicContentService {
         };
 
         Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
-        Pageable pageable = PageRequest.of(0, limit, sort);
 
-        return contentRepository.findAll(spec, pageable)
-                .getContent()
-                .stream()
-                .map(this::convertToPublicDTO)
+        return convertToPublicDTOs(contentRepository.findSummaries(spec, sort, limit));
+    }
+
+    /**
+     * 按给定ID顺序获取已发布内容（已下线的跳过）
+     */
+    private List<PublicContentDTO> getPublishedContentsByIds(long[] ids, int limit) {
+        List<Long> idList = Arrays.stream(ids).boxed().collect(Collectors.toList());
+        List<ContentSummary> contents = findPublishedSummaries(idList);
+        return convertToPublicDTOs(contents.size() > limit ? contents.subList(0, limit) : contents);
+    }
+
+    /**
+     * 按给定ID顺序查询已发布内容的列表投影（不加载正文，已下线的跳过）
+     */
+    private List<ContentSummary> findPublishedSummaries(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Specification<Content> spec = (root, query, cb) -> cb.and(
+                root.get("id").in(ids),
+                cb.equal(root.get("status"), "PUBLISHED"),
+                cb.equal(root.get("deleted"), false));
+        Map<Long, ContentSummary> summaryMap = new HashMap<>();
+        for (ContentSummary summary : contentRepository.findSummaries(spec, Sort.unsorted())) {
+            summaryMap.put(summary.getId(), summary);
+        }
+
+        return ids.stream()
+                .map(summaryMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     /**
      * 获取分类树（含内容统计）
+     * 内容数量通过一次分组查询获取，并沿分类路径向上汇总到祖先分类
      */
     private List<CategoryTreeDTO> getCategoryTreeWithCount(Long siteId) {
         // 获取所有可见分类
         List<Category> categories = categoryRepository.findBySiteIdAndIsVisibleAndDeletedFalseOrderBySortOrderAsc(siteId, true);
 
-        // 统计每个分类下的已发布内容数量
-        Map<Long, Long> contentCountMap = new HashMap<>();
-        for (Category category : categories) {
-            long count = countPublishedContentsByCategory(siteId, category.getId());
-            contentCountMap.put(category.getId(), count);
+        // 一次查询统计各分类下直接挂载的已发布内容数量
+        Map<Long, Long> directCountMap = new HashMap<>();
+        for (CategoryContentCount row : contentRepository.countPublishedGroupByCategory(siteId)) {
+            directCountMap.put(row.getCategoryId(), row.getContentCount());
         }
 
         // 构建树形结构
@@ -216,11 +469,25 @@ public class PublicContentService {
             dto.setName(category.getName());
             dto.setCode(category.getCode());
             dto.setIconUrl(category.getIconUrl());
-            dto.setContentCount(contentCountMap.getOrDefault(category.getId(), 0L));
+            dto.setContentCount(0L);
             dto.setChildren(new ArrayList<>());
             dtoMap.put(category.getId(), dto);
         }
 
+        // 按路径汇总子树内容数量（每个分类的数量计入自身及其所有可见祖先）
+        for (Category category : categories) {
+            long count = directCountMap.getOrDefault(category.getId(), 0L);
+            if (count == 0) {
+                continue;
+            }
+            for (Long ancestorId : getPathIds(category)) {
+                CategoryTreeDTO ancestor = dtoMap.get(ancestorId);
+                if (ancestor != null) {
+                    ancestor.setContentCount(ancestor.getContentCount() + count);
+                }
+            }
+        }
+
         // 组装父子关系
         List<CategoryTreeDTO> rootNodes = new ArrayList<>();
         for (Category category : categories) {
@@ -239,16 +506,26 @@ public class PublicContentService {
     }
 
     /**
-     * 统计分类下的已发布内容数量
+     * 解析分类路径（如 /1/2/3）为分类ID列表，包含分类自身
+     * 路径缺失或无法解析时仅返回分类自身
      */
-    private long countPublishedContentsByCategory(Long siteId, Long categoryId) {
-        Specification<Content> spec = (root, query, cb) -> cb.and(
-                cb.equal(root.get("siteId"), siteId),
-                cb.equal(root.get("categoryId"), categoryId),
-                cb.equal(root.get("status"), "PUBLISHED"),
-                cb.equal(root.get("deleted"), false)
-        );
-        return contentRepository.count(spec);
+    private Set<Long> getPathIds(Category category) {
+        Set<Long> ids = new LinkedHashSet<>();
+        String path = category.getPath();
+        if (path != null) {
+            for (String segment : path.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                try {
+                    ids.add(Long.valueOf(segment));
+                } catch (NumberFormatException e) {
+                    log.warn("分类路径格式错误: categoryId={}, path={}", category.getId(), path);
+                }
+            }
+        }
+        ids.add(category.getId());
+        return ids;
     }
 
     /**
@@ -276,19 +553,51 @@ public class PublicContentService {
         };
 
         Sort sort = Sort.by(Sort.Direction.DESC, "publishedAt");
-        Pageable pageable = PageRequest.of(0, limit, sort);
 
-        return contentRepository.findAll(spec, pageable)
-                .getContent()
-                .stream()
-                .map(this::convertToPublicDTO)
+        return convertToPublicDTOs(contentRepository.findSummaries(spec, sort, limit));
+    }
+
+    /**
+     * 批量转换分页结果为公开内容DTO
+     */
+    private Page<PublicContentDTO> convertToPublicDTOPage(Page<ContentSummary> contentPage) {
+        Map<Long, String> categoryNames = loadCategoryNames(contentPage.getContent());
+        return contentPage.map(content -> convertToPublicDTO(content, categoryNames));
+    }
+
+    /**
+     * 批量转换为公开内容DTO（分类名称一次性加载；包内可见，供基准测试直接调用）
+     */
+    List<PublicContentDTO> convertToPublicDTOs(List<ContentSummary> contents) {
+        Map<Long, String> categoryNames = loadCategoryNames(contents);
+        return contents.stream()
+                .map(content -> convertToPublicDTO(content, categoryNames))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 使用一次IN查询加载内容列表涉及的分类名称
+     */
+    private Map<Long, String> loadCategoryNames(Collection<ContentSummary> contents) {
+        Set<Long> categoryIds = contents.stream()
+                .map(ContentSummary::getCategoryId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (categoryIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, String> categoryNames = new HashMap<>();
+        for (Category category : categoryRepository.findAllById(categoryIds)) {
+            categoryNames.put(category.getId(), category.getName());
+        }
+        return categoryNames;
+    }
+
     /**
      * 转换为公开内容DTO
      */
-    private PublicContentDTO convertToPublicDTO(Content content) {
+    private PublicContentDTO convertToPublicDTO(ContentSummary content, Map<Long, String> categoryNames) {
         PublicContentDTO dto = new PublicContentDTO();
         dto.setId(content.getId());
         dto.setTitle(content.getTitle());
@@ -301,15 +610,22 @@ public class PublicContentService {
         dto.setIsTop(content.getIsTop());
         dto.setIsFeatured(content.getIsFeatured());
 
-        // 获取分类名称
+        // 分类名称
         if (content.getCategoryId() != null) {
-            categoryRepository.findById(content.getCategoryId())
-                    .ifPresent(category -> dto.setCategoryName(category.getName()));
+            dto.setCategoryName(categoryNames.get(content.getCategoryId()));
         }
 
         return dto;
     }
 
+    /**
+     * 获取浏览量（已持久化数量 + 尚未回写的增量）
+     */
+    private Integer getViewCount(Content content) {
+        long persisted = content.getViewCount() != null ? content.getViewCount() : 0;
+        return (int) Math.min(persisted + viewCounter.getPendingCount(content.getId()), Integer.MAX_VALUE);
+    }
+
     /**
      * 转换为详情DTO
      */
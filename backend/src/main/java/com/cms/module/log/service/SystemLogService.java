@@ -154,7 +154,7 @@ public class SystemLogService {
     }
 
     /**
-     * 解析单行日志
+     * 解析单行日志（包内可见，供基准测试直接调用）
      * 日志格式: 2025-10-05 00:00:11.329 [http-nio-8080-exec-6] INFO  com.cms.module.auth.service.AuthService - 用户登录: admin
      * group(1) = 时间
      * group(2) = 线程
@@ -162,7 +162,7 @@ public class SystemLogService {
      * group(4) = 模块
      * group(5) = 描述
      */
-    private SystemLogDTO parseLogLine(String line, String defaultLevel) {
+    SystemLogDTO parseLogLine(String line, String defaultLevel) {
         Matcher matcher = LOG_PATTERN.matcher(line);
         if (!matcher.find()) {
             return null;
@@ -0,0 +1,52 @@
+package com.cms.module.monitor.controller;
+
+import com.cms.common.base.ApiResponse;
+import com.cms.module.monitor.dto.CacheStatsDTO;
+import com.cms.module.monitor.service.CacheMonitorService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 系统监控控制器
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@RestController
+@RequestMapping("/monitor")
+@RequiredArgsConstructor
+@Tag(name = "系统监控", description = "缓存等运行状态监控接口")
+public class MonitorController {
+
+    private final CacheMonitorService cacheMonitorService;
+
+    /**
+     * 获取缓存统计
+     */
+    @GetMapping("/caches")
+    @PreAuthorize("hasAuthority('statistics:view')")
+    @Operation(summary = "获取缓存统计", description = "获取各缓存的容量、命中和未命中次数")
+    public ApiResponse<List<CacheStatsDTO>> getCacheStats() {
+        log.info("获取缓存统计请求");
+        return ApiResponse.success(cacheMonitorService.getCacheStats());
+    }
+
+    /**
+     * 清空缓存
+     */
+    @DeleteMapping("/caches/{name}")
+    @PreAuthorize("hasAuthority('system:config')")
+    @Operation(summary = "清空缓存", description = "清空指定名称的缓存")
+    public ApiResponse<Void> clearCache(@PathVariable String name) {
+        log.info("清空缓存请求: name={}", name);
+        cacheMonitorService.clearCache(name);
+        return ApiResponse.success();
+    }
+}
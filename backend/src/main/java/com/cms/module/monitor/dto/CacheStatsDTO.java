@@ -0,0 +1,48 @@
+package com.cms.module.monitor.dto;
+
+import lombok.Data;
+
+/**
+ * 缓存统计DTO
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+public class CacheStatsDTO {
+
+    /**
+     * 缓存名称
+     */
+    private String name;
+
+    /**
+     * 当前条目数（估算值）
+     */
+    private Long size;
+
+    /**
+     * 命中次数
+     */
+    private Long hitCount;
+
+    /**
+     * 未命中次数
+     */
+    private Long missCount;
+
+    /**
+     * 命中率
+     */
+    private Double hitRate;
+
+    /**
+     * 淘汰次数
+     */
+    private Long evictionCount;
+
+    /**
+     * 平均加载耗时（纳秒）
+     */
+    private Double averageLoadPenalty;
+}
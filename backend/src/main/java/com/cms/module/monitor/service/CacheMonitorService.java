@@ -0,0 +1,66 @@
+package com.cms.module.monitor.service;
+
+import com.cms.module.monitor.dto.CacheStatsDTO;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 缓存监控服务
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheMonitorService {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 获取所有缓存的命中统计
+     */
+    public List<CacheStatsDTO> getCacheStats() {
+        List<CacheStatsDTO> result = new ArrayList<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof CaffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = ((CaffeineCache) cache).getNativeCache();
+                result.add(toDTO(cacheName, nativeCache.estimatedSize(), nativeCache.stats()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 清空指定缓存
+     */
+    public void clearCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new RuntimeException("缓存不存在: " + cacheName);
+        }
+        cache.clear();
+        log.info("缓存已清空: {}", cacheName);
+    }
+
+    private CacheStatsDTO toDTO(String name, long size, CacheStats stats) {
+        CacheStatsDTO dto = new CacheStatsDTO();
+        dto.setName(name);
+        dto.setSize(size);
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+        dto.setAverageLoadPenalty(stats.averageLoadPenalty());
+        return dto;
+    }
+}
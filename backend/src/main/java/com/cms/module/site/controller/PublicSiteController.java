@@ -1,6 +1,7 @@
 package com.cms.module.site.controller;
 
 import com.cms.common.base.ApiResponse;
+import com.cms.common.cache.GuestPageCache;
 import com.cms.module.site.dto.SiteDTO;
 import com.cms.module.site.service.SiteService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
 import java.util.List;
 
 /**
@@ -33,9 +35,10 @@ public class PublicSiteController {
     @GetMapping
     @PreAuthorize("hasAuthority('site:view:public')")
     @Operation(summary = "获取活跃站点列表", description = "获取所有状态为ACTIVE的站点")
-    public ApiResponse<List<SiteDTO>> getActiveSites() {
+    public ApiResponse<List<SiteDTO>> getActiveSites(HttpServletRequest request) {
         log.info("获取活跃站点列表请求");
         List<SiteDTO> activeSites = siteService.getActiveSites();
+        GuestPageCache.cacheable(request, null);
         return ApiResponse.success(activeSites);
     }
 }
@@ -1,9 +1,13 @@
 package com.cms.module.site.controller;
 
 import com.cms.common.base.ApiResponse;
+import com.cms.common.web.JsonStreamSupport;
+import com.cms.common.web.StreamFormat;
 import com.cms.module.site.dto.SiteDTO;
 import com.cms.module.site.dto.SiteQueryDTO;
+import com.cms.module.site.dto.SiteStatisticsDTO;
 import com.cms.module.site.service.SiteService;
+import com.cms.module.site.service.SiteStatisticsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +17,9 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +37,8 @@ import java.util.Map;
 public class SiteController {
 
     private final SiteService siteService;
+    private final SiteStatisticsService siteStatisticsService;
+    private final JsonStreamSupport jsonStreamSupport;
 
     /**
      * 创建站点
@@ -178,24 +187,32 @@ public class SiteController {
         return ApiResponse.success();
     }
 
+    /**
+     * 流式导出所有站点
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('site:view')")
+    @Operation(summary = "导出站点", description = "以NDJSON或JSON数组流式导出所有站点，支持gzip压缩")
+    public void exportSites(
+            @RequestParam(defaultValue = "NDJSON") StreamFormat format,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.info("导出站点请求: format={}", format);
+        try (JsonStreamSupport.Writer writer = jsonStreamSupport.open(request, response, format, "sites")) {
+            siteService.exportSites(writer::write);
+            writer.complete();
+        }
+    }
+
     /**
      * 获取站点统计信息
      */
     @GetMapping("/{id}/statistics")
     @PreAuthorize("hasAuthority('site:view')")
     @Operation(summary = "获取站点统计", description = "获取站点的统计信息")
-    public ApiResponse<Map<String, Object>> getSiteStatistics(@PathVariable Long id) {
+    public ApiResponse<SiteStatisticsDTO> getSiteStatistics(@PathVariable Long id) {
         log.info("获取站点统计请求: id={}", id);
-        // 临时返回模拟数据
-        Map<String, Object> statistics = Map.of(
-            "contentCount", 0L,
-            "publishedContentCount", 0L,
-            "draftContentCount", 0L,
-            "categoryCount", 0L,
-            "userCount", 0L,
-            "todayVisits", 0L,
-            "totalVisits", 0L
-        );
+        SiteStatisticsDTO statistics = siteStatisticsService.getStatistics(id);
         return ApiResponse.success(statistics);
     }
 }
@@ -0,0 +1,41 @@
+package com.cms.module.site.entity;
+
+import lombok.Data;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 站点访客内容版本实体
+ * 各节点共享的站点版本号，用于生成访客端聚合接口的ETag
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Data
+@Entity
+@Table(name = "site_content_versions")
+public class SiteContentVersion {
+
+    /**
+     * 站点ID
+     */
+    @Id
+    @Column(name = "site_id")
+    private Long siteId;
+
+    /**
+     * 版本号（每次变更递增）
+     */
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * 最后变更时间
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.cms.module.site.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 站点变更事件
+ * 站点创建、更新、删除、状态或默认站点变化后发布
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class SiteChangedEvent {
+
+    private final Long siteId;
+
+    /**
+     * 站点名称是否变化（内容详情中包含站点名称）
+     */
+    private final boolean renamed;
+
+    public SiteChangedEvent(Long siteId) {
+        this(siteId, false);
+    }
+}
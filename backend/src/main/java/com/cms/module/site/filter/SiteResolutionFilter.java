@@ -0,0 +1,89 @@
+package com.cms.module.site.filter;
+
+import com.cms.module.site.service.SiteDomainRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 访客端站点解析过滤器
+ * 访客端请求未携带 siteId 参数时，按Host头从域名注册表解析站点并补充 siteId 参数，
+ * 接口无需改动即可支持多站点按域名访问；显式传入的 siteId 优先。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@RequiredArgsConstructor
+public class SiteResolutionFilter extends OncePerRequestFilter {
+
+    public static final String SITE_ID_PARAM = "siteId";
+
+    private static final String GUEST_PATH = "/guest/";
+
+    private final SiteDomainRegistry siteDomainRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith(GUEST_PATH) || request.getParameter(SITE_ID_PARAM) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long siteId = siteDomainRegistry.resolve(request.getServerName());
+        filterChain.doFilter(siteId == null ? request : new SiteParameterRequest(request, siteId), response);
+    }
+
+    /**
+     * 追加 siteId 参数的请求包装
+     */
+    private static class SiteParameterRequest extends HttpServletRequestWrapper {
+
+        private final Map<String, String[]> parameters;
+
+        SiteParameterRequest(HttpServletRequest request, Long siteId) {
+            super(request);
+            Map<String, String[]> map = new LinkedHashMap<>(request.getParameterMap());
+            map.put(SITE_ID_PARAM, new String[]{String.valueOf(siteId)});
+            this.parameters = Collections.unmodifiableMap(map);
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = parameters.get(name);
+            return values == null || values.length == 0 ? null : values[0];
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return parameters;
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return parameters.get(name);
+        }
+    }
+}
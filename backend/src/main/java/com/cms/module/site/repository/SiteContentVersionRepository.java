@@ -0,0 +1,28 @@
+package com.cms.module.site.repository;
+
+import com.cms.module.site.entity.SiteContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 站点访客内容版本Repository
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Repository
+public interface SiteContentVersionRepository extends JpaRepository<SiteContentVersion, Long> {
+
+    /**
+     * 递增站点版本（记录不存在时从1开始），在数据库中原子完成，多个节点并发递增不会丢失
+     */
+    @Modifying
+    @Query(value = "INSERT INTO site_content_versions (site_id, version, updated_at) VALUES (:siteId, 1, :now) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = :now", nativeQuery = true)
+    int increment(@Param("siteId") Long siteId, @Param("now") LocalDateTime now);
+}
@@ -6,11 +6,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 站点仓储接口
@@ -72,5 +75,14 @@ public interface SiteRepository extends JpaRepository<Site, Long>, JpaSpecificat
      */
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Site s WHERE s.domain = :domain AND s.id != :id AND s.deleted = false")
     boolean existsByDomainAndIdNotAndDeletedFalse(@Param("domain") String domain, @Param("id") Long id);
-}
 
+    /**
+     * 流式读取所有未删除的站点（按ID升序，调用方需在只读事务内消费并关闭）
+     */
+    @QueryHints({
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_READONLY, value = "true")
+    })
+    @Query("SELECT s FROM Site s WHERE s.deleted = false ORDER BY s.id ASC")
+    Stream<Site> streamAll();
+}
@@ -0,0 +1,98 @@
+package com.cms.module.site.service;
+
+import com.cms.module.site.entity.Site;
+import com.cms.module.site.event.SiteChangedEvent;
+import com.cms.module.site.repository.SiteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 站点域名注册表
+ * 启动时加载所有启用站点的 域名→站点ID 映射，站点变更后整体重建并原子替换，
+ * 按Host解析站点时不访问数据库。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SiteDomainRegistry {
+
+    private final SiteRepository siteRepository;
+
+    private volatile Map<String, Long> domains;
+
+    /**
+     * 根据主机名解析站点ID
+     *
+     * @param host 请求主机名（可带端口）
+     * @return 站点ID；没有匹配的启用站点时返回null
+     */
+    public Long resolve(String host) {
+        Map<String, Long> current = domains;
+        if (current == null) {
+            current = refresh();
+        }
+        String key = normalize(host);
+        return key == null ? null : current.get(key);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 站点创建、修改、删除、状态变更后重建映射
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSiteChanged(SiteChangedEvent event) {
+        refresh();
+    }
+
+    private synchronized Map<String, Long> refresh() {
+        Map<String, Long> map = new HashMap<>();
+        for (Site site : siteRepository.findByStatusAndDeletedFalse("ACTIVE")) {
+            String key = normalize(site.getDomain());
+            if (key != null && map.putIfAbsent(key, site.getId()) != null) {
+                log.warn("站点域名重复，忽略: domain={}, siteId={}", key, site.getId());
+            }
+        }
+        domains = Collections.unmodifiableMap(map);
+        log.info("站点域名映射已加载: {}", domains.size());
+        return domains;
+    }
+
+    /**
+     * 规范化域名：去掉协议、路径和端口，转为小写
+     */
+    static String normalize(String domain) {
+        if (domain == null) {
+            return null;
+        }
+        String value = domain.trim().toLowerCase(Locale.ROOT);
+        int scheme = value.indexOf("://");
+        if (scheme >= 0) {
+            value = value.substring(scheme + 3);
+        }
+        int slash = value.indexOf('/');
+        if (slash >= 0) {
+            value = value.substring(0, slash);
+        }
+        int colon = value.lastIndexOf(':');
+        if (colon >= 0 && value.indexOf(']') < colon) {
+            value = value.substring(0, colon);
+        }
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -1,12 +1,16 @@
 package com.cms.module.site.service;
 
+import com.cms.common.cache.CacheNames;
 import com.cms.module.site.dto.SiteDTO;
 import com.cms.module.site.dto.SiteQueryDTO;
 import com.cms.module.site.entity.Site;
+import com.cms.module.site.event.SiteChangedEvent;
 import com.cms.module.site.repository.SiteRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.BeanUtils;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,10 +20,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 import javax.persistence.criteria.Predicate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 站点服务
@@ -33,6 +42,10 @@ import java.util.stream.Collectors;
 public class SiteService {
 
     private final SiteRepository siteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     // 注入其他Repository用于统计
     // private final ContentRepository contentRepository;
@@ -82,6 +95,7 @@ public class SiteService {
 
         site = siteRepository.save(site);
         log.info("站点创建成功: id={}, code={}", site.getId(), site.getCode());
+        eventPublisher.publishEvent(new SiteChangedEvent(site.getId()));
 
         return convertToDTO(site);
     }
@@ -122,11 +136,14 @@ public class SiteService {
             });
         }
 
+        String oldName = site.getName();
+
         // 复制属性（排除审计字段）
         BeanUtils.copyProperties(siteDTO, site, "id", "createdAt", "createdBy", "version");
 
         site = siteRepository.save(site);
         log.info("站点更新成功: id={}, code={}", site.getId(), site.getCode());
+        eventPublisher.publishEvent(new SiteChangedEvent(site.getId(), !Objects.equals(oldName, site.getName())));
 
         return convertToDTO(site);
     }
@@ -152,6 +169,7 @@ public class SiteService {
         site.delete();
         siteRepository.save(site);
         log.info("站点删除成功: id={}", id);
+        eventPublisher.publishEvent(new SiteChangedEvent(id));
     }
 
     /**
@@ -260,6 +278,22 @@ public class SiteService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 流式导出所有站点
+     * 逐条转换并交给调用方写出，处理完的实体立即从持久化上下文移除，内存占用与数据量无关
+     */
+    @Transactional(readOnly = true)
+    public void exportSites(Consumer<SiteDTO> consumer) {
+        log.info("导出站点");
+
+        try (Stream<Site> sites = siteRepository.streamAll()) {
+            sites.forEach(site -> {
+                consumer.accept(convertToDTO(site));
+                entityManager.detach(site);
+            });
+        }
+    }
+
     /**
      * 更新站点状态
      */
@@ -277,6 +311,7 @@ public class SiteService {
         site.setStatus(status);
         siteRepository.save(site);
         log.info("站点状态更新成功: id={}, status={}", id, status);
+        eventPublisher.publishEvent(new SiteChangedEvent(id));
     }
 
     /**
@@ -305,6 +340,7 @@ public class SiteService {
         site.setIsDefault(true);
         siteRepository.save(site);
         log.info("默认站点设置成功: id={}", id);
+        eventPublisher.publishEvent(new SiteChangedEvent(id));
     }
 
     /**
@@ -317,8 +353,9 @@ public class SiteService {
     }
 
     /**
-     * 获取所有活跃站点（用于访客端）
+     * 获取所有活跃站点（用于访客端，站点变更时缓存失效）
      */
+    @Cacheable(cacheNames = CacheNames.GUEST_ACTIVE_SITES, key = "T(com.cms.common.cache.GuestCacheEvictor).ACTIVE_SITES_KEY")
     public List<SiteDTO> getActiveSites() {
         log.info("获取活跃站点列表");
         List<Site> activeSites = siteRepository.findByStatusAndDeletedFalse("ACTIVE");
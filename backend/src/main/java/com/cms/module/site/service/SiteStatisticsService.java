@@ -0,0 +1,260 @@
+package com.cms.module.site.service;
+
+import com.cms.module.category.event.CategoryChangedEvent;
+import com.cms.module.category.repository.CategoryRepository;
+import com.cms.module.category.repository.SiteCategoryCount;
+import com.cms.module.content.event.ContentChangedEvent;
+import com.cms.module.content.event.ContentViewsFlushedEvent;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.SiteContentCount;
+import com.cms.module.content.service.ContentViewCounter;
+import com.cms.module.site.dto.SiteStatisticsDTO;
+import com.cms.module.site.entity.Site;
+import com.cms.module.site.repository.SiteRepository;
+import com.cms.module.user.event.UserChangedEvent;
+import com.cms.module.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 站点统计服务
+ * 各站点的内容、分类、用户数量和访问量保存在内存计数器中，根据领域事件增量维护，
+ * 查询统计时直接读取计数器，不对内容表执行聚合查询。
+ *
+ * <p>事件与对账查询之间的竞争、事件处理失败等情况可能造成少量偏差，
+ * 由定时对账（一次分组聚合查询）修正。总访问量为数据库中已回写的浏览量合计加上尚未回写的浏览量，
+ * 合计只在浏览量回写锁内读取并随回写事件累加，不会因回写延迟而跳变。
+ * 今日访问量按自然日精确计数，只统计本节点启动以来的访问。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SiteStatisticsService {
+
+    private static final String PUBLISHED = "PUBLISHED";
+    private static final String DRAFT = "DRAFT";
+
+    private final SiteRepository siteRepository;
+    private final ContentRepository contentRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final ContentViewCounter viewCounter;
+
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+
+    private final AtomicLong userCount = new AtomicLong();
+
+    private volatile boolean reconciled;
+
+    /**
+     * 获取站点统计
+     */
+    public SiteStatisticsDTO getStatistics(Long siteId) {
+        Site site = siteRepository.findById(siteId)
+                .orElseThrow(() -> new RuntimeException("站点不存在: " + siteId));
+        if (site.getDeleted()) {
+            throw new RuntimeException("站点已删除: " + siteId);
+        }
+        if (!reconciled) {
+            reconcile();
+        }
+
+        Counters counter = counters(siteId);
+        long totalVisits = viewCounter.withFlushLock(() -> counter.visitBase.get() + viewCounter.getSitePendingCount(siteId));
+        return new SiteStatisticsDTO(
+                siteId,
+                counter.contents.get(),
+                counter.published.get(),
+                counter.drafts.get(),
+                counter.categories.get(),
+                userCount.get(),
+                counter.todayVisits(LocalDate.now().toEpochDay()),
+                totalVisits);
+    }
+
+    /**
+     * 记录一次访问（计入今日访问量；总访问量由浏览量计数器统计）
+     */
+    public void recordVisit(Long siteId) {
+        if (siteId != null) {
+            counters(siteId).recordVisit(LocalDate.now().toEpochDay());
+        }
+    }
+
+    /**
+     * 浏览量回写后累加到数据库合计（在回写锁内同步执行）
+     */
+    @EventListener
+    public void onViewsFlushed(ContentViewsFlushedEvent event) {
+        event.getSiteDeltas().forEach((siteId, delta) -> counters(siteId).visitBase.addAndGet(delta));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        Counters counter = counters(event.getSiteId());
+        switch (event.getType()) {
+            case CREATED:
+                counter.contents.incrementAndGet();
+                counter.adjustStatus(event.getNewStatus(), 1);
+                break;
+            case DELETED:
+                counter.contents.decrementAndGet();
+                counter.adjustStatus(event.getOldStatus(), -1);
+                break;
+            default:
+                if (event.getOldStatus() != null && !event.getOldStatus().equals(event.getNewStatus())) {
+                    counter.adjustStatus(event.getOldStatus(), -1);
+                    counter.adjustStatus(event.getNewStatus(), 1);
+                }
+                break;
+        }
+    }
+
+    /**
+     * 分类事件不区分新增和删除，按站点重新计数（走站点索引，分类数量很小）
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        counters(event.getSiteId()).categories.set(categoryRepository.countBySiteIdAndDeletedFalse(event.getSiteId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED) {
+            userCount.incrementAndGet();
+        } else if (event.getType() == UserChangedEvent.Type.DELETED) {
+            userCount.decrementAndGet();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reconcile();
+    }
+
+    /**
+     * 定时对账：以聚合查询结果覆盖内存计数器
+     * 内容聚合在浏览量回写锁内查询，浏览量合计与回写事件累加的结果衔接
+     */
+    @Scheduled(fixedDelayString = "${cms.site.statistics.reconcile-interval:600000}",
+            initialDelayString = "${cms.site.statistics.reconcile-interval:600000}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<Long, SiteContentCount> contentCounts = viewCounter.withFlushLock(() -> {
+                Map<Long, SiteContentCount> result = new HashMap<>();
+                for (SiteContentCount count : contentRepository.countGroupBySite()) {
+                    result.put(count.getSiteId(), count);
+                    counters(count.getSiteId()).visitBase.set(nullToZero(count.getViewCount()));
+                }
+                counters.forEach((siteId, counter) -> {
+                    if (!result.containsKey(siteId)) {
+                        counter.visitBase.set(0L);
+                    }
+                });
+                return result;
+            });
+            Map<Long, Long> categoryCounts = new HashMap<>();
+            for (SiteCategoryCount count : categoryRepository.countGroupBySite()) {
+                categoryCounts.put(count.getSiteId(), count.getCategoryCount());
+            }
+
+            for (Long siteId : categoryCounts.keySet()) {
+                counters(siteId);
+            }
+            counters.forEach((siteId, counter) -> {
+                SiteContentCount count = contentCounts.get(siteId);
+                counter.contents.set(count == null ? 0L : nullToZero(count.getContentCount()));
+                counter.published.set(count == null ? 0L : nullToZero(count.getPublishedCount()));
+                counter.drafts.set(count == null ? 0L : nullToZero(count.getDraftCount()));
+                counter.categories.set(categoryCounts.getOrDefault(siteId, 0L));
+            });
+            userCount.set(userRepository.countByDeletedFalse());
+            reconciled = true;
+            log.debug("站点统计对账完成: sites={}, 耗时={}ms", counters.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("站点统计对账失败: error={}", e.getMessage());
+        }
+    }
+
+    private Counters counters(Long siteId) {
+        return counters.computeIfAbsent(siteId, id -> new Counters());
+    }
+
+    private long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    /**
+     * 单个站点的计数器
+     */
+    private static class Counters {
+
+        private final AtomicLong contents = new AtomicLong();
+
+        private final AtomicLong published = new AtomicLong();
+
+        private final AtomicLong drafts = new AtomicLong();
+
+        private final AtomicLong categories = new AtomicLong();
+
+        /**
+         * 数据库中已回写的浏览量合计（对账时覆盖，回写事件累加）
+         */
+        private final AtomicLong visitBase = new AtomicLong();
+
+        /**
+         * 当日访问计数，跨日时替换
+         */
+        private final AtomicReference<DayCount> today = new AtomicReference<>(new DayCount(LocalDate.now().toEpochDay()));
+
+        void recordVisit(long epochDay) {
+            DayCount current = today.get();
+            if (current.epochDay != epochDay) {
+                today.compareAndSet(current, new DayCount(epochDay));
+                current = today.get();
+            }
+            current.visits.increment();
+        }
+
+        long todayVisits(long epochDay) {
+            DayCount current = today.get();
+            return current.epochDay == epochDay ? current.visits.sum() : 0L;
+        }
+
+        void adjustStatus(String status, int delta) {
+            if (PUBLISHED.equals(status)) {
+                published.addAndGet(delta);
+            } else if (DRAFT.equals(status)) {
+                drafts.addAndGet(delta);
+            }
+        }
+    }
+
+    /**
+     * 某一自然日的访问计数
+     */
+    @RequiredArgsConstructor
+    private static class DayCount {
+
+        private final long epochDay;
+
+        private final LongAdder visits = new LongAdder();
+    }
+}
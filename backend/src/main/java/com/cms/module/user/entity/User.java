@@ -126,6 +126,12 @@ public class User extends BaseEntity {
     @Column(name = "locked_until")
     private LocalDateTime lockedUntil;
 
+    /**
+     * 授权版本号（角色、状态变更或删除时递增，使已签发token中的授权信息失效）
+     */
+    @Column(name = "auth_version", nullable = false)
+    private Integer authVersion = 0;
+
     /**
      * 用户角色关联
      */
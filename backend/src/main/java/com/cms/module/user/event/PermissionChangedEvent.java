@@ -0,0 +1,20 @@
+package com.cms.module.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 权限变更事件
+ * 权限创建、修改、删除后发布（权限代码变化会影响权限索引和拥有该权限的角色）
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PermissionChangedEvent {
+
+    private final Long permissionId;
+}
@@ -0,0 +1,20 @@
+package com.cms.module.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 角色变更事件
+ * 角色创建、修改、删除以及分配权限后发布
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RoleChangedEvent {
+
+    private final Long roleId;
+}
@@ -3,8 +3,10 @@ package com.cms.module.user.repository;
 import com.cms.module.user.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,5 +24,11 @@ public interface RoleRepository extends JpaRepository<Role, Long>, JpaSpecificat
      * 检查角色代码是否存在
      */
     boolean existsByCode(String code);
+
+    /**
+     * 查询所有角色并一次取出各角色的权限（与用户关联的角色一致，包含已删除的角色）
+     */
+    @Query("SELECT DISTINCT r FROM Role r LEFT JOIN FETCH r.permissions")
+    List<Role> findAllWithPermissions();
 }
 
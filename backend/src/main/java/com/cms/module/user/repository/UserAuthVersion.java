@@ -0,0 +1,20 @@
+package com.cms.module.user.repository;
+
+/**
+ * 用户授权版本号投影
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public interface UserAuthVersion {
+
+    /**
+     * 用户ID
+     */
+    Long getId();
+
+    /**
+     * 授权版本号
+     */
+    Integer getAuthVersion();
+}
@@ -3,6 +3,8 @@ package com.cms.module.user.repository;
 import com.cms.module.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -48,5 +50,21 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
      * 查询所有未删除的用户
      */
     List<User> findByDeletedFalse();
-}
 
+    /**
+     * 统计未删除的用户数量
+     */
+    long countByDeletedFalse();
+
+    /**
+     * 查询授权版本号不为初始值的用户（启动时加载到内存，其余用户均为0）
+     */
+    @Query("SELECT u.id AS id, u.authVersion AS authVersion FROM User u WHERE u.authVersion > 0")
+    List<UserAuthVersion> findChangedAuthVersions();
+
+    /**
+     * 查询用户的授权版本号
+     */
+    @Query("SELECT u.authVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findAuthVersionById(@Param("id") Long id);
+}
@@ -3,9 +3,11 @@ package com.cms.module.user.service;
 import com.cms.common.exception.BusinessException;
 import com.cms.module.user.dto.PermissionDTO;
 import com.cms.module.user.entity.Permission;
+import com.cms.module.user.event.PermissionChangedEvent;
 import com.cms.module.user.repository.PermissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 public class PermissionService {
 
     private final PermissionRepository permissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 获取所有权限
@@ -109,6 +112,7 @@ public class PermissionService {
         permission.setSortOrder(dto.getSortOrder() != null ? dto.getSortOrder() : 0);
 
         permission = permissionRepository.save(permission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(permission.getId()));
         log.info("创建权限成功: {}", permission.getCode());
         
         return convertToDTO(permission);
@@ -145,6 +149,7 @@ public class PermissionService {
         permission.setSortOrder(dto.getSortOrder() != null ? dto.getSortOrder() : 0);
 
         permission = permissionRepository.save(permission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(permission.getId()));
         log.info("更新权限成功: {}", permission.getCode());
         
         return convertToDTO(permission);
@@ -164,6 +169,7 @@ public class PermissionService {
 
         permission.setDeleted(true);
         permissionRepository.save(permission);
+        eventPublisher.publishEvent(new PermissionChangedEvent(permission.getId()));
         log.info("删除权限成功: {}", permission.getCode());
     }
 
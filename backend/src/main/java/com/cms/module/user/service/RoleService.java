@@ -5,10 +5,12 @@ import com.cms.module.user.dto.PermissionDTO;
 import com.cms.module.user.dto.RoleDTO;
 import com.cms.module.user.entity.Permission;
 import com.cms.module.user.entity.Role;
+import com.cms.module.user.event.RoleChangedEvent;
 import com.cms.module.user.repository.PermissionRepository;
 import com.cms.module.user.repository.RoleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +34,7 @@ public class RoleService {
 
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 获取所有角色
@@ -104,6 +107,7 @@ public class RoleService {
         }
 
         role = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(role.getId()));
         log.info("创建角色成功: {}", role.getCode());
         
         return convertToDTO(role);
@@ -149,6 +153,7 @@ public class RoleService {
         }
 
         role = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(role.getId()));
         log.info("更新角色成功: {}", role.getCode());
         
         return convertToDTO(role);
@@ -168,6 +173,7 @@ public class RoleService {
 
         role.setDeleted(true);
         roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(role.getId()));
         log.info("删除角色成功: {}", role.getCode());
     }
 
@@ -192,6 +198,7 @@ public class RoleService {
 
         role.setPermissions(permissions);
         role = roleRepository.save(role);
+        eventPublisher.publishEvent(new RoleChangedEvent(role.getId()));
         log.info("为角色 {} 分配权限成功", role.getCode());
         
         return convertToDTO(role);
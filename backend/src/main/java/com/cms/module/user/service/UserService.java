@@ -8,10 +8,12 @@ import com.cms.module.user.dto.UserDTO;
 import com.cms.module.user.dto.UserUpdateRequest;
 import com.cms.module.user.entity.Role;
 import com.cms.module.user.entity.User;
+import com.cms.module.user.event.UserChangedEvent;
 import com.cms.module.user.repository.RoleRepository;
 import com.cms.module.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -41,6 +43,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 获取所有用户（不分页）
@@ -157,6 +160,7 @@ public class UserService {
         
         // 保存用户
         user = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.CREATED, user.getId()));
         
         // 初始化懒加载的角色
         user.getRoles().size();
@@ -224,8 +228,10 @@ public class UserService {
         if (StringUtils.hasText(request.getBio())) {
             user.setBio(request.getBio());
         }
-        if (StringUtils.hasText(request.getStatus())) {
+        boolean authChanged = false;
+        if (StringUtils.hasText(request.getStatus()) && !request.getStatus().equals(user.getStatus())) {
             user.setStatus(request.getStatus());
+            authChanged = true;
         }
         
         // 更新角色（只有管理员可以修改角色，且必须明确提供角色ID列表）
@@ -244,12 +250,23 @@ public class UserService {
                         .orElseThrow(() -> new BusinessException(ErrorCode.ROLE_NOT_FOUND));
                 roles.add(role);
             }
-            user.setRoles(roles);
+            if (!roleIds(roles).equals(roleIds(user.getRoles()))) {
+                user.setRoles(roles);
+                authChanged = true;
+            }
             log.info("管理员 {} 修改了用户 {} 的角色", currentUserId, id);
         }
+
+        // 角色或状态变化时递增授权版本号，已签发token中的角色随之失效
+        if (authChanged) {
+            user.setAuthVersion(user.getAuthVersion() + 1);
+        }
         
         // 保存用户
         user = userRepository.save(user);
+        if (authChanged) {
+            eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.UPDATED, user.getId()));
+        }
         
         // 初始化懒加载的角色
         user.getRoles().size();
@@ -273,7 +290,9 @@ public class UserService {
 
         // 软删除
         user.setDeleted(true);
+        user.setAuthVersion(user.getAuthVersion() + 1);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, user.getId()));
     }
 
     /**
@@ -299,6 +318,12 @@ public class UserService {
         return convertToDTO(user);
     }
     
+    private Set<Long> roleIds(Set<Role> roles) {
+        return roles.stream()
+                .map(Role::getId)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * 转换为DTO
      */
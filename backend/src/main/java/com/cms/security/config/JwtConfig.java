@@ -31,5 +31,52 @@ public class JwtConfig {
      * token请求头名称
      */
     private String header = "Authorization";
+
+    /**
+     * 无状态认证：授权版本号为最新时直接由token声明构建当前用户，不查询数据库
+     */
+    private boolean stateless = true;
+
+    /**
+     * 授权版本号和角色权限的定时刷新间隔（毫秒），用于同步其他节点的变更
+     */
+    private Long authRefreshInterval = 30000L;
+
+    /**
+     * token吊销（登出）配置
+     */
+    private Revocation revocation = new Revocation();
+
+    /**
+     * token吊销配置
+     */
+    @Data
+    public static class Revocation {
+
+        /**
+         * 预期同时有效的已吊销token数量（布隆过滤器容量，超过后自动扩容）
+         */
+        private int expectedTokens = 100000;
+
+        /**
+         * 布隆过滤器误判率（误判时多查一次内存中的精确集合）
+         */
+        private double falsePositiveRate = 0.01;
+
+        /**
+         * 同步其他节点吊销记录的间隔（毫秒）
+         */
+        private Long syncInterval = 10000L;
+
+        /**
+         * 同步时按吊销时间回看的窗口（毫秒），需大于吊销事务从插入到提交的最长耗时与节点间时钟偏差之和
+         */
+        private Long syncWindow = 120000L;
+
+        /**
+         * 清理已过期记录的间隔（毫秒）
+         */
+        private Long purgeInterval = 3600000L;
+    }
 }
 
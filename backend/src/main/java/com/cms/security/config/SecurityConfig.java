@@ -1,9 +1,11 @@
 package com.cms.security.config;
 
+import com.cms.security.expression.PermissionExpressionHandler;
 import com.cms.security.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
@@ -45,6 +47,9 @@ public class SecurityConfig {
                         "/api/public/**",        // 访客公开接口
                         "/test/**",              // 测试接口
                         "/files/**",             // 静态文件访问
+                        "/guest/sites/*/sitemap*.xml",                // 站点地图（供搜索引擎抓取）
+                        "/guest/sites/*/categories/*/rss.xml",        // 分类RSS订阅源
+                        "/guest/sites/*/categories/*/atom.xml",       // 分类Atom订阅源
                         "/swagger-ui/**",        // Swagger UI
                         "/swagger-ui.html",      // Swagger UI
                         "/v3/api-docs/**",       // Swagger API文档
@@ -61,6 +66,14 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 方法级权限表达式处理器（静态方法，避免提前初始化本配置类及其依赖）
+     */
+    @Bean
+    public static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new PermissionExpressionHandler();
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,22 @@
+package com.cms.security.expression;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 方法级权限表达式处理器
+ * 在默认根对象外包装 {@link PermissionExpressionRoot}，@PreAuthorize("hasAuthority(...)") 走位集合测试
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class PermissionExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    @Override
+    protected MethodSecurityExpressionOperations createSecurityExpressionRoot(Authentication authentication,
+                                                                              MethodInvocation invocation) {
+        return new PermissionExpressionRoot(super.createSecurityExpressionRoot(authentication, invocation), authentication);
+    }
+}
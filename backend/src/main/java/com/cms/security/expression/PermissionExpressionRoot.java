@@ -0,0 +1,133 @@
+package com.cms.security.expression;
+
+import com.cms.security.service.CustomUserDetails;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 方法级权限表达式的根对象
+ * 当前用户为 {@link CustomUserDetails} 时，hasAuthority / hasAnyAuthority 直接对其权限位集合做测试，
+ * 不像默认实现那样先把授权列表复制成字符串集合；其余表达式和其他类型的用户委托给默认根对象。
+ *
+ * <p>默认根对象的 hasAuthority 等方法为final，无法继承覆盖，因此采用包装。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class PermissionExpressionRoot implements MethodSecurityExpressionOperations {
+
+    private final MethodSecurityExpressionOperations delegate;
+
+    private final CustomUserDetails user;
+
+    public PermissionExpressionRoot(MethodSecurityExpressionOperations delegate, Authentication authentication) {
+        this.delegate = delegate;
+        Object principal = authentication != null ? authentication.getPrincipal() : null;
+        this.user = principal instanceof CustomUserDetails ? (CustomUserDetails) principal : null;
+    }
+
+    @Override
+    public boolean hasAuthority(String authority) {
+        return user != null ? user.hasAuthority(authority) : delegate.hasAuthority(authority);
+    }
+
+    @Override
+    public boolean hasAnyAuthority(String... authorities) {
+        if (user == null) {
+            return delegate.hasAnyAuthority(authorities);
+        }
+        for (String authority : authorities) {
+            if (user.hasAuthority(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasRole(String role) {
+        return delegate.hasRole(role);
+    }
+
+    @Override
+    public boolean hasAnyRole(String... roles) {
+        return delegate.hasAnyRole(roles);
+    }
+
+    @Override
+    public Authentication getAuthentication() {
+        return delegate.getAuthentication();
+    }
+
+    /**
+     * 表达式中的 principal
+     */
+    public Object getPrincipal() {
+        return delegate.getAuthentication().getPrincipal();
+    }
+
+    @Override
+    public boolean permitAll() {
+        return delegate.permitAll();
+    }
+
+    @Override
+    public boolean denyAll() {
+        return delegate.denyAll();
+    }
+
+    @Override
+    public boolean isAnonymous() {
+        return delegate.isAnonymous();
+    }
+
+    @Override
+    public boolean isAuthenticated() {
+        return delegate.isAuthenticated();
+    }
+
+    @Override
+    public boolean isRememberMe() {
+        return delegate.isRememberMe();
+    }
+
+    @Override
+    public boolean isFullyAuthenticated() {
+        return delegate.isFullyAuthenticated();
+    }
+
+    @Override
+    public boolean hasPermission(Object target, Object permission) {
+        return delegate.hasPermission(target, permission);
+    }
+
+    @Override
+    public boolean hasPermission(Object targetId, String targetType, Object permission) {
+        return delegate.hasPermission(targetId, targetType, permission);
+    }
+
+    @Override
+    public void setFilterObject(Object filterObject) {
+        delegate.setFilterObject(filterObject);
+    }
+
+    @Override
+    public Object getFilterObject() {
+        return delegate.getFilterObject();
+    }
+
+    @Override
+    public void setReturnObject(Object returnObject) {
+        delegate.setReturnObject(returnObject);
+    }
+
+    @Override
+    public Object getReturnObject() {
+        return delegate.getReturnObject();
+    }
+
+    @Override
+    public Object getThis() {
+        return delegate.getThis();
+    }
+}
@@ -1,7 +1,12 @@
 package com.cms.security.filter;
 
 import com.cms.security.config.JwtConfig;
+import com.cms.security.revocation.TokenRevocationList;
+import com.cms.security.service.AuthVersionRegistry;
+import com.cms.security.service.CustomUserDetails;
 import com.cms.security.service.CustomUserDetailsService;
+import com.cms.security.service.RolePermissionRegistry;
+import com.cms.security.util.JwtClaims;
 import com.cms.security.util.JwtUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,9 @@ import java.util.Map;
 
 /**
  * JWT认证过滤器
+ * 无状态认证开启且token中的授权版本号仍为最新时，直接由token声明构建当前用户（权限由角色注册表解析）；
+ * 旧token、版本号已过期（角色、状态变更，用户被删除）或关闭无状态认证时按用户ID加载用户（带缓存，变更时清除）。
+ * 已登出（吊销）的token直接返回401。
  */
 @Slf4j
 @Component
@@ -34,6 +42,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final JwtConfig jwtConfig;
     private final CustomUserDetailsService userDetailsService;
+    private final AuthVersionRegistry authVersionRegistry;
+    private final RolePermissionRegistry rolePermissionRegistry;
+    private final TokenRevocationList tokenRevocationList;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -45,16 +56,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             if (StringUtils.hasText(token)) {
                 try {
-                    // 从token中获取用户名
-                    String username = jwtUtil.getUsernameFromToken(token);
+                    // 解析并验证token（签名和过期时间），每个请求只解析一次
+                    JwtClaims claims = jwtUtil.parseToken(token);
+                    String username = claims.getUsername();
+
+                    // 已登出的token（布隆过滤器判断，未吊销的token不查集合）
+                    if (tokenRevocationList.isRevoked(claims.getTokenId())) {
+                        log.debug("Token已吊销: {}", username);
+                        sendUnauthorizedResponse(response, "Token已失效，请重新登录");
+                        return;
+                    }
 
                     // 如果用户名不为空且当前没有认证信息
                     if (StringUtils.hasText(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-                        // 加载用户详情
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                        // 构建用户详情
+                        UserDetails userDetails = loadUser(claims);
 
-                        // 验证token
-                        if (jwtUtil.validateToken(token, userDetails.getUsername())) {
+                        // 验证token属于该用户
+                        if (username.equals(userDetails.getUsername())) {
                             // 创建认证对象
                             UsernamePasswordAuthenticationToken authentication =
                                     new UsernamePasswordAuthenticationToken(
@@ -94,6 +113,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 授权版本号为最新时由token声明构建用户，否则按用户ID加载（缓存）
+     */
+    private UserDetails loadUser(JwtClaims claims) {
+        if (jwtConfig.isStateless() && authVersionRegistry.isCurrent(claims.getUserId(), claims.getAuthVersion())) {
+            return new CustomUserDetails(claims.getUserId(), claims.getUsername(), claims.getAuthVersion(),
+                    claims.getRoles(), rolePermissionRegistry.resolve(claims.getRoles()));
+        }
+        if (claims.getUserId() != null) {
+            return userDetailsService.loadUserById(claims.getUserId());
+        }
+        return userDetailsService.loadUserByUsername(claims.getUsername());
+    }
+
     /**
      * 发送401未授权响应
      */
@@ -0,0 +1,193 @@
+package com.cms.security.revocation;
+
+import com.cms.module.auth.entity.RevokedToken;
+import com.cms.module.auth.repository.RevokedTokenRepository;
+import com.cms.security.config.JwtConfig;
+import com.cms.security.util.JwtClaims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 已吊销token列表
+ * 登出时把token ID写入 revoked_tokens 表，并加入内存中的布隆过滤器和精确集合（token ID -> 过期时间）。
+ * 认证过滤器对每个请求调用 {@link #isRevoked(String)}：绝大多数token未被吊销，布隆过滤器直接返回，
+ * 只有命中（真正吊销或误判）时才查精确集合。
+ *
+ * <p>启动时加载未过期的记录，之后按自增ID增量同步其他节点的记录。自增ID在插入时分配、提交后才可见，
+ * ID较小的事务可能晚于同步位置提交，因此每次同步还按吊销时间回看一个窗口（{@code jwt.revocation.sync-window}）；
+ * 记录在token过期后失去意义，定期从内存和数据库中清理，布隆过滤器随之按剩余记录重建。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final JwtConfig.Revocation config;
+
+    /**
+     * token ID -> 过期时间（毫秒时间戳）
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    private volatile BloomFilter filter;
+
+    private int capacity;
+
+    private long lastId;
+
+    /**
+     * 是否已完成启动时的全量加载
+     */
+    private boolean loaded;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository, TransactionTemplate transactionTemplate,
+                               JwtConfig jwtConfig) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.config = jwtConfig.getRevocation();
+        this.capacity = config.getExpectedTokens();
+        this.filter = new BloomFilter(capacity, config.getFalsePositiveRate());
+    }
+
+    @PostConstruct
+    public void init() {
+        sync();
+        log.info("已加载 {} 个已吊销的token", revoked.size());
+    }
+
+    /**
+     * token是否已被吊销
+     *
+     * @param tokenId token ID
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 吊销token（登出），重复吊销忽略
+     *
+     * @param claims 已验证的token声明
+     */
+    public void revoke(JwtClaims claims) {
+        String tokenId = claims.getTokenId();
+        if (revoked.containsKey(tokenId)) {
+            return;
+        }
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            RevokedToken token = new RevokedToken();
+            token.setTokenId(tokenId);
+            token.setUserId(claims.getUserId());
+            token.setExpiresAt(toLocalDateTime(claims.getExpiration()));
+            try {
+                revokedTokenRepository.save(token);
+            } catch (DataIntegrityViolationException e) {
+                log.debug("token已被并发吊销: {}", tokenId);
+            }
+        }
+        add(tokenId, claims.getExpiration());
+    }
+
+    /**
+     * 同步其他节点新增的吊销记录
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:10000}", initialDelayString = "${jwt.revocation.sync-interval:10000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RevokedToken token : revokedTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(lastId, now)) {
+            addIfAbsent(token);
+            lastId = Math.max(lastId, token.getId());
+        }
+        if (!loaded) {
+            loaded = true;
+            return;
+        }
+
+        // 补上ID小于同步位置、但在上次同步之后才提交的记录
+        LocalDateTime windowStart = now.minus(Duration.ofMillis(config.getSyncWindow()));
+        for (RevokedToken token : revokedTokenRepository.findByCreatedAtAfterAndExpiresAtAfter(windowStart, now)) {
+            addIfAbsent(token);
+        }
+    }
+
+    /**
+     * 清理已过期的记录并重建布隆过滤器
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:3600000}", initialDelayString = "${jwt.revocation.purge-interval:3600000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        int removed;
+        synchronized (lock) {
+            int before = revoked.size();
+            revoked.values().removeIf(expiration -> expiration <= now);
+            removed = before - revoked.size();
+            if (removed > 0) {
+                rebuild();
+            }
+        }
+        Integer deleted = transactionTemplate.execute(status -> revokedTokenRepository.deleteExpired(LocalDateTime.now()));
+        log.debug("已清理过期的吊销记录: memory={}, database={}", removed, deleted);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private void addIfAbsent(RevokedToken token) {
+        if (!revoked.containsKey(token.getTokenId())) {
+            add(token.getTokenId(), toEpochMilli(token.getExpiresAt()));
+        }
+    }
+
+    private void add(String tokenId, long expiration) {
+        synchronized (lock) {
+            revoked.put(tokenId, expiration);
+            if (revoked.size() > capacity) {
+                capacity *= 2;
+                rebuild();
+            } else {
+                filter.put(tokenId);
+            }
+        }
+    }
+
+    /**
+     * 按当前记录重建布隆过滤器（持有锁时调用），新过滤器填充完成后再替换
+     */
+    private void rebuild() {
+        capacity = Math.max(capacity, config.getExpectedTokens());
+        BloomFilter rebuilt = new BloomFilter(capacity, config.getFalsePositiveRate());
+        for (String tokenId : revoked.keySet()) {
+            rebuilt.put(tokenId);
+        }
+        filter = rebuilt;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
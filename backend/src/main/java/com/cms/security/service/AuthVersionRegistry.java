@@ -0,0 +1,65 @@
+package com.cms.security.service;
+
+import com.cms.module.user.event.UserChangedEvent;
+import com.cms.module.user.repository.UserAuthVersion;
+import com.cms.module.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 用户授权版本号注册表
+ * 认证过滤器用它判断token中的授权版本号是否仍为最新：是则直接由token声明构建用户，否则回退为查询数据库。
+ * 只在内存中保存版本号大于0的用户（角色、状态变更过或已删除），其余用户的版本号均为0。
+ *
+ * <p>启动时从数据库加载，本节点的用户变更在事务提交后立即更新；
+ * 其他节点的变更通过定时刷新（jwt.auth-refresh-interval）最迟在一个周期内生效。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthVersionRegistry {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.auth-refresh-interval:30000}", initialDelayString = "${jwt.auth-refresh-interval:30000}")
+    public void load() {
+        // 版本号只增不减，与事件更新的值取较大者
+        for (UserAuthVersion version : userRepository.findChangedAuthVersions()) {
+            versions.merge(version.getId(), version.getAuthVersion(), Math::max);
+        }
+        log.debug("已加载 {} 个用户的授权版本号", versions.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED) {
+            return;
+        }
+        userRepository.findAuthVersionById(event.getUserId())
+                .ifPresent(version -> versions.merge(event.getUserId(), version, Math::max));
+    }
+
+    /**
+     * token中的授权版本号是否为该用户的最新版本
+     *
+     * @param userId      用户ID
+     * @param authVersion token中的授权版本号（旧token没有该声明时为null）
+     */
+    public boolean isCurrent(Long userId, Integer authVersion) {
+        return userId != null && authVersion != null
+                && versions.getOrDefault(userId, 0).intValue() == authVersion;
+    }
+}
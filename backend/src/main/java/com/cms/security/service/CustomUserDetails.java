@@ -1,6 +1,5 @@
 package com.cms.security.service;
 
-import com.cms.module.user.entity.Permission;
 import com.cms.module.user.entity.Role;
 import com.cms.module.user.entity.User;
 import lombok.Data;
@@ -8,63 +7,96 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * 自定义UserDetails实现
+ * 可由用户实体构建（登录、token授权版本号过期时），也可直接由token声明构建（不查询数据库）。
+ * 权限以 {@link PermissionSet} 保存，{@link #hasAuthority(String)} 为O(1)位测试，供方法级权限表达式使用。
  */
 @Data
 public class CustomUserDetails implements UserDetails {
 
+    private static final String ROLE_PREFIX = "ROLE_";
+
     private Long userId;
     private String username;
     private String password;
     private String email;
     private String nickname;
     private String status;
-    private Set<Role> roles;
-    private Set<Permission> permissions;
+    private Integer authVersion;
+    private Set<String> roleCodes;
+    private PermissionSet permissions;
 
-    public CustomUserDetails(User user) {
+    /**
+     * 由用户实体构建
+     *
+     * @param user        用户（角色已初始化）
+     * @param permissions 用户各角色权限的并集
+     */
+    public CustomUserDetails(User user, PermissionSet permissions) {
         this.userId = user.getId();
         this.username = user.getUsername();
         this.password = user.getPasswordHash();
         this.email = user.getEmail();
         this.nickname = user.getNickname();
         this.status = user.getStatus();
-        this.roles = user.getRoles();
-        
-        // 收集所有权限
-        this.permissions = new HashSet<>();
-        if (roles != null) {
-            for (Role role : roles) {
-                if (role.getPermissions() != null) {
-                    permissions.addAll(role.getPermissions());
-                }
+        this.authVersion = user.getAuthVersion();
+        this.roleCodes = new HashSet<>();
+        if (user.getRoles() != null) {
+            for (Role role : user.getRoles()) {
+                roleCodes.add(role.getCode());
             }
         }
+        this.permissions = permissions;
+    }
+
+    /**
+     * 由token声明构建（授权版本号仍为最新，用户必然处于激活状态；不含密码、邮箱和昵称）
+     */
+    public CustomUserDetails(Long userId, String username, Integer authVersion,
+                             Set<String> roleCodes, PermissionSet permissions) {
+        this.userId = userId;
+        this.username = username;
+        this.status = "ACTIVE";
+        this.authVersion = authVersion;
+        this.roleCodes = roleCodes;
+        this.permissions = permissions;
+    }
+
+    /**
+     * 是否拥有指定授权（权限代码，或 ROLE_ 开头的角色）
+     */
+    public boolean hasAuthority(String authority) {
+        if (permissions.contains(authority)) {
+            return true;
+        }
+        return authority.startsWith(ROLE_PREFIX) && roleCodes.contains(authority.substring(ROLE_PREFIX.length()));
+    }
+
+    /**
+     * 获取权限代码列表
+     */
+    public Set<String> getPermissionCodes() {
+        return permissions.codes();
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Set<GrantedAuthority> authorities = new HashSet<>();
+        List<GrantedAuthority> authorities = new ArrayList<>(roleCodes.size() + permissions.size());
         
         // 添加角色权限（以ROLE_开头）
-        if (roles != null) {
-            authorities.addAll(roles.stream()
-                    .map(role -> new SimpleGrantedAuthority("ROLE_" + role.getCode()))
-                    .collect(Collectors.toSet()));
+        for (String roleCode : roleCodes) {
+            authorities.add(new SimpleGrantedAuthority(ROLE_PREFIX + roleCode));
         }
         
         // 添加权限
-        if (permissions != null) {
-            authorities.addAll(permissions.stream()
-                    .map(permission -> new SimpleGrantedAuthority(permission.getCode()))
-                    .collect(Collectors.toSet()));
-        }
+        authorities.addAll(permissions.authorities());
         
         return authorities;
     }
@@ -98,29 +130,4 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return "ACTIVE".equals(status);
     }
-
-    /**
-     * 获取角色代码列表
-     */
-    public Set<String> getRoleCodes() {
-        if (roles == null) {
-            return new HashSet<>();
-        }
-        return roles.stream()
-                .map(Role::getCode)
-                .collect(Collectors.toSet());
-    }
-
-    /**
-     * 获取权限代码列表
-     */
-    public Set<String> getPermissionCodes() {
-        if (permissions == null) {
-            return new HashSet<>();
-        }
-        return permissions.stream()
-                .map(Permission::getCode)
-                .collect(Collectors.toSet());
-    }
 }
-
@@ -1,17 +1,26 @@
 package com.cms.security.service;
 
+import com.cms.common.cache.CacheNames;
+import com.cms.module.user.entity.Permission;
+import com.cms.module.user.entity.Role;
 import com.cms.module.user.entity.User;
 import com.cms.module.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * 自定义UserDetailsService实现
+ * 登录时按用户名加载（需要最新的密码）；认证过滤器按用户ID加载并缓存，
+ * 缓存在用户角色/状态变更、删除以及角色权限变更后由 {@link UserDetailsCacheEvictor} 清除。
  */
 @Slf4j
 @Service
@@ -19,6 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final RolePermissionRegistry rolePermissionRegistry;
 
     @Override
     @Transactional(readOnly = true)
@@ -33,11 +43,41 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("用户已被删除: " + username);
         }
         
-        // 初始化懒加载的角色和权限
-        user.getRoles().size();
-        user.getRoles().forEach(role -> role.getPermissions().size());
+        return load(user);
+    }
+
+    /**
+     * 按用户ID加载用户详情（缓存）
+     *
+     * @param userId 用户ID
+     * @return 用户详情
+     * @throws UsernameNotFoundException 用户不存在或已删除
+     */
+    @Cacheable(cacheNames = CacheNames.SECURITY_USER_DETAILS, key = "#userId")
+    @Transactional(readOnly = true)
+    public CustomUserDetails loadUserById(Long userId) throws UsernameNotFoundException {
+        log.debug("加载用户信息: id={}", userId);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("用户不存在: " + userId));
+
+        if (user.getDeleted()) {
+            throw new UsernameNotFoundException("用户已被删除: " + userId);
+        }
+
+        return load(user);
+    }
+
+    private CustomUserDetails load(User user) {
+        // 收集角色的全部权限（同时初始化懒加载的角色和权限）
+        Set<String> permissionCodes = new HashSet<>();
+        for (Role role : user.getRoles()) {
+            for (Permission permission : role.getPermissions()) {
+                permissionCodes.add(permission.getCode());
+            }
+        }
         
-        return new CustomUserDetails(user);
+        return new CustomUserDetails(user, rolePermissionRegistry.of(permissionCodes));
     }
 }
 
@@ -0,0 +1,69 @@
+package com.cms.security.service;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 权限代码索引
+ * 把权限代码映射为从0开始的连续整数ID，使权限集合可以用 {@link BitSet} 表示。
+ * 创建后不可修改；权限增删后由 {@link RolePermissionRegistry} 整体重建。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public final class PermissionIndex {
+
+    private final Map<String, Integer> ids;
+
+    private final String[] codes;
+
+    public PermissionIndex(Collection<String> permissionCodes) {
+        this.ids = new HashMap<>(permissionCodes.size() * 2);
+        for (String code : permissionCodes) {
+            ids.putIfAbsent(code, ids.size());
+        }
+        this.codes = new String[ids.size()];
+        ids.forEach((code, id) -> codes[id] = code);
+    }
+
+    /**
+     * 权限代码对应的ID
+     *
+     * @return ID，未知的权限代码返回-1
+     */
+    public int idOf(String code) {
+        Integer id = ids.get(code);
+        return id != null ? id : -1;
+    }
+
+    public String codeOf(int id) {
+        return codes[id];
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * 由权限代码构建权限集合，忽略索引中不存在的代码
+     */
+    public PermissionSet of(Collection<String> permissionCodes) {
+        BitSet bits = new BitSet(codes.length);
+        for (String code : permissionCodes) {
+            int id = idOf(code);
+            if (id >= 0) {
+                bits.set(id);
+            }
+        }
+        return new PermissionSet(this, bits);
+    }
+
+    /**
+     * 是否包含全部权限代码
+     */
+    public boolean containsAll(Collection<String> permissionCodes) {
+        return ids.keySet().containsAll(permissionCodes);
+    }
+}
@@ -0,0 +1,85 @@
+package com.cms.security.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 权限集合（不可变）
+ * 以 {@link PermissionIndex} 中的ID为下标的位集合，{@link #contains(String)} 为一次哈希查找加一次位测试，不分配对象。
+ * 同一角色（或角色组合）的用户共享同一个实例，权限代码集合和授权列表在首次使用时生成并缓存。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public final class PermissionSet {
+
+    private final PermissionIndex index;
+
+    private final BitSet bits;
+
+    private volatile Set<String> codes;
+
+    private volatile List<GrantedAuthority> authorities;
+
+    PermissionSet(PermissionIndex index, BitSet bits) {
+        this.index = index;
+        this.bits = bits;
+    }
+
+    public boolean contains(String code) {
+        int id = index.idOf(code);
+        return id >= 0 && bits.get(id);
+    }
+
+    /**
+     * 并集（两个集合须来自同一个索引）
+     */
+    public PermissionSet union(PermissionSet other) {
+        BitSet union = (BitSet) bits.clone();
+        union.or(other.bits);
+        return new PermissionSet(index, union);
+    }
+
+    public int size() {
+        return bits.cardinality();
+    }
+
+    /**
+     * 权限代码（不可修改）
+     */
+    public Set<String> codes() {
+        Set<String> result = codes;
+        if (result == null) {
+            Set<String> built = new LinkedHashSet<>();
+            for (int id = bits.nextSetBit(0); id >= 0; id = bits.nextSetBit(id + 1)) {
+                built.add(index.codeOf(id));
+            }
+            result = Collections.unmodifiableSet(built);
+            codes = result;
+        }
+        return result;
+    }
+
+    /**
+     * 权限代码对应的授权列表（不可修改）
+     */
+    public List<GrantedAuthority> authorities() {
+        List<GrantedAuthority> result = authorities;
+        if (result == null) {
+            List<GrantedAuthority> built = new ArrayList<>();
+            for (String code : codes()) {
+                built.add(new SimpleGrantedAuthority(code));
+            }
+            result = Collections.unmodifiableList(built);
+            authorities = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,143 @@
+package com.cms.security.service;
+
+import com.cms.module.user.entity.Permission;
+import com.cms.module.user.entity.Role;
+import com.cms.module.user.event.PermissionChangedEvent;
+import com.cms.module.user.event.RoleChangedEvent;
+import com.cms.module.user.repository.PermissionRepository;
+import com.cms.module.user.repository.RoleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 角色权限注册表
+ * 启动时把全部权限代码编号为 {@link PermissionIndex}，每个角色展开为一个 {@link PermissionSet}（位集合）。
+ * token中只携带角色代码，请求时由此解析出权限；多个角色的并集按角色组合缓存，命中时不分配对象。
+ *
+ * <p>角色或权限变更后整体重新加载（角色和权限数量很少，两次查询）；快照整体替换，读取无需加锁。
+ * 其他节点的变更通过定时刷新（jwt.auth-refresh-interval）最迟在一个周期内生效。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RolePermissionRegistry {
+
+    private final RoleRepository roleRepository;
+
+    private final PermissionRepository permissionRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(new PermissionIndex(Collections.emptyList()), Collections.emptyMap());
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${jwt.auth-refresh-interval:30000}", initialDelayString = "${jwt.auth-refresh-interval:30000}")
+    public void reload() {
+        // 角色关联的权限不过滤已删除的权限，索引同样包含全部权限
+        List<String> permissionCodes = new ArrayList<>();
+        for (Permission permission : permissionRepository.findAll()) {
+            permissionCodes.add(permission.getCode());
+        }
+        PermissionIndex index = new PermissionIndex(permissionCodes);
+
+        Map<String, PermissionSet> byRole = new HashMap<>();
+        for (Role role : roleRepository.findAllWithPermissions()) {
+            Set<String> codes = new HashSet<>();
+            for (Permission permission : role.getPermissions()) {
+                codes.add(permission.getCode());
+            }
+            byRole.put(role.getCode(), index.of(codes));
+        }
+        snapshot = new Snapshot(index, byRole);
+        log.debug("已加载 {} 个权限、{} 个角色", index.size(), byRole.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionChanged(PermissionChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * 解析角色拥有的权限（并集）
+     *
+     * @param roleCodes 角色代码
+     * @return 权限集合
+     */
+    public PermissionSet resolve(Set<String> roleCodes) {
+        Snapshot current = snapshot;
+        if (roleCodes.size() == 1) {
+            PermissionSet permissions = current.byRole.get(roleCodes.iterator().next());
+            return permissions != null ? permissions : current.empty;
+        }
+        PermissionSet permissions = current.byRoles.get(roleCodes);
+        if (permissions == null) {
+            permissions = current.byRoles.computeIfAbsent(new HashSet<>(roleCodes), current::union);
+        }
+        return permissions;
+    }
+
+    /**
+     * 由权限代码构建权限集合（从数据库加载用户时使用）
+     * 出现索引中没有的权限代码时（其他节点新增了权限，尚未刷新）先重新加载
+     *
+     * @param permissionCodes 权限代码
+     * @return 权限集合
+     */
+    public PermissionSet of(Collection<String> permissionCodes) {
+        if (!snapshot.index.containsAll(permissionCodes)) {
+            reload();
+        }
+        return snapshot.index.of(permissionCodes);
+    }
+
+    /**
+     * 权限索引和角色权限的快照
+     */
+    private static final class Snapshot {
+
+        private final PermissionIndex index;
+
+        private final Map<String, PermissionSet> byRole;
+
+        private final Map<Set<String>, PermissionSet> byRoles = new ConcurrentHashMap<>();
+
+        private final PermissionSet empty;
+
+        private Snapshot(PermissionIndex index, Map<String, PermissionSet> byRole) {
+            this.index = index;
+            this.byRole = byRole;
+            this.empty = index.of(Collections.emptyList());
+        }
+
+        private PermissionSet union(Set<String> roleCodes) {
+            PermissionSet result = empty;
+            for (String roleCode : roleCodes) {
+                PermissionSet permissions = byRole.get(roleCode);
+                if (permissions != null) {
+                    result = result.union(permissions);
+                }
+            }
+            return result;
+        }
+    }
+}
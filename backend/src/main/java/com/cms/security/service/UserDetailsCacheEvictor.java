@@ -0,0 +1,59 @@
+package com.cms.security.service;
+
+import com.cms.common.cache.CacheNames;
+import com.cms.module.user.event.PermissionChangedEvent;
+import com.cms.module.user.event.RoleChangedEvent;
+import com.cms.module.user.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 认证用户详情缓存失效处理
+ * 用户角色、状态变更或删除的事务提交后清除该用户；
+ * 角色（含分配权限）、权限变更影响所有拥有该角色的用户，整体清空（这类变更很少）。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.CREATED) {
+            return;
+        }
+        log.debug("用户变更，清除用户详情缓存: {}", event);
+        Cache cache = cacheManager.getCache(CacheNames.SECURITY_USER_DETAILS);
+        if (cache != null) {
+            cache.evict(event.getUserId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRoleChanged(RoleChangedEvent event) {
+        log.debug("角色变更，清空用户详情缓存: {}", event);
+        clear();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPermissionChanged(PermissionChangedEvent event) {
+        log.debug("权限变更，清空用户详情缓存: {}", event);
+        clear();
+    }
+
+    private void clear() {
+        Cache cache = cacheManager.getCache(CacheNames.SECURITY_USER_DETAILS);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
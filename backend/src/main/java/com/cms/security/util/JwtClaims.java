@@ -0,0 +1,68 @@
+package com.cms.security.util;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 已验证token的声明（不可变）
+ * 由 {@link JwtUtil#parseToken(String)} 在签名和过期时间校验通过后创建，
+ * 同一个请求只解析一次token，后续直接读取字段。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@Getter
+@ToString
+public final class JwtClaims {
+
+    /**
+     * token ID（jti；没有该声明的旧token为签名），用于吊销
+     */
+    private final String tokenId;
+
+    private final String username;
+
+    private final Long userId;
+
+    /**
+     * 签发时的角色代码（旧token没有该声明时为空集合）
+     */
+    private final Set<String> roles;
+
+    /**
+     * 签发时的授权版本号（旧token没有该声明时为null）
+     */
+    private final Integer authVersion;
+
+    /**
+     * 签发时间（毫秒时间戳）
+     */
+    private final long issuedAt;
+
+    /**
+     * 过期时间（毫秒时间戳）
+     */
+    private final long expiration;
+
+    public JwtClaims(String tokenId, String username, Long userId, Collection<String> roles, Integer authVersion,
+                     Date issuedAt, Date expiration) {
+        this.tokenId = tokenId;
+        this.username = username;
+        this.userId = userId;
+        this.roles = roles == null ? Collections.emptySet()
+                : Collections.unmodifiableSet(new LinkedHashSet<>(roles));
+        this.authVersion = authVersion;
+        this.issuedAt = issuedAt == null ? 0L : issuedAt.getTime();
+        this.expiration = expiration == null ? Long.MAX_VALUE : expiration.getTime();
+    }
+
+    public boolean isExpired(long now) {
+        return expiration <= now;
+    }
+}
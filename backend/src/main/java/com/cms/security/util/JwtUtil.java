@@ -2,34 +2,52 @@ package com.cms.security.util;
 
 import com.cms.security.config.JwtConfig;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT工具类
+ * 签名密钥和解析器在启动时创建一次并复用（两者都是线程安全的）；
+ * 认证过滤器通过 {@link #parseToken(String)} 每个请求只解析一次token。
+ *
+ * <p>登录签发的token还携带角色代码（roles）和授权版本号（av），
+ * 版本号仍为最新时认证过滤器直接由声明构建当前用户。每个token带有唯一ID（jti），登出时据此吊销。
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtUtil {
 
+    private static final String ROLES_CLAIM = "roles";
+
+    private static final String AUTH_VERSION_CLAIM = "av";
+
     private final JwtConfig jwtConfig;
 
-    /**
-     * 生成密钥
-     */
-    private SecretKey getSecretKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+    private final SecretKey secretKey;
+
+    private final JwtParser parser;
+
+    public JwtUtil(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        this.secretKey = Keys.hmacShaKeyFor(jwtConfig.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     /**
@@ -46,6 +64,24 @@ public class JwtUtil {
         return createToken(claims, username);
     }
 
+    /**
+     * 生成携带授权信息的token
+     *
+     * @param username    用户名
+     * @param userId      用户ID
+     * @param roleCodes   角色代码
+     * @param authVersion 授权版本号
+     * @return token
+     */
+    public String generateToken(String username, Long userId, Collection<String> roleCodes, Integer authVersion) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("username", username);
+        claims.put(ROLES_CLAIM, new ArrayList<>(roleCodes));
+        claims.put(AUTH_VERSION_CLAIM, authVersion);
+        return createToken(claims, username);
+    }
+
     /**
      * 创建token
      *
@@ -59,13 +95,32 @@ public class JwtUtil {
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expirationDate)
-                .signWith(getSecretKey(), SignatureAlgorithm.HS256)
+                .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 解析并验证token（签名、格式、过期时间）
+     *
+     * @param token token
+     * @return 已验证的声明
+     * @throws io.jsonwebtoken.ExpiredJwtException   token已过期
+     * @throws io.jsonwebtoken.JwtException          签名无效或格式错误
+     */
+    @SuppressWarnings("unchecked")
+    public JwtClaims parseToken(String token) {
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        String tokenId = claims.getId() != null ? claims.getId() : jws.getSignature();
+        return new JwtClaims(tokenId, claims.getSubject(), claims.get("userId", Long.class),
+                claims.get(ROLES_CLAIM, List.class), claims.get(AUTH_VERSION_CLAIM, Integer.class),
+                claims.getIssuedAt(), claims.getExpiration());
+    }
+
     /**
      * 从token中获取用户名
      *
@@ -104,11 +159,7 @@ public class JwtUtil {
      * @return 声明
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     /**
@@ -136,12 +187,11 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token, String username) {
         try {
-            String tokenUsername = getUsernameFromToken(token);
-            return (tokenUsername.equals(username) && !isTokenExpired(token));
+            JwtClaims claims = parseToken(token);
+            return claims.getUsername().equals(username) && !claims.isExpired(System.currentTimeMillis());
         } catch (Exception e) {
             log.error("Token验证失败", e);
             return false;
         }
     }
 }
-
@@ -0,0 +1,15 @@
+-- =============================================
+-- V1.3.1 使用ngram分词器重建内容全文索引
+-- 描述: V1.0.2 创建的 ft_title_content 使用默认分词器，无法对中文分词。
+--       重建为 ngram 分词器，供访客端 MATCH ... AGAINST 全文搜索使用
+-- =============================================
+
+-- 1. 删除旧的全文索引（如果存在）
+SET @exist_check = (SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'contents' AND index_name = 'ft_title_content');
+SET @sql_cmd = IF(@exist_check > 0, 'ALTER TABLE contents DROP INDEX ft_title_content', 'SELECT ''Index ft_title_content does not exist'' AS msg');
+PREPARE stmt FROM @sql_cmd;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. 使用ngram分词器重建全文索引（分词长度由 ngram_token_size 控制，默认2）
+ALTER TABLE contents ADD FULLTEXT INDEX ft_title_content (title, content) WITH PARSER ngram;
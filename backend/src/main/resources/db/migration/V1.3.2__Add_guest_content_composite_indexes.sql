@@ -0,0 +1,36 @@
+-- =============================================
+-- V1.3.2 访客端内容查询复合索引
+-- 描述: 访客端列表查询均以 site_id, status, deleted 等值过滤（可选 category_id / is_top / is_featured），
+--       并按 published_at 倒序排序。原有单列索引只能命中其中一个条件，其余条件回表过滤后还需要filesort。
+--       以下复合索引按"等值列在前、排序列在后"的顺序建立，过滤和排序都在索引上完成。
+--       published_at 使用升序列，倒序查询走反向索引扫描；InnoDB二级索引隐含升序主键，
+--       因此游标分页的 ORDER BY published_at DESC, id DESC 也能直接按索引顺序读取。
+-- =============================================
+
+-- 1. 站点已发布内容列表 / 游标分页: site_id = ? AND status = ? AND deleted = ? ORDER BY published_at DESC
+SET @exist_check = (SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'contents' AND index_name = 'idx_site_status_deleted_published');
+SET @sql_cmd = IF(@exist_check = 0, 'ALTER TABLE contents ADD INDEX idx_site_status_deleted_published (site_id, status, deleted, published_at)', 'SELECT ''Index idx_site_status_deleted_published already exists'' AS msg');
+PREPARE stmt FROM @sql_cmd;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2. 分类已发布内容列表 / 相关内容，同时覆盖按分类分组统计已发布数量
+SET @exist_check = (SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'contents' AND index_name = 'idx_site_status_deleted_category_published');
+SET @sql_cmd = IF(@exist_check = 0, 'ALTER TABLE contents ADD INDEX idx_site_status_deleted_category_published (site_id, status, deleted, category_id, published_at)', 'SELECT ''Index idx_site_status_deleted_category_published already exists'' AS msg');
+PREPARE stmt FROM @sql_cmd;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 3. 首页置顶内容
+SET @exist_check = (SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'contents' AND index_name = 'idx_site_status_deleted_top_published');
+SET @sql_cmd = IF(@exist_check = 0, 'ALTER TABLE contents ADD INDEX idx_site_status_deleted_top_published (site_id, status, deleted, is_top, published_at)', 'SELECT ''Index idx_site_status_deleted_top_published already exists'' AS msg');
+PREPARE stmt FROM @sql_cmd;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 4. 首页推荐内容
+SET @exist_check = (SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'contents' AND index_name = 'idx_site_status_deleted_featured_published');
+SET @sql_cmd = IF(@exist_check = 0, 'ALTER TABLE contents ADD INDEX idx_site_status_deleted_featured_published (site_id, status, deleted, is_featured, published_at)', 'SELECT ''Index idx_site_status_deleted_featured_published already exists'' AS msg');
+PREPARE stmt FROM @sql_cmd;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,31 @@
+-- =============================================
+-- V1.3.3 内容定时发布 / 下线
+-- 描述: 每条记录是一次定时状态变更。各节点启动时把即将到期的待执行记录加载到内存时间轮，
+--       到期时先以租约（lease_owner / lease_until）抢占，只有抢到租约的节点执行，
+--       执行完成后标记为 DONE。节点宕机时租约过期，由其他节点重新加载执行。
+-- =============================================
+
+CREATE TABLE IF NOT EXISTS content_schedules (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '记录ID',
+    content_id BIGINT NOT NULL COMMENT '内容ID',
+    site_id BIGINT NOT NULL COMMENT '站点ID',
+    action VARCHAR(20) NOT NULL COMMENT '动作（PUBLISH/UNPUBLISH）',
+    execute_at DATETIME NOT NULL COMMENT '执行时间',
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '状态（PENDING/DONE/FAILED/CANCELLED）',
+
+    -- 租约
+    lease_owner VARCHAR(100) COMMENT '持有租约的节点',
+    lease_until DATETIME COMMENT '租约到期时间',
+
+    -- 执行结果
+    attempts INT NOT NULL DEFAULT 0 COMMENT '执行次数',
+    last_error VARCHAR(500) COMMENT '最后一次失败原因',
+    executed_at DATETIME COMMENT '实际执行时间',
+
+    created_by BIGINT COMMENT '创建人ID',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+
+    INDEX idx_status_execute_at (status, execute_at),
+    INDEX idx_content_status (content_id, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='内容定时发布表';
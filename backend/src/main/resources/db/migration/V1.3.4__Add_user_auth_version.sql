@@ -0,0 +1,8 @@
+-- =============================================
+-- V1.3.4 用户授权版本号
+-- 描述: token中携带签发时的授权版本号，请求时直接由token声明构建当前用户，不再逐个请求查询用户、角色和权限。
+--       用户的角色、状态变更或用户被删除时版本号递增，旧token的版本号过期后回退为查询数据库。
+-- =============================================
+
+ALTER TABLE users
+    ADD COLUMN auth_version INT NOT NULL DEFAULT 0 COMMENT '授权版本号（角色、状态变更或删除时递增）' AFTER locked_until;
@@ -0,0 +1,16 @@
+-- =============================================
+-- V1.3.5 已吊销token
+-- 描述: 用户登出时记录token的ID，在token过期前拒绝该token。各节点启动时加载未过期的记录，
+--       之后按自增ID增量同步其他节点新增的记录；过期的记录定期清理。
+-- =============================================
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY COMMENT '记录ID',
+    token_id VARCHAR(100) NOT NULL COMMENT 'token ID（jti，旧token为签名）',
+    user_id BIGINT COMMENT '用户ID',
+    expires_at DATETIME NOT NULL COMMENT 'token过期时间，过期后记录可删除',
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '吊销时间',
+
+    UNIQUE KEY uk_token_id (token_id),
+    INDEX idx_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='已吊销token表';
@@ -0,0 +1,7 @@
+-- =============================================
+-- V1.3.6 已吊销token按吊销时间索引
+-- 描述: 自增ID在插入时分配、提交后才可见，晚提交的记录ID可能小于各节点的同步位置。
+--       增量同步除按ID查询外，还按吊销时间回看一个窗口补上这些记录。
+-- =============================================
+
+ALTER TABLE revoked_tokens ADD INDEX idx_created_at (created_at);
@@ -0,0 +1,11 @@
+-- =============================================
+-- V1.3.7 站点访客内容版本
+-- 描述: 访客端首页、列表等聚合接口的ETag按站点版本生成。站点内内容、分类或站点本身变更后由处理写入的节点递增版本，
+--       其他节点定期读取，所有节点对同一站点给出相同的ETag，不会因为本节点未收到变更事件而一直返回304。
+-- =============================================
+
+CREATE TABLE IF NOT EXISTS site_content_versions (
+    site_id BIGINT PRIMARY KEY COMMENT '站点ID',
+    version BIGINT NOT NULL COMMENT '版本号（每次变更递增）',
+    updated_at DATETIME(3) NOT NULL COMMENT '最后变更时间'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='站点访客内容版本表';
@@ -0,0 +1,68 @@
+package com.cms.common.cache;
+
+import com.cms.module.site.event.SiteChangedEvent;
+import com.cms.module.site.repository.SiteContentVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:versions;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SiteContentVersions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SiteContentVersionsTest {
+
+    @Autowired
+    private SiteContentVersions versions;
+
+    @Autowired
+    private SiteContentVersionRepository versionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void testSiteChangeBumpsOnlyThatSite() {
+        long site1 = versions.get(1L).getVersion();
+        long site2 = versions.get(2L).getVersion();
+
+        versions.onSiteChanged(new SiteChangedEvent(1L));
+
+        assertTrue(versions.get(1L).getVersion() > site1);
+        assertEquals(site2, versions.get(2L).getVersion());
+    }
+
+    @Test
+    public void testOtherNodeSeesVersionAfterRefresh() {
+        SiteContentVersions otherNode = new SiteContentVersions(versionRepository, transactionManager);
+        otherNode.init();
+        long before = otherNode.get(3L).getVersion();
+
+        // 变更由本节点处理，另一节点没有收到事件
+        versions.onSiteChanged(new SiteChangedEvent(3L));
+        assertEquals(before, otherNode.get(3L).getVersion());
+
+        otherNode.refresh();
+        SiteContentVersions.Version expected = versions.get(3L);
+        SiteContentVersions.Version actual = otherNode.get(3L);
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getLastModified(), actual.getLastModified());
+        assertTrue(actual.getVersion() > before);
+    }
+}
@@ -0,0 +1,116 @@
+package com.cms.common.web;
+
+import com.cms.common.cache.GuestPageCache;
+import com.cms.common.config.PageCacheConfig;
+import com.cms.module.content.service.PublicContentService;
+import com.cms.module.site.event.SiteChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class GuestPageCacheFilterTest {
+
+    private static final String BODY = "{\"code\":200,\"data\":[1,2,3]}";
+
+    private final GuestPageCache cache = new GuestPageCache(new PageCacheConfig());
+
+    private final GuestPageCacheFilter filter = new GuestPageCacheFilter(cache, null, new PageCacheConfig());
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final FilterChain chain = (request, response) -> {
+        calls.incrementAndGet();
+        GuestPageCache.cacheable((HttpServletRequest) request, 1L);
+        response.setContentType("application/json");
+        ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, "\"s1-1\"");
+        response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+    };
+
+    @Test
+    public void testServesCachedResponseWithoutCallingChain() throws Exception {
+        MockHttpServletResponse first = execute(request(null));
+        MockHttpServletResponse second = execute(request("gzip"));
+
+        assertEquals(1, calls.get());
+        assertEquals(BODY, first.getContentAsString());
+        assertEquals("gzip", second.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8),
+                new GZIPInputStream(new ByteArrayInputStream(second.getContentAsByteArray())).readAllBytes());
+
+        MockHttpServletRequest conditional = request(null);
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "\"s1-1\"");
+        MockHttpServletResponse notModified = execute(conditional);
+        assertEquals(304, notModified.getStatus());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testPurgeForcesReload() throws Exception {
+        execute(request(null));
+        cache.onSiteChanged(new SiteChangedEvent(1L));
+        MockHttpServletResponse response = execute(request(null));
+
+        assertEquals(2, calls.get());
+        assertEquals(BODY, response.getContentAsString());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testNotModifiedDetailIsNotCountedAsView() throws Exception {
+        PublicContentService publicContentService = mock(PublicContentService.class);
+        GuestPageCacheFilter detailFilter = new GuestPageCacheFilter(cache, publicContentService, new PageCacheConfig());
+        FilterChain detailChain = (request, response) -> {
+            GuestPageCache.cacheable((HttpServletRequest) request, 1L, Collections.singleton(7L), 7L);
+            response.setContentType("application/json");
+            ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, "W/\"7-1\"");
+            response.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+
+        detailFilter.doFilter(request(null), new MockHttpServletResponse(), detailChain);
+        MockHttpServletRequest conditional = request(null);
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"7-1\"");
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        detailFilter.doFilter(conditional, notModified, detailChain);
+
+        assertEquals(304, notModified.getStatus());
+        verify(publicContentService, never()).recordView(1L, 7L);
+
+        detailFilter.doFilter(request(null), new MockHttpServletResponse(), detailChain);
+        verify(publicContentService, times(1)).recordView(1L, 7L);
+    }
+
+    private MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/guest/contents");
+        request.setContextPath("/api");
+        request.setQueryString("siteId=1");
+        request.addParameter("siteId", "1");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -0,0 +1,104 @@
+package com.cms.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonStreamSupportTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final JsonStreamSupport support = new JsonStreamSupport(objectMapper);
+
+    @Test
+    public void testCompletedExportIsValidGzipJson() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (JsonStreamSupport.Writer writer = support.open(request("gzip"), response, StreamFormat.JSON, "items")) {
+            for (int i = 0; i < 3; i++) {
+                writer.write(Collections.singletonMap("id", i));
+            }
+            writer.complete();
+        }
+
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        byte[] json = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())).readAllBytes();
+        assertEquals(3, objectMapper.readTree(json).size());
+    }
+
+    @Test
+    public void testCompletedNdjsonExportHasOneRecordPerLine() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (JsonStreamSupport.Writer writer = support.open(request(null), response, StreamFormat.NDJSON, "items")) {
+            writer.write(Collections.singletonMap("id", 1));
+            writer.write(Collections.singletonMap("id", 2));
+            writer.complete();
+        }
+
+        assertEquals("{\"id\":1}\n{\"id\":2}\n", response.getContentAsString());
+    }
+
+    @Test
+    public void testFailureBeforeCommitResetsResponse() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThrows(IllegalStateException.class, () -> {
+            try (JsonStreamSupport.Writer writer = support.open(request("gzip"), response, StreamFormat.JSON, "items")) {
+                writer.write(Collections.singletonMap("id", 1));
+                throw new IllegalStateException("导出失败");
+            }
+        });
+
+        assertFalse(response.isCommitted());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNull(response.getHeader(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void testFailureAfterCommitLeavesTruncationVisible() throws Exception {
+        MockHttpServletResponse gzipResponse = new MockHttpServletResponse();
+        exportAndFail(request("gzip"), gzipResponse);
+        assertTrue(gzipResponse.isCommitted());
+        // 没有gzip尾部，解压时报错
+        assertThrows(EOFException.class, () ->
+                new GZIPInputStream(new ByteArrayInputStream(gzipResponse.getContentAsByteArray())).readAllBytes());
+
+        MockHttpServletResponse plainResponse = new MockHttpServletResponse();
+        exportAndFail(request(null), plainResponse);
+        assertTrue(plainResponse.isCommitted());
+        // 没有数组结尾，不是完整的JSON
+        assertFalse(plainResponse.getContentAsString().trim().endsWith("]"));
+    }
+
+    private void exportAndFail(MockHttpServletRequest request, MockHttpServletResponse response) {
+        assertThrows(IllegalStateException.class, () -> {
+            try (JsonStreamSupport.Writer writer = support.open(request, response, StreamFormat.JSON, "items")) {
+                for (int i = 0; i < 5000; i++) {
+                    writer.write(Collections.singletonMap("id", UUID.randomUUID().toString()));
+                }
+                throw new IllegalStateException("导出失败");
+            }
+        });
+    }
+
+    private MockHttpServletRequest request(String acceptEncoding) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contents/export");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.cms.module.auth.service;
+
+import com.cms.module.auth.repository.RevokedTokenRepository;
+import com.cms.module.user.repository.RoleRepository;
+import com.cms.module.user.repository.UserRepository;
+import com.cms.security.config.JwtConfig;
+import com.cms.security.revocation.TokenRevocationList;
+import com.cms.security.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class AuthServiceTest {
+
+    private final JwtConfig jwtConfig = new JwtConfig();
+
+    private final JwtUtil jwtUtil = new JwtUtil(jwtConfig);
+
+    private final TokenRevocationList tokenRevocationList = new TokenRevocationList(
+            mock(RevokedTokenRepository.class), mock(TransactionTemplate.class), jwtConfig);
+
+    private final AuthService authService = new AuthService(mock(AuthenticationManager.class), jwtUtil, jwtConfig,
+            tokenRevocationList, mock(UserRepository.class), mock(RoleRepository.class), mock(PasswordEncoder.class),
+            mock(ApplicationEventPublisher.class));
+
+    @Test
+    public void testLogoutRevokesOnlyPresentedToken() {
+        String token = jwtUtil.generateToken("admin", 1L);
+        String other = jwtUtil.generateToken("admin", 1L);
+
+        authService.logout(request(jwtConfig.getTokenPrefix() + token));
+
+        assertTrue(tokenRevocationList.isRevoked(jwtUtil.parseToken(token).getTokenId()));
+        assertFalse(tokenRevocationList.isRevoked(jwtUtil.parseToken(other).getTokenId()));
+    }
+
+    @Test
+    public void testLogoutIgnoresMissingOrInvalidToken() {
+        authService.logout(new MockHttpServletRequest());
+        authService.logout(request(jwtConfig.getTokenPrefix() + "not-a-token"));
+        authService.logout(request("Basic YWRtaW46YWRtaW4="));
+
+        assertEquals(0, tokenRevocationList.size());
+    }
+
+    private MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/logout");
+        request.addHeader(jwtConfig.getHeader(), authorization);
+        return request;
+    }
+}
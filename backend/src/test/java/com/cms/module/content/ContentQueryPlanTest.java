@@ -0,0 +1,228 @@
+package com.cms.module.content;
+
+import com.cms.module.content.dto.PublicContentQueryDTO;
+import com.cms.module.content.hot.HotContentTracker;
+import com.cms.module.content.service.ContentViewCounter;
+import com.cms.module.content.service.PublicContentService;
+import com.cms.module.site.service.SiteStatisticsService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 访客端内容查询执行计划回归测试
+ * 调用 PublicContentService 的真实查询，捕获Hibernate生成的SQL，在建有 V1.3.2 复合索引的内存库（H2 MySQL模式）上执行EXPLAIN，
+ * 校验每条查询命中预期的复合索引，且索引中排序（分组）列之前的列都是等值条件，
+ * MySQL据此直接按索引顺序读取，不产生filesort。H2本身不做反向索引扫描，因此不以H2是否排序作为判断依据。
+ *
+ * <p>索引定义直接取自迁移脚本，脚本或查询条件变化导致索引失效时测试失败。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.cms.module.content.ContentQueryPlanTest$SqlCapture"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PublicContentService.class)
+public class ContentQueryPlanTest {
+
+    private static final String MIGRATION = "db/migration/V1.3.2__Add_guest_content_composite_indexes.sql";
+
+    private static final Pattern ADD_INDEX = Pattern.compile("ALTER TABLE contents ADD INDEX (\\w+) \\(([^)]+)\\)");
+
+    private static final Pattern GROUP_BY = Pattern.compile(" group by \\w+\\.(\\w+)");
+
+    private static final String SITE_INDEX = "idx_site_status_deleted_published";
+    private static final String CATEGORY_INDEX = "idx_site_status_deleted_category_published";
+    private static final String TOP_INDEX = "idx_site_status_deleted_top_published";
+    private static final String FEATURED_INDEX = "idx_site_status_deleted_featured_published";
+
+    /**
+     * 迁移脚本中的索引定义（索引名 -> 列）
+     */
+    private final Map<String, List<String>> indexes = new LinkedHashMap<>();
+
+    @Autowired
+    private PublicContentService publicContentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ContentViewCounter viewCounter;
+
+    @MockBean
+    private HotContentTracker hotContentTracker;
+
+    @MockBean
+    private SiteStatisticsService siteStatisticsService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        String migration = StreamUtils.copyToString(new ClassPathResource(MIGRATION).getInputStream(), StandardCharsets.UTF_8);
+        Matcher matcher = ADD_INDEX.matcher(migration);
+        while (matcher.find()) {
+            indexes.put(matcher.group(1), Arrays.asList(matcher.group(2).split(",\\s*")));
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + matcher.group(1) + " ON contents (" + matcher.group(2) + ")");
+        }
+        assertEquals(4, indexes.size(), "迁移脚本中的索引数量不符合预期");
+        insertRows(5000);
+        jdbcTemplate.execute("ANALYZE");
+        SqlCapture.clear();
+    }
+
+    @Test
+    public void publishedListUsesSiteIndex() {
+        publicContentService.getPublishedContents(query(1L, null));
+        assertPlans(sql -> SITE_INDEX);
+    }
+
+    @Test
+    public void cursorListUsesSiteIndex() {
+        String cursor = publicContentService.getPublishedContentsByCursor(query(1L, null), null, false).getNextCursor();
+        SqlCapture.clear();
+        publicContentService.getPublishedContentsByCursor(query(1L, null), cursor, false);
+        assertPlans(sql -> SITE_INDEX);
+    }
+
+    @Test
+    public void categoryListUsesCategoryIndex() {
+        publicContentService.getPublishedContents(query(1L, 1L));
+        assertPlans(sql -> CATEGORY_INDEX);
+    }
+
+    @Test
+    public void homePageQueriesUseMatchingIndexes() {
+        publicContentService.getHomePageData(1L);
+        assertPlans(sql -> {
+            if (sql.contains("is_top=")) {
+                return TOP_INDEX;
+            }
+            if (sql.contains("is_featured=")) {
+                return FEATURED_INDEX;
+            }
+            return CATEGORY_INDEX;
+        });
+    }
+
+    /**
+     * 对捕获的每条内容查询执行EXPLAIN，校验使用的索引及其等值前缀
+     */
+    private void assertPlans(Function<String, String> expectedIndex) {
+        List<String> queries = SqlCapture.contentQueries();
+        assertFalse(queries.isEmpty(), "没有捕获到内容查询");
+        for (String sql : queries) {
+            String index = expectedIndex.apply(sql);
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            Matcher matcher = Pattern.compile("/\\* public\\." + index + ": (.*?)\\*/", Pattern.DOTALL).matcher(plan);
+            assertTrue(matcher.find(), "未使用索引 " + index + ": " + sql + "\n" + plan);
+
+            // 排序（或分组）列之前的索引列都必须是等值条件
+            String condition = matcher.group(1);
+            Matcher groupBy = GROUP_BY.matcher(sql);
+            String orderedColumn = groupBy.find() ? groupBy.group(1) : "published_at";
+            for (String column : indexes.get(index)) {
+                if (orderedColumn.equals(column)) {
+                    break;
+                }
+                assertTrue(condition.contains(column + " ="), "索引列 " + column + " 不是等值条件: " + sql + "\n" + plan);
+            }
+            if (sql.contains(" order by ")) {
+                assertTrue(sql.substring(sql.indexOf(" order by ")).matches(" order by \\w+\\.published_at desc.*"),
+                        "排序与索引不一致: " + sql);
+            }
+        }
+    }
+
+    private PublicContentQueryDTO query(Long siteId, Long categoryId) {
+        PublicContentQueryDTO queryDTO = new PublicContentQueryDTO();
+        queryDTO.setSiteId(siteId);
+        queryDTO.setCategoryId(categoryId);
+        queryDTO.setPage(0);
+        queryDTO.setSize(10);
+        return queryDTO;
+    }
+
+    /**
+     * 写入模拟数据：5个站点、每站点10个分类，约70%已发布，少量置顶和推荐
+     */
+    private void insertRows(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            long siteId = i % 5 + 1;
+            long categoryId = (siteId - 1) * 10 + i % 10 + 1;
+            boolean published = i % 10 < 7;
+            rows.add(new Object[]{siteId, categoryId, "title-" + i, "slug-" + i, published ? "PUBLISHED" : "DRAFT",
+                    published ? Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i)) : null,
+                    i % 20 == 0, i % 15 == 0, i % 50 == 0});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO contents (site_id, category_id, title, slug, author_id, status, published_at, "
+                + "is_top, is_featured, deleted, created_at, updated_at, version) "
+                + "VALUES (?, ?, ?, ?, 1, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", rows);
+    }
+
+    /**
+     * 捕获Hibernate生成的SQL
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> contentQueries() {
+            List<String> result = new ArrayList<>();
+            for (String sql : STATEMENTS) {
+                String lower = sql.toLowerCase(Locale.ROOT);
+                if (lower.startsWith("select") && lower.contains(" from contents ")) {
+                    result.add(sql);
+                }
+            }
+            return result;
+        }
+    }
+}
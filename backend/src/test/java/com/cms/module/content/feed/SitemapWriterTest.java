@@ -0,0 +1,65 @@
+package com.cms.module.content.feed;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SitemapWriterTest {
+
+    private static final String BASE = "https://www.example.com/api/guest/sites/main";
+
+    @Test
+    public void testShardsAndWritesIndexWhenOverLimit(@TempDir Path dir) throws Exception {
+        try (SitemapWriter writer = new SitemapWriter(dir, 2)) {
+            for (int i = 1; i <= 5; i++) {
+                writer.add("https://www.example.com/guest/content/" + i, "2024-01-0" + i + "T00:00:00+08:00");
+            }
+            assertEquals(3, writer.finish(BASE));
+            assertEquals(5, writer.getUrls());
+        }
+
+        String index = read(dir.resolve("sitemap.xml"));
+        assertTrue(index.contains("<sitemapindex xmlns=\"" + SitemapWriter.NAMESPACE + "\">"));
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(index.contains("<loc>" + BASE + "/sitemap-" + i + ".xml</loc>"));
+        }
+        assertTrue(read(dir.resolve("sitemap-3.xml")).contains("/guest/content/5</loc><lastmod>2024-01-05T00:00:00+08:00</lastmod>"));
+        assertFalse(read(dir.resolve("sitemap-3.xml")).contains("/guest/content/4<"));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(4, files.count());
+        }
+    }
+
+    @Test
+    public void testSingleShardReplacesIndexAndRemovesStaleShards(@TempDir Path dir) throws Exception {
+        try (SitemapWriter writer = new SitemapWriter(dir, 2)) {
+            for (int i = 1; i <= 3; i++) {
+                writer.add("https://www.example.com/guest/content/" + i, null);
+            }
+            writer.finish(BASE);
+        }
+
+        try (SitemapWriter writer = new SitemapWriter(dir, 2)) {
+            writer.add("https://www.example.com/guest/content/1?a=1&b=2", null);
+            assertEquals(1, writer.finish(BASE));
+        }
+
+        String sitemap = read(dir.resolve("sitemap.xml"));
+        assertTrue(sitemap.contains("<urlset xmlns=\"" + SitemapWriter.NAMESPACE + "\">"));
+        assertTrue(sitemap.contains("<loc>https://www.example.com/guest/content/1?a=1&amp;b=2</loc>"));
+        assertFalse(Files.exists(dir.resolve("sitemap-1.xml")));
+        assertFalse(Files.exists(dir.resolve("sitemap-2.xml")));
+    }
+
+    private String read(Path file) throws Exception {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.cms.module.content.hot;
+
+import com.cms.module.content.dto.HotWindow;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class HotContentTrackerTest {
+
+    @Test
+    public void testConcurrentFoldLosesNoViews() throws Exception {
+        HotContentTracker tracker = new HotContentTracker();
+        ReflectionTestUtils.setField(tracker, "capacity", 100);
+
+        int threads = 4;
+        int viewsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    tracker.record(1L, (long) (i % 10));
+                }
+                return null;
+            }));
+        }
+
+        // 记录的同时持续并入分桶（包括回收空闲计数器）
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread folder = new Thread(() -> {
+            while (running.get()) {
+                tracker.fold();
+            }
+        });
+        folder.start();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        running.set(false);
+        folder.join();
+        tracker.fold();
+        executor.shutdown();
+
+        assertEquals((long) threads * viewsPerThread, total(tracker, 1L));
+        assertEquals(10, tracker.top(1L, HotWindow.DAY, 20).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private long total(HotContentTracker tracker, Long siteId) {
+        Map<Long, TreeMap<Long, SpaceSavingSketch>> buckets =
+                (Map<Long, TreeMap<Long, SpaceSavingSketch>>) ReflectionTestUtils.getField(tracker, "buckets");
+        return buckets.get(siteId).values().stream().mapToLong(SpaceSavingSketch::total).sum();
+    }
+}
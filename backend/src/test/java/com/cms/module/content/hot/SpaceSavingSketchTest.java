@@ -0,0 +1,62 @@
+package com.cms.module.content.hot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpaceSavingSketchTest {
+
+    @Test
+    public void testKeepsHeavyHittersWithinCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        for (long item = 1; item <= 100; item++) {
+            sketch.add(item, 1);
+            if (item % 4 == 0) {
+                sketch.add(1000L, 5);
+                sketch.add(2000L, 3);
+            }
+        }
+
+        assertEquals(3, sketch.size());
+        List<SpaceSavingSketch.Counter> counters = sketch.counters();
+        assertEquals(1000L, counters.get(0).getItem());
+        assertEquals(2000L, counters.get(1).getItem());
+
+        // 估计值不低于真实值，且高估不超过误差上界
+        SpaceSavingSketch.Counter top = counters.get(0);
+        assertTrue(top.getCount() >= 125 && top.getCount() - top.getError() <= 125);
+    }
+
+    @Test
+    public void testMergeCarriesErrorForItemsMissingFromFullSketches() {
+        SpaceSavingSketch first = new SpaceSavingSketch(2);
+        first.add(1L, 10);
+        first.add(2L, 4);
+        SpaceSavingSketch second = new SpaceSavingSketch(2);
+        second.add(2L, 5);
+        second.add(3L, 3);
+        second.add(4L, 1);
+
+        List<SpaceSavingSketch.Counter> merged = SpaceSavingSketch.merge(Arrays.asList(first, second));
+        SpaceSavingSketch.Counter item1 = find(merged, 1L);
+        // 元素1在第二个桶中被淘汰过（真实计数0），最多被高估第二个桶的最小计数
+        assertEquals(10 + second.unmonitoredBound(), item1.getCount());
+        assertEquals(second.unmonitoredBound(), item1.getError());
+
+        // 所有元素的真实计数都在 [count - error, count] 之内
+        long[] actual = {0, 10, 9, 3, 1};
+        for (SpaceSavingSketch.Counter counter : merged) {
+            long value = actual[(int) counter.getItem()];
+            assertTrue(counter.getCount() >= value && counter.getCount() - counter.getError() <= value,
+                    "误差范围不包含真实计数: item=" + counter.getItem());
+        }
+    }
+
+    private SpaceSavingSketch.Counter find(List<SpaceSavingSketch.Counter> counters, long item) {
+        return counters.stream().filter(counter -> counter.getItem() == item).findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,74 @@
+package com.cms.module.content.related;
+
+import com.cms.module.content.search.ContentTokenizer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RelatedContentGraphTest {
+
+    @Test
+    public void testRanksByTagsTitleAndCategory() {
+        RelatedContentGraph graph = new RelatedContentGraph(1L, 3);
+        graph.add(doc(1L, 10L, new long[]{100L, 200L}, "Spring Boot 入门教程", 1000L));
+        graph.add(doc(2L, 10L, new long[]{100L, 200L}, "Spring Boot 进阶", 2000L));
+        graph.add(doc(3L, 10L, new long[0], "云南旅游", 3000L));
+        graph.add(doc(4L, 20L, new long[]{100L}, "入门教程合集", 4000L));
+        graph.add(doc(5L, 20L, new long[0], "美食推荐", 5000L));
+        graph.recomputeAll();
+
+        // 2: 同分类+两个共同标签+标题相似；4: 一个共同标签+标题相似；3: 仅同分类；5: 无关
+        assertArrayEquals(new long[]{2L, 4L, 3L}, graph.get(1L));
+    }
+
+    @Test
+    public void testIncrementalUpdateReportsChangedLists() {
+        RelatedContentGraph graph = new RelatedContentGraph(1L, 2);
+        graph.add(doc(1L, 10L, new long[0], "旅游攻略", 1000L));
+        graph.add(doc(2L, 10L, new long[0], "美食推荐", 2000L));
+        graph.recomputeAll();
+        assertArrayEquals(new long[]{2L}, graph.get(1L));
+
+        Set<Long> changed = graph.put(doc(3L, 10L, new long[0], "旅游攻略大全", 3000L));
+        assertTrue(changed.contains(1L) && changed.contains(3L));
+        assertArrayEquals(new long[]{3L, 2L}, graph.get(1L));
+
+        changed = graph.remove(3L);
+        assertTrue(changed.contains(1L));
+        assertArrayEquals(new long[]{2L}, graph.get(1L));
+    }
+
+    @Test
+    public void testRemoveLeavesNoDanglingReferenceInLargeCategory() {
+        int count = RelatedContentGraph.MAX_CATEGORY_CANDIDATES + 100;
+        RelatedContentGraph graph = new RelatedContentGraph(1L, 5);
+        for (long id = 1; id <= count; id++) {
+            graph.add(doc(id, 10L, new long[0], "", id * 1000L));
+        }
+        graph.recomputeAll();
+        long newest = count;
+        // 窗口外的旧内容同样引用最新的内容
+        assertTrue(LongStream.of(graph.get(1L)).anyMatch(id -> id == newest));
+
+        graph.remove(newest);
+
+        RelatedContentGraph expected = new RelatedContentGraph(1L, 5);
+        for (long id = 1; id < count; id++) {
+            assertFalse(LongStream.of(graph.get(id)).anyMatch(related -> related == newest), "内容" + id);
+            expected.add(doc(id, 10L, new long[0], "", id * 1000L));
+        }
+        expected.recomputeAll();
+        for (long id = 1; id < count; id++) {
+            assertArrayEquals(expected.get(id), graph.get(id), "内容" + id);
+        }
+    }
+
+    private RelatedContentGraph.Doc doc(long id, Long categoryId, long[] tags, String title, long publishedAt) {
+        return new RelatedContentGraph.Doc(id, categoryId, tags, ContentTokenizer.tokenize(title), publishedAt);
+    }
+}
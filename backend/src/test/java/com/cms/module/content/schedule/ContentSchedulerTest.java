@@ -0,0 +1,132 @@
+package com.cms.module.content.schedule;
+
+import com.cms.module.content.entity.ContentSchedule;
+import com.cms.module.content.repository.ContentScheduleRepository;
+import com.cms.module.content.service.ContentService;
+import com.cms.module.content.service.ContentVersionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 定时发布端到端测试
+ * 由调度器自己的线程（没有登录用户）执行到期记录，校验内容状态、版本快照和记录状态都已提交。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schedule;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ContentScheduler.class, ContentService.class, ContentVersionService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ContentSchedulerTest {
+
+    private static final long OPERATOR_ID = 42L;
+
+    @Autowired
+    private ContentScheduler scheduler;
+
+    @Autowired
+    private ContentScheduleRepository scheduleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private HttpServletRequest request;
+
+    @Test
+    public void testDueScheduleIsPublishedWithoutAuthentication() throws InterruptedException {
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        long contentId = insertContent(1, "DRAFT", false);
+        ContentSchedule schedule = schedule(contentId, ContentSchedule.ACTION_PUBLISH);
+
+        ContentSchedule executed = awaitExecution(schedule.getId());
+
+        assertEquals(ContentSchedule.STATUS_DONE, executed.getStatus());
+        assertEquals("PUBLISHED", jdbcTemplate.queryForObject(
+                "SELECT status FROM contents WHERE id = ?", String.class, contentId));
+        assertEquals(Long.valueOf(OPERATOR_ID), jdbcTemplate.queryForObject(
+                "SELECT created_by FROM content_versions WHERE content_id = ? AND change_type = 'PUBLISH'",
+                Long.class, contentId));
+    }
+
+    @Test
+    public void testFailureIsRecordedWithoutOverwritingCancellation() throws InterruptedException {
+        long contentId = insertContent(2, "DRAFT", true);
+        ContentSchedule schedule = schedule(contentId, ContentSchedule.ACTION_PUBLISH);
+
+        ContentSchedule failed = awaitExecution(schedule.getId());
+        assertEquals(ContentSchedule.STATUS_PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertEquals("内容已删除: " + contentId, failed.getLastError());
+
+        // 执行期间被取消的记录，失败记录不再覆盖
+        jdbcTemplate.update("UPDATE content_schedules SET status = 'CANCELLED' WHERE id = ?", schedule.getId());
+        assertEquals(Integer.valueOf(0), transactionTemplate.execute(status ->
+                scheduleRepository.markFailed(schedule.getId(), failed.getLeaseOwner(), "error", 1)));
+        assertEquals(ContentSchedule.STATUS_CANCELLED, scheduleRepository.findById(schedule.getId()).orElseThrow().getStatus());
+    }
+
+    /**
+     * 等待调度器线程执行（时间轮每秒推进一次）
+     */
+    private ContentSchedule awaitExecution(Long scheduleId) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            ContentSchedule current = scheduleRepository.findById(scheduleId).orElseThrow();
+            if (current.getAttempts() > 0) {
+                return current;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("定时记录未被执行: " + scheduleId);
+    }
+
+    private ContentSchedule schedule(Long contentId, String action) {
+        ContentSchedule schedule = new ContentSchedule();
+        schedule.setContentId(contentId);
+        schedule.setSiteId(1L);
+        schedule.setAction(action);
+        schedule.setExecuteAt(LocalDateTime.now().minusSeconds(1));
+        schedule.setCreatedBy(OPERATOR_ID);
+        schedule = scheduleRepository.save(schedule);
+        scheduler.add(schedule.getId(), schedule.getExecuteAt());
+        return schedule;
+    }
+
+    private long insertContent(int seq, String status, boolean deleted) {
+        jdbcTemplate.update("INSERT INTO contents (site_id, category_id, title, slug, author_id, status, "
+                + "is_top, is_featured, deleted, created_at, updated_at, version) "
+                + "VALUES (1, 1, ?, ?, 1, ?, FALSE, FALSE, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)",
+                "title-" + seq, "slug-" + seq, status, deleted);
+        return jdbcTemplate.queryForObject("SELECT id FROM contents WHERE slug = ?", Long.class, "slug-" + seq);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cms.module.content.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    public void testFiresEachTaskInItsTickAcrossLevels() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000L, 60, START);
+        long[] delays = {1_500L, 59_000L, 61_000L, 3_600_000L + 1_000L, 2L * 24 * 3_600_000L + 30_000L};
+        for (long delay : delays) {
+            assertTrue(wheel.add(START + delay, String.valueOf(delay)));
+        }
+        assertEquals(delays.length, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        for (long now = START; now <= START + delays[delays.length - 1] + 1_000L; now += 1_000L) {
+            for (String task : wheel.advance(now)) {
+                long delay = Long.parseLong(task);
+                // 在到期时间所在的1秒格子内触发
+                assertTrue(now >= START + delay - 1_000L && now <= START + delay + 1_000L, task + " fired at " + (now - START));
+                fired.add(task);
+            }
+        }
+        assertEquals(Arrays.asList("1500", "59000", "61000", "3601000", "172830000"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCatchesUpAfterLongPauseAndRejectsExpired() {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1000L, 60, START);
+        assertFalse(wheel.add(START - 1, 0));
+        for (int i = 1; i <= 100; i++) {
+            wheel.add(START + i * 37_000L, i);
+        }
+
+        List<Integer> fired = new ArrayList<>(wheel.advance(START + 100 * 37_000L));
+        Collections.sort(fired);
+        assertEquals(100, fired.size());
+        assertEquals(Integer.valueOf(1), fired.get(0));
+        assertEquals(0, wheel.size());
+    }
+}
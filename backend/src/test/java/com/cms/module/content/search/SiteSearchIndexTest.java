@@ -0,0 +1,62 @@
+package com.cms.module.content.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SiteSearchIndexTest {
+
+    @Test
+    public void testTokenizeCjkBigramAndWords() {
+        assertEquals(Arrays.asList("spring", "boot", "多站", "站点", "3"),
+                ContentTokenizer.tokenize("Spring-Boot 多站点 3"));
+        assertEquals(Collections.singletonList("中"), ContentTokenizer.tokenize("中"));
+        assertEquals("  正文  ", ContentTokenizer.stripHtml("<p> 正文&nbsp;</p>"));
+    }
+
+    @Test
+    public void testSearchRanksTitleMatchesFirst() {
+        SiteSearchIndex index = new SiteSearchIndex(1L);
+        index.put(1L, "旅游攻略", "介绍云南的美食", 1000L, 1000L);
+        index.put(2L, "美食推荐", "云南美食合集", 2000L, 2000L);
+        index.put(3L, "Java教程", "Spring Boot 入门", 3000L, 3000L);
+
+        SearchHits hits = index.search(ContentTokenizer.tokenize("美食"), 0, 10);
+        assertEquals(2, hits.getTotal());
+        assertEquals(Arrays.asList(2L, 1L), hits.getContentIds());
+
+        hits = index.search(ContentTokenizer.tokenize("spring 入门"), 0, 10);
+        assertEquals(Collections.singletonList(3L), hits.getContentIds());
+
+        index.remove(2L);
+        hits = index.search(ContentTokenizer.tokenize("美食"), 0, 10);
+        assertEquals(Collections.singletonList(1L), hits.getContentIds());
+    }
+
+    @Test
+    public void testSegmentRoundTrip(@TempDir Path dir) throws Exception {
+        SiteSearchIndex index = new SiteSearchIndex(7L);
+        index.put(10L, "多站点内容管理", "支持全文搜索", 1000L, 5000L);
+        index.put(300L, "内容发布", "审批通过后发布内容", 2000L, 6000L);
+        assertTrue(index.isDirty());
+
+        Path file = dir.resolve("site-7.seg");
+        index.writeTo(file);
+
+        SiteSearchIndex loaded = SiteSearchIndex.readFrom(file);
+        assertEquals(7L, loaded.getSiteId());
+        assertEquals(6000L, loaded.getWatermark());
+        assertEquals(2, loaded.size());
+
+        SearchHits expected = index.search(ContentTokenizer.tokenize("内容"), 0, 10);
+        SearchHits actual = loaded.search(ContentTokenizer.tokenize("内容"), 0, 10);
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getContentIds(), actual.getContentIds());
+    }
+}
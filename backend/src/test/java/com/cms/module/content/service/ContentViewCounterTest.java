@@ -0,0 +1,72 @@
+package com.cms.module.content.service;
+
+import com.cms.module.content.repository.ContentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ContentViewCounterTest {
+
+    @Test
+    public void testConcurrentFlushLosesNoViews() throws Exception {
+        AtomicLong written = new AtomicLong();
+        ContentRepository contentRepository = mock(ContentRepository.class);
+        when(contentRepository.incrementViewCount(anyLong(), anyInt())).thenAnswer(invocation -> {
+            written.addAndGet(invocation.<Integer>getArgument(1));
+            return 1;
+        });
+        ContentViewCounter counter = new ContentViewCounter(contentRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), mock(ApplicationEventPublisher.class));
+
+        int threads = 4;
+        int viewsPerThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    // 大量内容交替浏览，计数器频繁空闲并被回写任务移除
+                    counter.increment(1L, (long) (i % 1000));
+                }
+                return null;
+            }));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                counter.flush();
+            }
+        });
+        flusher.start();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        running.set(false);
+        flusher.join();
+        counter.flush();
+        executor.shutdown();
+
+        assertEquals((long) threads * viewsPerThread, written.get());
+        assertEquals(0, counter.getSitePendingCount(1L));
+    }
+}
@@ -0,0 +1,91 @@
+package com.cms.module.content.service;
+
+import com.cms.module.category.repository.CategoryRepository;
+import com.cms.module.content.dto.ContentSearchMode;
+import com.cms.module.content.dto.PublicContentDTO;
+import com.cms.module.content.dto.PublicContentQueryDTO;
+import com.cms.module.content.hot.HotContentTracker;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentSummary;
+import com.cms.module.site.repository.SiteRepository;
+import com.cms.module.site.service.SiteStatisticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PublicContentServiceTest {
+
+    private final ContentRepository contentRepository = mock(ContentRepository.class);
+
+    @SuppressWarnings("unchecked")
+    private final PublicContentService service = new PublicContentService(contentRepository,
+            mock(CategoryRepository.class), mock(SiteRepository.class), mock(ContentViewCounter.class),
+            mock(HotContentTracker.class), mock(SiteStatisticsService.class),
+            mock(ObjectProvider.class), mock(ObjectProvider.class));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFulltextSearchAcceptsNativeBigIntegerIds() {
+        ReflectionTestUtils.setField(service, "searchMode", ContentSearchMode.FULLTEXT);
+        ReflectionTestUtils.setField(service, "ngramTokenSize", 2);
+
+        // MySQL原生查询的BIGINT列由Hibernate返回为BigInteger
+        Page<Number> idPage = new PageImpl<>(Arrays.asList(BigInteger.valueOf(2), BigInteger.valueOf(1)),
+                PageRequest.of(0, 10), 2);
+        when(contentRepository.searchPublishedIdsByFulltext(eq(1L), anyString(), any(Pageable.class))).thenReturn(idPage);
+        when(contentRepository.findSummaries(any(Specification.class), any(Sort.class)))
+                .thenReturn(Arrays.asList(summary(1L), summary(2L)));
+
+        for (int i = 0; i < 2; i++) {
+            Page<PublicContentDTO> result = service.searchContents(query("内容管理"));
+            List<Long> ids = result.getContent().stream().map(PublicContentDTO::getId).collect(Collectors.toList());
+            assertEquals(Arrays.asList(2L, 1L), ids);
+            assertEquals(2, result.getTotalElements());
+        }
+
+        // 两次都走全文搜索，没有进入冷却期回退到LIKE
+        verify(contentRepository, times(2)).searchPublishedIdsByFulltext(eq(1L), anyString(), any(Pageable.class));
+        verify(contentRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+        assertEquals(0L, ReflectionTestUtils.getField(service, "fulltextDisabledUntil"));
+    }
+
+    private PublicContentQueryDTO query(String keyword) {
+        PublicContentQueryDTO queryDTO = new PublicContentQueryDTO();
+        queryDTO.setSiteId(1L);
+        queryDTO.setKeyword(keyword);
+        queryDTO.setPage(0);
+        queryDTO.setSize(10);
+        return queryDTO;
+    }
+
+    private ContentSummary summary(Long id) {
+        ContentSummary summary = new ContentSummary();
+        summary.setId(id);
+        summary.setSiteId(1L);
+        summary.setTitle("内容管理" + id);
+        summary.setStatus("PUBLISHED");
+        summary.setViewCount(0);
+        return summary;
+    }
+}
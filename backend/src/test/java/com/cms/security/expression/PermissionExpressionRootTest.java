@@ -0,0 +1,61 @@
+package com.cms.security.expression;
+
+import com.cms.security.service.CustomUserDetails;
+import com.cms.security.service.PermissionIndex;
+import com.cms.security.service.PermissionSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PermissionExpressionRootTest {
+
+    private final PermissionIndex index = new PermissionIndex(
+            Arrays.asList("content:create", "content:update", "user:update", "role:update"));
+
+    @Test
+    public void testChecksPermissionBitsOfCustomUserDetails() {
+        PermissionSet editor = index.of(Arrays.asList("content:create", "content:update", "unknown:code"));
+        PermissionSet admin = editor.union(index.of(Collections.singletonList("user:update")));
+        assertEquals(3, admin.size());
+        assertEquals(new HashSet<>(Arrays.asList("content:create", "content:update", "user:update")), admin.codes());
+
+        CustomUserDetails user = new CustomUserDetails(1L, "admin", 0,
+                new HashSet<>(Arrays.asList("ADMIN", "EDITOR")), admin);
+        MethodSecurityExpressionOperations root = root(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        assertTrue(root.hasAuthority("user:update"));
+        assertFalse(root.hasAuthority("role:update"));
+        assertFalse(root.hasAuthority("unknown:code"));
+        assertTrue(root.hasAuthority("ROLE_EDITOR"));
+        assertTrue(root.hasAnyAuthority("role:update", "content:create"));
+        assertFalse(root.hasAnyAuthority("role:update", "ROLE_GUEST"));
+        assertTrue(root.isAuthenticated());
+        assertEquals(5, user.getAuthorities().size());
+    }
+
+    @Test
+    public void testDelegatesOtherPrincipals() {
+        MethodSecurityExpressionOperations root = root(new UsernamePasswordAuthenticationToken(
+                "system", null, AuthorityUtils.createAuthorityList("content:create")));
+
+        assertTrue(root.hasAuthority("content:create"));
+        assertFalse(root.hasAnyAuthority("user:update"));
+    }
+
+    private MethodSecurityExpressionOperations root(Authentication authentication) {
+        return new PermissionExpressionHandler().createSecurityExpressionRoot(authentication,
+                new SimpleMethodInvocation(this, null));
+    }
+}
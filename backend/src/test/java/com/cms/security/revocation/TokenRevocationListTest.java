@@ -0,0 +1,99 @@
+package com.cms.security.revocation;
+
+import com.cms.module.auth.entity.RevokedToken;
+import com.cms.module.auth.repository.RevokedTokenRepository;
+import com.cms.security.config.JwtConfig;
+import com.cms.security.util.JwtClaims;
+import com.cms.security.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TokenRevocationListTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+
+    private final JwtUtil jwtUtil = new JwtUtil(new JwtConfig());
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    public void setUp() {
+        when(repository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(anyLong(), any())).thenReturn(new ArrayList<>());
+        when(repository.findByCreatedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(new ArrayList<>());
+        revocationList = new TokenRevocationList(repository, mock(TransactionTemplate.class), new JwtConfig());
+    }
+
+    @Test
+    public void testRevokedTokenIsRejectedAndStoredOnce() {
+        JwtClaims claims = jwtUtil.parseToken(jwtUtil.generateToken("admin", 1L));
+        JwtClaims other = jwtUtil.parseToken(jwtUtil.generateToken("admin", 1L));
+
+        revocationList.revoke(claims);
+        revocationList.revoke(claims);
+
+        assertTrue(revocationList.isRevoked(claims.getTokenId()));
+        assertFalse(revocationList.isRevoked(other.getTokenId()));
+        verify(repository, times(1)).save(any(RevokedToken.class));
+    }
+
+    @Test
+    public void testSyncPicksUpLateCommitBelowLastId() {
+        when(repository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any()))
+                .thenReturn(Collections.singletonList(token(500L, "early")));
+        revocationList.init();
+
+        // ID为100的事务在ID为500的记录之后才提交，已落后于同步位置
+        when(repository.findByCreatedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(Collections.singletonList(token(100L, "late")));
+        revocationList.sync();
+
+        assertTrue(revocationList.isRevoked("early"));
+        assertTrue(revocationList.isRevoked("late"));
+        assertEquals(2, revocationList.size());
+        verify(repository).findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(500L), any());
+    }
+
+    @Test
+    public void testPurgeDropsExpiredTokens() {
+        List<RevokedToken> tokens = new ArrayList<>();
+        tokens.add(token(1L, "active"));
+        RevokedToken expired = token(2L, "expired");
+        expired.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        tokens.add(expired);
+        when(repository.findByIdGreaterThanAndExpiresAtAfterOrderByIdAsc(eq(0L), any())).thenReturn(tokens);
+        revocationList.init();
+
+        revocationList.purge();
+
+        assertTrue(revocationList.isRevoked("active"));
+        assertFalse(revocationList.isRevoked("expired"));
+        assertEquals(1, revocationList.size());
+    }
+
+    private RevokedToken token(Long id, String tokenId) {
+        RevokedToken token = new RevokedToken();
+        token.setId(id);
+        token.setTokenId(tokenId);
+        token.setUserId(1L);
+        token.setExpiresAt(LocalDateTime.now().plusHours(1));
+        token.setCreatedAt(LocalDateTime.now());
+        return token;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cms.security.util;
+
+import com.cms.security.config.JwtConfig;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtUtilTest {
+
+    @Test
+    public void testParseTokenOnceReturnsAllClaims() {
+        JwtUtil jwtUtil = new JwtUtil(new JwtConfig());
+        String token = jwtUtil.generateToken("admin", 1L);
+
+        JwtClaims claims = jwtUtil.parseToken(token);
+        assertEquals("admin", claims.getUsername());
+        assertEquals(Long.valueOf(1L), claims.getUserId());
+        assertFalse(claims.isExpired(System.currentTimeMillis()));
+        assertTrue(claims.getExpiration() > claims.getIssuedAt());
+        assertTrue(jwtUtil.validateToken(token, "admin"));
+        assertFalse(jwtUtil.validateToken(token, "editor"));
+        assertTrue(claims.getRoles().isEmpty());
+        assertNull(claims.getAuthVersion());
+    }
+
+    @Test
+    public void testCarriesRolesAndAuthVersion() {
+        JwtUtil jwtUtil = new JwtUtil(new JwtConfig());
+        String token = jwtUtil.generateToken("editor", 7L, Arrays.asList("EDITOR", "GUEST"), 3);
+
+        JwtClaims claims = jwtUtil.parseToken(token);
+        assertEquals(new HashSet<>(Arrays.asList("EDITOR", "GUEST")), claims.getRoles());
+        assertEquals(Integer.valueOf(3), claims.getAuthVersion());
+        assertEquals(Long.valueOf(7L), claims.getUserId());
+        assertNotNull(claims.getTokenId());
+        assertNotEquals(claims.getTokenId(), jwtUtil.parseToken(
+                jwtUtil.generateToken("editor", 7L, Arrays.asList("EDITOR", "GUEST"), 3)).getTokenId());
+    }
+
+    @Test
+    public void testRejectsExpiredAndForeignTokens() {
+        JwtConfig expired = new JwtConfig();
+        expired.setExpiration(-1000L);
+        JwtUtil expiredUtil = new JwtUtil(expired);
+        assertThrows(ExpiredJwtException.class, () -> expiredUtil.parseToken(expiredUtil.generateToken("admin", 1L)));
+
+        JwtConfig other = new JwtConfig();
+        other.setSecret("another-secret-key-used-by-a-different-deployment-2025");
+        String foreign = new JwtUtil(other).generateToken("admin", 1L);
+        assertThrows(SignatureException.class, () -> new JwtUtil(new JwtConfig()).parseToken(foreign));
+    }
+}
@@ -0,0 +1,103 @@
+package com.cms.benchmark;
+
+import com.cms.CmsApplication;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试用的应用上下文
+ * 以内嵌H2（MySQL兼容模式）启动完整的Spring上下文，由Hibernate建表后写入生成的数据集。
+ * 关闭了后台任务（定时发布、相关内容、站点地图、整页缓存）和SQL日志，避免干扰测量。
+ *
+ * <p>可通过系统属性改用其他数据库，例如一个专用的MySQL库（表会被重建）：
+ * <pre>
+ * -Dbench.jdbc-url=jdbc:mysql://localhost:3306/cms_bench -Dbench.jdbc-username=root -Dbench.jdbc-password=...
+ * </pre>
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public final class BenchmarkContext implements AutoCloseable {
+
+    private static final String H2_URL = "jdbc:h2:mem:cms_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final ConfigurableApplicationContext context;
+
+    private final Path workDir;
+
+    private BenchmarkContext(ConfigurableApplicationContext context, Path workDir) {
+        this.context = context;
+        this.workDir = workDir;
+    }
+
+    /**
+     * 启动上下文并生成数据集
+     *
+     * @param categories 分类数量
+     * @param contents   内容数量
+     */
+    public static BenchmarkContext start(int categories, int contents) throws Exception {
+        Path workDir = Files.createTempDirectory("cms-bench");
+        String url = System.getProperty("bench.jdbc-url", H2_URL);
+
+        List<String> args = new ArrayList<>();
+        args.add("--spring.profiles.active=bench");
+        args.add("--spring.main.banner-mode=off");
+        args.add("--server.port=0");
+        args.add("--spring.datasource.url=" + url);
+        args.add("--spring.datasource.username=" + System.getProperty("bench.jdbc-username", "sa"));
+        args.add("--spring.datasource.password=" + System.getProperty("bench.jdbc-password", ""));
+        args.add("--spring.flyway.enabled=false");
+        args.add("--spring.jpa.hibernate.ddl-auto=create");
+        args.add("--spring.jpa.show-sql=false");
+        if (url.startsWith("jdbc:h2:")) {
+            args.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        args.add("--logging.level.root=WARN");
+        args.add("--logging.level.com.cms=WARN");
+        args.add("--logging.level.org.springframework.web=WARN");
+        args.add("--logging.level.org.hibernate.SQL=WARN");
+        args.add("--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        args.add("--file.upload.path=" + workDir.resolve("uploads"));
+        args.add("--cms.search.mode=LIKE");
+        args.add("--cms.content.schedule.enabled=false");
+        args.add("--cms.content.hot.snapshot-path=" + workDir.resolve("hot-content.snap"));
+        args.add("--cms.related.enabled=false");
+        args.add("--cms.page-cache.enabled=false");
+        args.add("--cms.static-render.enabled=false");
+        args.add("--cms.feed.enabled=false");
+
+        SpringApplication application = new SpringApplication(CmsApplication.class);
+        ConfigurableApplicationContext context = application.run(args.toArray(new String[0]));
+        new DatasetGenerator(context.getBean(DataSource.class)).generate(categories, contents);
+        return new BenchmarkContext(context, workDir);
+    }
+
+    /**
+     * 获取去掉代理的目标对象，调用时绕过缓存和事务切面，测量方法本身
+     */
+    public <T> T target(Class<T> type) {
+        Object bean = context.getBean(type);
+        Object target = AopProxyUtils.getSingletonTarget(bean);
+        return type.cast(target != null ? target : bean);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() throws Exception {
+        context.close();
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+}
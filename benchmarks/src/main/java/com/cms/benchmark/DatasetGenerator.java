@@ -0,0 +1,249 @@
+package com.cms.benchmark;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+/**
+ * 基准数据集生成器
+ * 向已建好表结构的数据库批量写入一个站点、树形分类、指定数量的内容，以及一个拥有两个角色的管理员用户。
+ * 只使用标准的带参数批量INSERT，H2（MySQL兼容模式）和MySQL都可以执行；
+ * 随机数种子固定，同样的参数每次生成相同的数据。
+ *
+ * <p>分类按每层 {@link #FANOUT} 个子分类组成树，每17个分类有一个不可见；
+ * 内容约90%已发布，发布时间分布在最近两年内，少量置顶和推荐。
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+public class DatasetGenerator {
+
+    public static final long SITE_ID = 1L;
+
+    public static final long USER_ID = 1L;
+
+    public static final String USERNAME = "admin";
+
+    /**
+     * 权限数量（与系统内置权限规模相当），ADMIN 拥有全部，EDITOR 拥有前一半
+     */
+    static final int PERMISSIONS = 60;
+
+    static final int FANOUT = 10;
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] WORDS = {
+            "多站点", "内容", "管理", "系统", "发布", "缓存", "性能", "优化", "数据库", "索引",
+            "分类", "标签", "搜索", "访客", "接口", "安全", "权限", "审批", "流程", "版本",
+            "Java", "Spring", "MySQL", "Redis", "JWT", "JSON", "HTTP", "API", "CMS", "JVM"
+    };
+
+    private final DataSource dataSource;
+
+    private final Random random = new Random(42);
+
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    public DatasetGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 生成数据集
+     *
+     * @param categories 分类数量
+     * @param contents   内容数量
+     */
+    public void generate(int categories, int contents) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertSite(connection);
+            insertUser(connection);
+            insertCategories(connection, categories);
+            insertContents(connection, categories, contents);
+            connection.commit();
+        }
+    }
+
+    private void insertSite(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO sites (id, name, code, domain, language, timezone, status, is_default, " +
+                        "created_at, updated_at, created_by, updated_by, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, 'zh_CN', 'Asia/Shanghai', 'ACTIVE', 1, ?, ?, 1, 1, 0, 0)")) {
+            ps.setLong(1, SITE_ID);
+            ps.setString(2, "基准站点");
+            ps.setString(3, "bench");
+            ps.setString(4, "bench.example.com");
+            ps.setTimestamp(5, Timestamp.valueOf(now));
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+            ps.executeUpdate();
+        }
+    }
+
+    private void insertUser(Connection connection) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO permissions (id, name, code, module, resource, action, is_system, sort_order, " +
+                        "created_at, updated_at, deleted) VALUES (?, ?, ?, ?, ?, ?, 1, ?, ?, ?, 0)")) {
+            for (int i = 1; i <= PERMISSIONS; i++) {
+                String module = "module" + (i / 6);
+                String action = "action" + (i % 6);
+                ps.setLong(1, i);
+                ps.setString(2, "权限" + i);
+                ps.setString(3, module + ":" + action);
+                ps.setString(4, module);
+                ps.setString(5, module);
+                ps.setString(6, action);
+                ps.setInt(7, i);
+                ps.setTimestamp(8, timestamp);
+                ps.setTimestamp(9, timestamp);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO roles (id, name, code, level, is_system, is_default, " +
+                        "created_at, updated_at, created_by, updated_by, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, 1, 0, ?, ?, 1, 1, 0, 0)")) {
+            String[] codes = {"ADMIN", "EDITOR"};
+            for (int i = 0; i < codes.length; i++) {
+                ps.setLong(1, i + 1);
+                ps.setString(2, codes[i]);
+                ps.setString(3, codes[i]);
+                ps.setInt(4, 100 - i * 10);
+                ps.setTimestamp(5, timestamp);
+                ps.setTimestamp(6, timestamp);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO role_permissions (role_id, permission_id) VALUES (?, ?)")) {
+            for (int i = 1; i <= PERMISSIONS; i++) {
+                ps.setLong(1, 1);
+                ps.setLong(2, i);
+                ps.addBatch();
+                if (i <= PERMISSIONS / 2) {
+                    ps.setLong(1, 2);
+                    ps.setLong(2, i);
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO users (id, username, email, password_hash, nickname, status, email_verified, " +
+                        "mobile_verified, login_count, failed_login_count, auth_version, " +
+                        "created_at, updated_at, created_by, updated_by, deleted, version) " +
+                        "VALUES (?, ?, ?, 'x', ?, 'ACTIVE', 1, 0, 0, 0, 0, ?, ?, 1, 1, 0, 0)")) {
+            ps.setLong(1, USER_ID);
+            ps.setString(2, USERNAME);
+            ps.setString(3, USERNAME + "@example.com");
+            ps.setString(4, "管理员");
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+            ps.executeUpdate();
+        }
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)")) {
+            for (long roleId = 1; roleId <= 2; roleId++) {
+                ps.setLong(1, USER_ID);
+                ps.setLong(2, roleId);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * 分类i（从1开始）的父分类为 (i - FANOUT - 1) / FANOUT + 1，前 FANOUT 个为根分类
+     */
+    private void insertCategories(Connection connection, int categories) throws SQLException {
+        String[] paths = new String[categories + 1];
+        int[] levels = new int[categories + 1];
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO categories (id, site_id, parent_id, name, code, sort_order, level, path, is_visible, " +
+                        "created_at, updated_at, created_by, updated_by, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1, 1, 0, 0)")) {
+            for (int i = 1; i <= categories; i++) {
+                Integer parent = i <= FANOUT ? null : (i - FANOUT - 1) / FANOUT + 1;
+                levels[i] = parent == null ? 1 : levels[parent] + 1;
+                paths[i] = (parent == null ? "/" : paths[parent]) + i + "/";
+
+                ps.setLong(1, i);
+                ps.setLong(2, SITE_ID);
+                if (parent == null) {
+                    ps.setNull(3, Types.BIGINT);
+                } else {
+                    ps.setLong(3, parent);
+                }
+                ps.setString(4, "分类" + i + " " + word());
+                ps.setString(5, "category-" + i);
+                ps.setInt(6, i % FANOUT);
+                ps.setInt(7, levels[i]);
+                ps.setString(8, paths[i]);
+                ps.setBoolean(9, i % 17 != 0);
+                ps.setTimestamp(10, Timestamp.valueOf(now));
+                ps.setTimestamp(11, Timestamp.valueOf(now));
+                ps.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertContents(Connection connection, int categories, int contents) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO contents (id, site_id, category_id, title, slug, summary, content, content_type, " +
+                        "author_id, author_name, status, published_at, view_count, is_top, is_featured, is_original, " +
+                        "approval_status, created_at, updated_at, created_by, updated_by, deleted, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, 'ARTICLE', 1, 'admin', ?, ?, ?, ?, ?, 1, 'NONE', ?, ?, 1, 1, 0, 0)")) {
+            for (int i = 1; i <= contents; i++) {
+                boolean published = random.nextInt(10) != 0;
+                LocalDateTime createdAt = now.minusMinutes(random.nextInt(2 * 365 * 24 * 60));
+                String title = sentence(4 + random.nextInt(6));
+
+                ps.setLong(1, i);
+                ps.setLong(2, SITE_ID);
+                ps.setLong(3, 1 + random.nextInt(categories));
+                ps.setString(4, title);
+                ps.setString(5, "content-" + i);
+                ps.setString(6, sentence(20));
+                ps.setString(7, sentence(200));
+                ps.setString(8, published ? "PUBLISHED" : "DRAFT");
+                ps.setTimestamp(9, published ? Timestamp.valueOf(createdAt.plusHours(1)) : null);
+                ps.setInt(10, random.nextInt(10_000));
+                ps.setBoolean(11, i % 500 == 0);
+                ps.setBoolean(12, i % 200 == 0);
+                ps.setTimestamp(13, Timestamp.valueOf(createdAt));
+                ps.setTimestamp(14, Timestamp.valueOf(createdAt.plusHours(1)));
+                ps.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                    connection.commit();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            builder.append(word()).append(i % 3 == 2 ? "，" : "");
+        }
+        return builder.toString();
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.cms.module.category.service;
+
+import com.cms.benchmark.BenchmarkContext;
+import com.cms.benchmark.DatasetGenerator;
+import com.cms.module.category.dto.CategoryTreeDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 访客端分类树构建基准（绕过缓存，测量查询和组装树的开销）
+ *
+ * <p>运行：java -jar target/benchmarks.jar CategoryTreeBenchmark -p categories=100,1000,10000
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    @Param({"200", "2000"})
+    private int categories;
+
+    @Param({"10000"})
+    private int contents;
+
+    private BenchmarkContext context;
+
+    private CategoryService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start(categories, contents);
+        service = context.target(CategoryService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CategoryTreeDTO> categoryTreeForGuest() {
+        return service.getCategoryTreeForGuest(DatasetGenerator.SITE_ID);
+    }
+}
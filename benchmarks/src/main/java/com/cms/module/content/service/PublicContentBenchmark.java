@@ -0,0 +1,112 @@
+package com.cms.module.content.service;
+
+import com.cms.benchmark.BenchmarkContext;
+import com.cms.benchmark.DatasetGenerator;
+import com.cms.common.base.CursorPage;
+import com.cms.module.content.dto.PublicContentDTO;
+import com.cms.module.content.dto.PublicContentQueryDTO;
+import com.cms.module.content.entity.Content;
+import com.cms.module.content.repository.ContentRepository;
+import com.cms.module.content.repository.ContentSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 访客端内容列表基准
+ * 分别测量一页列表的DTO转换（含分类名称批量加载）、偏移分页和游标分页的完整查询。
+ *
+ * <p>运行：java -jar target/benchmarks.jar PublicContentBenchmark -p contents=100000
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublicContentBenchmark {
+
+    @Param({"10000"})
+    private int contents;
+
+    @Param({"200"})
+    private int categories;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private BenchmarkContext context;
+
+    private PublicContentService service;
+
+    private List<ContentSummary> page;
+
+    private PublicContentQueryDTO deepQuery;
+
+    private PublicContentQueryDTO firstQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start(categories, contents);
+        service = context.target(PublicContentService.class);
+
+        Specification<Content> published = (root, query, cb) -> cb.equal(root.get("status"), "PUBLISHED");
+        page = context.bean(ContentRepository.class)
+                .findSummaries(published, Sort.by(Sort.Direction.DESC, "publishedAt"), pageSize);
+
+        firstQuery = query(0);
+        deepQuery = query(contents / pageSize / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PublicContentDTO> convertPage() {
+        return service.convertToPublicDTOs(page);
+    }
+
+    @Benchmark
+    public Page<PublicContentDTO> firstPage() {
+        return service.getPublishedContents(firstQuery);
+    }
+
+    @Benchmark
+    public Page<PublicContentDTO> middlePage() {
+        return service.getPublishedContents(deepQuery);
+    }
+
+    @Benchmark
+    public CursorPage<PublicContentDTO> cursorFirstPage() {
+        return service.getPublishedContentsByCursor(firstQuery, null, false);
+    }
+
+    private PublicContentQueryDTO query(int pageNumber) {
+        PublicContentQueryDTO queryDTO = new PublicContentQueryDTO();
+        queryDTO.setSiteId(DatasetGenerator.SITE_ID);
+        queryDTO.setPage(pageNumber);
+        queryDTO.setSize(pageSize);
+        return queryDTO;
+    }
+}
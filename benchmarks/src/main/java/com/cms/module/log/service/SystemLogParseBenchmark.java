@@ -0,0 +1,61 @@
+package com.cms.module.log.service;
+
+import com.cms.module.log.dto.SystemLogDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 系统日志单行解析基准
+ * 样本混合匹配的INFO/WARN/ERROR行和不匹配的行（堆栈、SQL日志等）。
+ *
+ * <p>运行：java -jar target/benchmarks.jar SystemLogParseBenchmark
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SystemLogParseBenchmark {
+
+    private static final String[] LINES = {
+            "2025-10-05 00:00:11.329 [http-nio-8080-exec-6] INFO  com.cms.module.auth.service.AuthService - 用户登录: admin",
+            "2025-10-05 00:00:12.001 [http-nio-8080-exec-2] WARN  com.cms.module.content.service.ContentService - 内容不存在: id=42",
+            "2025-10-05 00:00:12.517 [scheduling-1] ERROR com.cms.module.content.hot.HotContentTracker - 热门内容快照写入失败: file=hot-content.snap",
+            "\tat com.cms.module.content.service.ContentService.getContentById(ContentService.java:120) ~[classes/:na]",
+            "2025-10-05 00:00:13.004 [http-nio-8080-exec-9] DEBUG org.hibernate.SQL - select content0_.id as id1_5_ from contents content0_ where content0_.id=?",
+            "2025-10-05 00:00:13.120 [http-nio-8080-exec-1] INFO  com.cms.module.content.controller.PublicContentController - 获取已发布内容列表请求: siteId=1, categoryId=null, page=0, size=10"
+    };
+
+    private SystemLogService service;
+
+    @Setup
+    public void setUp() {
+        service = new SystemLogService();
+    }
+
+    /**
+     * 解析一组样本行（每次调用 {@code LINES.length} 行）
+     */
+    @Benchmark
+    public void parseLines(Blackhole blackhole) {
+        for (String line : LINES) {
+            SystemLogDTO dto = service.parseLogLine(line, "INFO");
+            blackhole.consume(dto);
+        }
+    }
+}
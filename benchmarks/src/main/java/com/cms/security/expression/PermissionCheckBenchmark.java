@@ -0,0 +1,90 @@
+package com.cms.security.expression;
+
+import com.cms.security.service.CustomUserDetails;
+import com.cms.security.service.PermissionIndex;
+import com.cms.security.service.PermissionSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @PreAuthorize("hasAuthority(...)") 单次权限检查的开销
+ * 与方法拦截器相同，每次检查都新建求值上下文（含表达式根对象）再对已解析的表达式求值：
+ * defaultRoot 为Spring Security默认实现（首次检查时把授权列表复制成字符串集合），
+ * bitSetRoot 为 {@link PermissionExpressionRoot}（对权限位集合做一次测试）。
+ *
+ * <p>运行：java -jar target/benchmarks.jar PermissionCheckBenchmark
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    @Param({"60"})
+    private int permissions;
+
+    private Authentication authentication;
+
+    private SimpleMethodInvocation invocation;
+
+    private DefaultMethodSecurityExpressionHandler defaultHandler;
+
+    private PermissionExpressionHandler bitSetHandler;
+
+    private Expression expression;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < permissions; i++) {
+            codes.add("module" + (i / 6) + ":action" + (i % 6));
+        }
+        PermissionSet granted = new PermissionIndex(codes).of(codes);
+        CustomUserDetails user = new CustomUserDetails(1L, "admin", 0,
+                new HashSet<>(Arrays.asList("ADMIN", "EDITOR")), granted);
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        invocation = new SimpleMethodInvocation(this, PermissionCheckBenchmark.class.getMethod("bitSetRoot"));
+        defaultHandler = new DefaultMethodSecurityExpressionHandler();
+        bitSetHandler = new PermissionExpressionHandler();
+        expression = defaultHandler.getExpressionParser()
+                .parseExpression("hasAuthority('" + codes.get(codes.size() - 1) + "')");
+    }
+
+    @Benchmark
+    public boolean defaultRoot() {
+        return ExpressionUtils.evaluateAsBoolean(expression,
+                defaultHandler.createEvaluationContext(authentication, invocation));
+    }
+
+    @Benchmark
+    public boolean bitSetRoot() {
+        return ExpressionUtils.evaluateAsBoolean(expression,
+                bitSetHandler.createEvaluationContext(authentication, invocation));
+    }
+}
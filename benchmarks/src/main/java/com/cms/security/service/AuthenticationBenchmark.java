@@ -0,0 +1,111 @@
+package com.cms.security.service;
+
+import com.cms.benchmark.BenchmarkContext;
+import com.cms.benchmark.DatasetGenerator;
+import com.cms.security.revocation.TokenRevocationList;
+import com.cms.security.util.JwtClaims;
+import com.cms.security.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 认证过滤器构建当前用户的开销
+ * statelessAuthentication 为授权版本号最新时的路径（解析token，由声明和角色注册表构建用户）；
+ * cachedAuthentication 为版本号过期或关闭无状态认证时的路径（按用户ID从用户详情缓存加载），
+ * databaseAuthentication 为不使用缓存、每个请求查询用户、角色和权限的原路径；
+ * revocationCheck 为每个请求检查token是否已吊销的开销（1万个已吊销token，被测token未吊销）。
+ * 数据集中的管理员拥有 ADMIN、EDITOR 两个角色，共60个权限。
+ *
+ * <p>运行：java -jar target/benchmarks.jar AuthenticationBenchmark
+ *
+ * @author CMS Team
+ * @since 1.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private BenchmarkContext context;
+
+    private JwtUtil jwtUtil;
+
+    private CustomUserDetailsService userDetailsService;
+
+    private RolePermissionRegistry rolePermissionRegistry;
+
+    private TokenRevocationList tokenRevocationList;
+
+    private String token;
+
+    private String tokenId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start(10, 100);
+        jwtUtil = context.bean(JwtUtil.class);
+        userDetailsService = context.bean(CustomUserDetailsService.class);
+        rolePermissionRegistry = context.bean(RolePermissionRegistry.class);
+        // 注册表在数据集写入之前已加载，重新加载一次
+        rolePermissionRegistry.reload();
+
+        CustomUserDetails admin = (CustomUserDetails) userDetailsService.loadUserByUsername(DatasetGenerator.USERNAME);
+        token = jwtUtil.generateToken(admin.getUsername(), admin.getUserId(), admin.getRoleCodes(), admin.getAuthVersion());
+        tokenId = jwtUtil.parseToken(token).getTokenId();
+
+        tokenRevocationList = context.bean(TokenRevocationList.class);
+        for (int i = 0; i < 10_000; i++) {
+            tokenRevocationList.revoke(jwtUtil.parseToken(jwtUtil.generateToken(admin.getUsername(), admin.getUserId())));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> statelessAuthentication() {
+        JwtClaims claims = jwtUtil.parseToken(token);
+        UserDetails userDetails = new CustomUserDetails(claims.getUserId(), claims.getUsername(), claims.getAuthVersion(),
+                claims.getRoles(), rolePermissionRegistry.resolve(claims.getRoles()));
+        return userDetails.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> cachedAuthentication() {
+        JwtClaims claims = jwtUtil.parseToken(token);
+        UserDetails userDetails = userDetailsService.loadUserById(claims.getUserId());
+        return userDetails.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean revocationCheck() {
+        return tokenRevocationList.isRevoked(tokenId);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> databaseAuthentication() {
+        JwtClaims claims = jwtUtil.parseToken(token);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getUsername());
+        return userDetails.getAuthorities();
+    }
+}